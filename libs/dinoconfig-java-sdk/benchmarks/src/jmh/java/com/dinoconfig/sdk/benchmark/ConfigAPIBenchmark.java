@@ -0,0 +1,110 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.benchmark;
+
+import com.dinoconfig.sdk.DinoConfigSDK;
+import com.dinoconfig.sdk.DinoConfigSDKFactory;
+import com.dinoconfig.sdk.api.ConfigAPI;
+import com.dinoconfig.sdk.api.ConfigKey;
+import com.dinoconfig.sdk.cache.CacheConfig;
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.DinoConfigSDKConfig;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks for {@link ConfigAPI} against a local mock server.
+ *
+ * <p>With {@code cached=false} every operation is a full HTTP round trip plus
+ * JSON mapping; with {@code cached=true} the cache is warmed in setup and the
+ * numbers reflect the in-memory lookup path.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConfigAPIBenchmark {
+
+    @Param({"10", "1000"})
+    public int keyCount;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private MockDinoConfigServer server;
+    private ConfigAPI configAPI;
+    private ConfigKey<Integer> intKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new MockDinoConfigServer(keyCount);
+        server.start();
+
+        DinoConfigSDK sdk = DinoConfigSDKFactory.create(DinoConfigSDKConfig.builder()
+                .apiKey("bench-key")
+                .baseUrl(server.baseUrl())
+                .cache(CacheConfig.builder().enabled(cached).ttl(TimeUnit.HOURS.toMillis(1)).build())
+                .build());
+        configAPI = sdk.getConfigAPI();
+        intKey = ConfigKey.of(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG, Payloads.key(0), Integer.class);
+
+        // Warm the cache (and the connection) before measuring
+        configAPI.get(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG);
+        configAPI.getValue(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG, Payloads.key(0), Integer.class);
+        configAPI.getInt(intKey);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Benchmark
+    public ConfigData get() throws IOException {
+        return configAPI.get(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG);
+    }
+
+    @Benchmark
+    public BenchSettings getAs() throws IOException {
+        return configAPI.getAs(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG, BenchSettings.class);
+    }
+
+    @Benchmark
+    public Integer getValue() throws IOException {
+        return configAPI.getValue(MockDinoConfigServer.BRAND, MockDinoConfigServer.CONFIG, Payloads.key(0), Integer.class);
+    }
+
+    @Benchmark
+    public int getInt() throws IOException {
+        return configAPI.getInt(intKey);
+    }
+
+    /**
+     * Typed model covering a few keys of the benchmark payload.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BenchSettings {
+        public int key0;
+        public String key1;
+        public boolean key2;
+        public double key3;
+    }
+}
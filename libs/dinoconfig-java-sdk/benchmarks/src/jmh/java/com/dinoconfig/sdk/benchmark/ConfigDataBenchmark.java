@@ -0,0 +1,81 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.benchmark;
+
+import com.dinoconfig.sdk.http.HttpClient;
+import com.dinoconfig.sdk.model.ConfigData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ConfigData} value lookups.
+ *
+ * <p>Keys are cycled so that lookups are not trivially hoisted by the JIT.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigDataBenchmark {
+
+    @Param({"10", "1000"})
+    public int keyCount;
+
+    private ConfigData configData;
+    private String[] intKeys;
+    private String[] stringKeys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        HttpClient httpClient = new HttpClient("http://localhost", 10000L);
+        configData = httpClient.readerFor(ConfigData.class)
+                .readValue(Payloads.config(MockDinoConfigServer.CONFIG, keyCount, 1));
+
+        // Payload values cycle through five types; index % 5 == 0 is an int, == 1 a string
+        int slots = Math.max(1, keyCount / 5);
+        intKeys = new String[slots];
+        stringKeys = new String[slots];
+        for (int i = 0; i < slots; i++) {
+            intKeys[i] = Payloads.key(i * 5);
+            stringKeys[i] = Payloads.key(i * 5 + 1);
+        }
+    }
+
+    @Benchmark
+    public Integer getIntValue() {
+        return configData.getValue(intKeys[next()], Integer.class);
+    }
+
+    @Benchmark
+    public String getStringValue() {
+        return configData.getValue(stringKeys[next()], String.class);
+    }
+
+    @Benchmark
+    public Object getMissingValue() {
+        return configData.getValue("missing", Object.class);
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == intKeys.length ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.benchmark;
+
+import com.dinoconfig.sdk.http.HttpClient;
+import com.dinoconfig.sdk.model.ConfigData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JSON mapping of large {@code formData} payloads.
+ *
+ * <p>{@code readConfigData} is the path the SDK takes for a configuration
+ * response; {@code convertValues} is the extra step {@code getAs} performs
+ * from the values map into a model type.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FormDataMappingBenchmark {
+
+    @Param({"100", "10000"})
+    public int keyCount;
+
+    private byte[] body;
+    private ObjectMapper objectMapper;
+    private ObjectReader configReader;
+    private Map<String, Object> values;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        HttpClient httpClient = new HttpClient("http://localhost", 10000L);
+        objectMapper = httpClient.getObjectMapper();
+        configReader = httpClient.readerFor(ConfigData.class);
+        body = Payloads.config(MockDinoConfigServer.CONFIG, keyCount, 1).getBytes(StandardCharsets.UTF_8);
+        values = configReader.<ConfigData>readValue(body).getValues();
+    }
+
+    @Benchmark
+    public ConfigData readConfigData() throws IOException {
+        return configReader.readValue(body);
+    }
+
+    @Benchmark
+    public ConfigAPIBenchmark.BenchSettings convertValues() {
+        return objectMapper.convertValue(values, ConfigAPIBenchmark.BenchSettings.class);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.benchmark;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Local stand-in for the DinoConfig API backed by {@link MockWebServer}.
+ *
+ * <p>Answers the token exchange, {@code /api/sdk/brands/Bench/configs/Settings}
+ * with a configuration of a fixed size, and single-value requests below it.
+ * Response bodies are built once and accepted sockets use {@code TCP_NODELAY},
+ * so the server adds as little noise as possible; without it, MockWebServer's
+ * separate header and body writes hit delayed ACKs and every round trip takes ~40 ms.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+final class MockDinoConfigServer implements AutoCloseable {
+
+    static final String BRAND = "Bench";
+    static final String CONFIG = "Settings";
+
+    private static final String CONFIG_PATH = "/api/sdk/brands/" + BRAND + "/configs/" + CONFIG;
+
+    private final MockWebServer server = new MockWebServer();
+    private final String configBody;
+    private final String valueBody;
+
+    /**
+     * Creates a server whose configuration has {@code keyCount} values.
+     *
+     * @param keyCount Number of entries in {@code formData}
+     */
+    MockDinoConfigServer(int keyCount) {
+        this.configBody = Payloads.config(CONFIG, keyCount, 1);
+        this.valueBody = Payloads.value(0);
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.startsWith("/api/auth/sdk-token/exchange")) {
+                    return json("{\"access_token\":\"bench-token\",\"expires_in\":3600}");
+                } else if (path.equals(CONFIG_PATH)) {
+                    return json(configBody);
+                } else if (path.startsWith(CONFIG_PATH + "/")) {
+                    return json(valueBody);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+    }
+
+    /**
+     * Starts the server on a random local port.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    void start() throws IOException {
+        server.start();
+    }
+
+    /**
+     * Returns the base URL to configure the SDK with.
+     *
+     * @return Base URL without trailing slash
+     */
+    String baseUrl() {
+        return server.url("/").toString().replaceAll("/$", "");
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+
+    /**
+     * Server socket factory whose accepted sockets disable Nagle's algorithm.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = super.accept();
+                    socket.setTcpNoDelay(true);
+                    return socket;
+                }
+            };
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
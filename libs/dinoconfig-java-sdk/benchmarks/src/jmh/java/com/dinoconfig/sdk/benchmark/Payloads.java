@@ -0,0 +1,83 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.benchmark;
+
+/**
+ * Builds configuration payloads shaped like the DinoConfig SDK endpoints.
+ *
+ * <p>Values cycle through the types found in real {@code formData}: integers,
+ * strings, booleans, doubles and small nested objects.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * Returns the key used for the value at {@code index}.
+     *
+     * @param index Zero-based key index
+     * @return The key name
+     */
+    static String key(int index) {
+        return "key" + index;
+    }
+
+    /**
+     * Builds a configuration response with {@code keyCount} values.
+     *
+     * @param name     Configuration name
+     * @param keyCount Number of entries in {@code formData}
+     * @param version  Configuration version
+     * @return The JSON body
+     */
+    static String config(String name, int keyCount, int version) {
+        StringBuilder json = new StringBuilder(64 + keyCount * 48);
+        json.append("{\"name\":\"").append(name).append("\",\"description\":\"Benchmark payload\",\"formData\":{");
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(key(i)).append("\":");
+            appendValue(json, i);
+        }
+        json.append("},\"version\":").append(version).append(",\"keys\":[");
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(key(i)).append('"');
+        }
+        json.append("],\"createdAt\":\"2024-01-01T00:00:00Z\"}");
+        return json.toString();
+    }
+
+    /**
+     * Builds a single-value response wrapping the value at {@code index}.
+     *
+     * @param index Zero-based key index
+     * @return The JSON body
+     */
+    static String value(int index) {
+        StringBuilder json = new StringBuilder("{\"value\":");
+        appendValue(json, index);
+        return json.append('}').toString();
+    }
+
+    private static void appendValue(StringBuilder json, int index) {
+        switch (index % 5) {
+            case 0 -> json.append(index);
+            case 1 -> json.append("\"value-").append(index).append('"');
+            case 2 -> json.append(index % 2 == 0);
+            case 3 -> json.append(index).append(".5");
+            default -> json.append("{\"enabled\":true,\"limit\":").append(index).append('}');
+        }
+    }
+}
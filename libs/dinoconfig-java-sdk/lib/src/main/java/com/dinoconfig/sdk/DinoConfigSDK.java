@@ -7,13 +7,20 @@ package com.dinoconfig.sdk;
 
 import com.dinoconfig.sdk.api.ConfigAPI;
 import com.dinoconfig.sdk.api.DiscoveryAPI;
+import com.dinoconfig.sdk.cache.CacheManager;
 import com.dinoconfig.sdk.http.HttpClient;
+import com.dinoconfig.sdk.http.CircuitBreaker;
+import com.dinoconfig.sdk.http.ConcurrencyLimiter;
+import com.dinoconfig.sdk.http.NetworkStats;
+import com.dinoconfig.sdk.model.ConfigRef;
 import com.dinoconfig.sdk.model.DinoConfigSDKConfig;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main DinoConfig SDK class providing access to the DinoConfig API.
@@ -57,7 +64,7 @@ import java.util.Objects;
  *   <li>Create instance (via factory or constructor)</li>
  *   <li>Configure with API key</li>
  *   <li>Use API methods</li>
- *   <li>No explicit cleanup required</li>
+ *   <li>Close it to stop the SDK's background threads</li>
  * </ol>
  *
  * @author DinoConfig Team
@@ -67,7 +74,7 @@ import java.util.Objects;
  * @see ConfigAPI
  * @see DiscoveryAPI
  */
-public class DinoConfigSDK {
+public class DinoConfigSDK implements AutoCloseable {
 
     /** The HTTP client for making API requests */
     private HttpClient httpClient;
@@ -78,6 +85,12 @@ public class DinoConfigSDK {
     /** The Discovery API instance */
     private DiscoveryAPI discoveryAPI;
 
+    /** The cache shared by the API modules */
+    private CacheManager cacheManager;
+
+    /** Completed once the API key was exchanged for an access token */
+    private CompletableFuture<Void> authentication;
+
     /** Indicates whether the SDK has been configured */
     private volatile boolean configured = false;
 
@@ -104,11 +117,21 @@ public class DinoConfigSDK {
      * <p><b>What happens during configuration:</b>
      * <ol>
      *   <li>HTTP client is initialized with base URL and timeout</li>
+     *   <li>The cache is created from {@link DinoConfigSDKConfig#getCache()}</li>
+     *   <li>API modules (ConfigAPI, DiscoveryAPI) are initialized</li>
+     *   <li>The configured snapshot, if any, is restored into the cache</li>
      *   <li>API key is exchanged for an access token</li>
      *   <li>Authorization headers are configured</li>
-     *   <li>API modules (ConfigAPI, DiscoveryAPI) are initialized</li>
      * </ol>
      *
+     * <p>When a snapshot was restored, the token exchange and the reconciliation
+     * of the restored configurations run in the background, so this method
+     * returns without a network round trip and succeeds even if the API is
+     * unreachable. Transient exchange failures are retried in the background;
+     * if the API rejects the API key, the restored configurations keep being
+     * served, nothing is retried and {@link #getAuthentication()} completes
+     * exceptionally with {@link com.dinoconfig.sdk.http.AuthenticationException}.
+     *
      * <p><b>Example:</b>
      * <pre>{@code
      * DinoConfigSDK sdk = new DinoConfigSDK();
@@ -135,24 +158,38 @@ public class DinoConfigSDK {
         Objects.requireNonNull(config, "Configuration cannot be null");
 
         String apiKey = config.getApiKey();
-        String baseUrl = config.getBaseUrl() != null ? config.getBaseUrl() : "https://api.dinoconfig.com";
-        Long timeout = config.getTimeout() != null ? config.getTimeout() : 10000L;
 
         if (apiKey == null || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key is required");
         }
 
         // Initialize HTTP client
-        this.httpClient = new HttpClient(baseUrl, timeout);
+        this.httpClient = new HttpClient(config);
 
-        // Configure authentication
+        // Initialize cache and API modules
+        this.cacheManager = new CacheManager(config.getCache(), config.getMetricsRecorder());
+        this.configAPI = new ConfigAPI(this.httpClient, this.cacheManager, config.getWatchInterval(),
+                config.getListenerExecutor());
+        this.discoveryAPI = new DiscoveryAPI(this.httpClient);
+
+        // Configure authentication; with a restored snapshot, serve it right away
+        // and authenticate and reconcile in the background
         Map<String, String> headers = new HashMap<>();
         headers.put("X-API-Key", apiKey);
-        this.httpClient.configureAuthorizationHeader(headers);
-
-        // Initialize API modules
-        this.configAPI = new ConfigAPI(this.httpClient);
-        this.discoveryAPI = new DiscoveryAPI(this.httpClient);
+        List<ConfigRef> restored = this.configAPI.restoreSnapshot();
+        if (restored.isEmpty()) {
+            this.httpClient.configureAuthorizationHeader(headers);
+            this.authentication = CompletableFuture.completedFuture(null);
+        } else if (this.cacheManager.isFollowingSnapshot()) {
+            // Restored configurations are kept current by the snapshot writer
+            this.authentication = this.httpClient.configureAuthorizationHeaderAsync(headers);
+        } else {
+            ConfigAPI api = this.configAPI;
+            // Reconcile only once authenticated; during an outage at startup the
+            // exchange is retried with backoff and reconciliation waits for it
+            this.authentication = this.httpClient.configureAuthorizationHeaderAsync(headers);
+            this.authentication.thenRun(() -> api.reconcile(restored));
+        }
 
         this.configured = true;
     }
@@ -230,6 +267,138 @@ public class DinoConfigSDK {
         return discoveryAPI;
     }
 
+    /**
+     * Returns the cache used by the Configuration API.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * CacheManager cache = dinoconfig.getCache();
+     * cache.invalidate("^config:MyBrand:");
+     * System.out.println("Hit rate: " + cache.getStats().getHitRate());
+     * }</pre>
+     *
+     * @return The CacheManager instance
+     * @throws IllegalStateException if the SDK has not been configured yet
+     * @see CacheManager
+     */
+    public CacheManager getCache() {
+        ensureConfigured();
+        return cacheManager;
+    }
+
+    /**
+     * Returns the circuit breaker guarding requests to the DinoConfig API.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * if (dinoconfig.getCircuitBreaker().getState() == CircuitBreaker.State.OPEN) {
+     *     // The API is unhealthy; lookups are served from the cache
+     * }
+     * }</pre>
+     *
+     * @return The circuit breaker
+     * @throws IllegalStateException if the SDK has not been configured yet
+     * @see com.dinoconfig.sdk.http.CircuitBreakerConfig
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        ensureConfigured();
+        return httpClient.getCircuitBreaker();
+    }
+
+    /**
+     * Returns the limiter bounding concurrent requests to the DinoConfig API.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * ConcurrencyLimiter limiter = dinoconfig.getConcurrencyLimiter();
+     * log.info("DinoConfig requests: {}/{} in flight, {} queued",
+     *         limiter.getInFlight(), limiter.getLimit(), limiter.getQueued());
+     * }</pre>
+     *
+     * @return The concurrency limiter
+     * @throws IllegalStateException if the SDK has not been configured yet
+     * @see com.dinoconfig.sdk.http.ConcurrencyLimitConfig
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        ensureConfigured();
+        return httpClient.getConcurrencyLimiter();
+    }
+
+    /**
+     * Returns the network phase timings and connection reuse of the requests
+     * made so far, to tell DNS, connect and TLS time apart from server time.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * NetworkStats stats = dinoconfig.getNetworkStats();
+     * if (stats.getConnectionReuseRatio() < 0.9) {
+     *     // Connections are churning; raise maxIdleConnections or keepAlive
+     * }
+     * }</pre>
+     *
+     * @return Statistics snapshot
+     * @throws IllegalStateException if the SDK has not been configured yet
+     * @see com.dinoconfig.sdk.http.ConnectionConfig
+     */
+    public NetworkStats getNetworkStats() {
+        ensureConfigured();
+        return httpClient.getNetworkStats();
+    }
+
+    /**
+     * Returns the outcome of the API key exchange.
+     *
+     * <p>When {@link #configure(DinoConfigSDKConfig)} restored a snapshot, the
+     * exchange runs in the background and this is how a rejected API key
+     * surfaces; otherwise {@code configure} already threw and the future is
+     * complete.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * dinoconfig.getAuthentication().exceptionally(error -> {
+     *     log.error("DinoConfig rejected the API key; serving the restored snapshot", error);
+     *     return null;
+     * });
+     * }</pre>
+     *
+     * @return Future completed once an access token was obtained, or completed
+     *         exceptionally with {@link com.dinoconfig.sdk.http.AuthenticationException}
+     *         if the API rejected the API key
+     * @throws IllegalStateException if the SDK has not been configured yet
+     */
+    public CompletableFuture<Void> getAuthentication() {
+        ensureConfigured();
+        return authentication.copy();
+    }
+
+    /**
+     * Stops the SDK's background work: configuration watches, background cache
+     * refreshes, snapshot writing and following, token renewal, retry timers
+     * and, unless supplied by the application, the HTTP dispatcher threads.
+     * Configurations waiting to be written to the snapshot are written first.
+     *
+     * <p>Cached configurations stay readable, but requests fail once the SDK
+     * is closed. Closing an SDK that is not configured, or already closed,
+     * has no effect.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * try (DinoConfigSDK dinoconfig = DinoConfigSDKFactory.create("dino_your-api-key")) {
+     *     ConfigAPI configAPI = dinoconfig.getConfigAPI();
+     *     // ...
+     * }
+     * }</pre>
+     */
+    @Override
+    public void close() {
+        if (!configured) {
+            return;
+        }
+        configAPI.close();
+        cacheManager.close();
+        httpClient.close();
+    }
+
     /**
      * Checks if the SDK has been configured.
      *
@@ -5,16 +5,48 @@
  */
 package com.dinoconfig.sdk.api;
 
+import com.dinoconfig.sdk.cache.CacheConfig;
+import com.dinoconfig.sdk.cache.CacheEntry;
+import com.dinoconfig.sdk.cache.CacheManager;
+import com.dinoconfig.sdk.http.RequestRejectedException;
+import com.dinoconfig.sdk.http.ConditionalResponse;
 import com.dinoconfig.sdk.http.HttpClient;
+import com.dinoconfig.sdk.jfr.JsonMappingEvent;
 import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
 import com.dinoconfig.sdk.model.RequestOptions;
+import com.dinoconfig.sdk.watch.ChangeNotifier;
+import com.dinoconfig.sdk.watch.ChangeSubscription;
+import com.dinoconfig.sdk.watch.ConfigChangeListener;
+import com.dinoconfig.sdk.watch.ConfigSnapshot;
+import com.dinoconfig.sdk.watch.ConfigWatcher;
+import com.dinoconfig.sdk.watch.SnapshotListener;
+import com.dinoconfig.sdk.watch.SnapshotPublisher;
+import com.dinoconfig.sdk.watch.ValueChangeListener;
+import com.dinoconfig.sdk.watch.WatchSubscription;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Configuration API client for retrieving configuration values from DinoConfig.
@@ -47,6 +79,53 @@ import java.util.Objects;
  * String theme = configAPI.getValue("MyBrand.AppSettings.theme", String.class);
  * }</pre>
  *
+ * <p><b>Caching:</b> When a {@link CacheManager} is enabled (see
+ * {@link com.dinoconfig.sdk.model.DinoConfigSDKConfig#getCache()}), configurations
+ * and single values are served from memory until their TTL expires. Use
+ * {@link RequestOptions#getCache()} and {@link RequestOptions#getForceRefresh()}
+ * to control caching per request. Expired entries are revalidated with a
+ * conditional request ({@code If-None-Match}); a {@code 304 Not Modified} answer,
+ * or a body whose {@code version} matches the cached configuration, reuses the
+ * cached value without mapping the response. Concurrent identical fetches are
+ * coalesced into a single request whose result is shared by all callers.
+ * With {@link CacheConfig#isBackgroundRefresh()}, loaded configurations are
+ * refreshed ahead of expiry in the background and served stale in the meantime,
+ * so lookups after the first load never wait on the network.
+ *
+ * <p><b>Typed Keys:</b> A {@link ConfigKey} created once, for example with
+ * {@link ConfigKey#ofInt(String)}, is decoded once per configuration version;
+ * {@link #get(ConfigKey)} and the non-boxing {@link #getInt(ConfigKey)},
+ * {@link #getLong(ConfigKey)}, {@link #getBoolean(ConfigKey)} and
+ * {@link #getDouble(ConfigKey)} then read cached values without converting them.
+ *
+ * <p><b>Asynchronous Access:</b> Every lookup has a non-blocking counterpart
+ * ({@code getAsync}, {@code getAsAsync}, {@code getValueAsync}) returning a
+ * {@link CompletableFuture}, for use from event-loop or reactive code.
+ *
+ * <p><b>Batch Access:</b> {@link #getAll(List)} and {@link #getValues(List)} fetch
+ * several configurations or values in one call, with at most
+ * {@link #MAX_BATCH_CONCURRENCY} requests in flight, and return a map keyed by path.
+ *
+ * <p><b>Watching:</b> {@link #watch(String, String, ConfigChangeListener)} pushes
+ * new versions of a configuration to a listener. All watches share a single
+ * background loop that checks versions with conditional requests.
+ * {@link #getSnapshot()} returns an immutable {@link ConfigSnapshot} of every
+ * loaded configuration that is swapped atomically when one changes version;
+ * {@link #addSnapshotListener(SnapshotListener)} reports each swap with the
+ * keys that changed, and {@link #onChange(String, Class, ValueChangeListener)}
+ * calls a listener only when the decoded value of one key changes.
+ *
+ * <p><b>Snapshots:</b> With {@link CacheConfig#getSnapshotStore()}, fetched
+ * configurations are persisted and restored into the cache on startup
+ * ({@link #restoreSnapshot()}), then reconciled in the background.
+ *
+ * <p><b>Rejected Requests:</b> While the SDK's
+ * {@link com.dinoconfig.sdk.http.CircuitBreaker} is open, or the
+ * {@link com.dinoconfig.sdk.http.ConcurrencyLimiter} rejects a request,
+ * lookups of cached configurations and values are answered from the cache,
+ * even if expired, and other lookups fail fast with a
+ * {@link com.dinoconfig.sdk.http.RequestRejectedException}.
+ *
  * <p><b>Error Handling:</b> Methods throw {@link IOException} for network errors
  * and {@link com.dinoconfig.sdk.model.ApiError} for API errors (4xx, 5xx responses).
  *
@@ -63,14 +142,36 @@ public class ConfigAPI {
     /** Base path for SDK API endpoints */
     private static final String API_BASE_PATH = "/api/sdk/brands";
 
+    /** Maximum number of requests a batch call keeps in flight at once */
+    public static final int MAX_BATCH_CONCURRENCY = 8;
+
     /** The HTTP client for making API requests */
     private final HttpClient httpClient;
 
     /** Shared ObjectMapper for JSON conversion */
     private final ObjectMapper objectMapper;
 
+    /** Cache for configurations and single values */
+    private final CacheManager cacheManager;
+
+    /** Readers bound to the response types, resolved once */
+    private final ObjectReader configReader;
+    private final ObjectReader valueReader;
+
+    /** Delay between watch cycles in milliseconds */
+    private final long watchInterval;
+
+    /** Multiplexed watch loop for change listeners, created by the first watch */
+    private ConfigWatcher watcher;
+
+    /** Current snapshot of all loaded configurations */
+    private final SnapshotPublisher snapshots = new SnapshotPublisher();
+
+    /** Per-configuration and per-key change listeners */
+    private final ChangeNotifier changes;
+
     /**
-     * Constructs a new ConfigAPI instance.
+     * Constructs a new ConfigAPI instance with caching disabled.
      *
      * <p><b>Note:</b> This constructor is intended for internal use.
      * Use {@link com.dinoconfig.sdk.DinoConfigSDK#getConfigAPI()} to obtain
@@ -81,8 +182,78 @@ public class ConfigAPI {
      * @throws NullPointerException if {@code httpClient} is {@code null}
      */
     public ConfigAPI(HttpClient httpClient) {
+        this(httpClient, new CacheManager(CacheConfig.disabled()));
+    }
+
+    /**
+     * Constructs a new ConfigAPI instance backed by the given cache.
+     *
+     * <p><b>Note:</b> This constructor is intended for internal use.
+     * Use {@link com.dinoconfig.sdk.DinoConfigSDK#getConfigAPI()} to obtain
+     * a ConfigAPI instance.
+     *
+     * @param httpClient   The HTTP client instance for making API requests.
+     *                     Must not be {@code null}.
+     * @param cacheManager The cache for configurations and values.
+     *                     Must not be {@code null}.
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public ConfigAPI(HttpClient httpClient, CacheManager cacheManager) {
+        this(httpClient, cacheManager, ConfigWatcher.DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Constructs a new ConfigAPI instance backed by the given cache and
+     * checking watched configurations at the given interval.
+     *
+     * <p><b>Note:</b> This constructor is intended for internal use.
+     * Use {@link com.dinoconfig.sdk.DinoConfigSDK#getConfigAPI()} to obtain
+     * a ConfigAPI instance.
+     *
+     * @param httpClient    The HTTP client instance for making API requests.
+     *                      Must not be {@code null}.
+     * @param cacheManager  The cache for configurations and values.
+     *                      Must not be {@code null}.
+     * @param watchInterval Delay between watch cycles in milliseconds, must be positive
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code watchInterval} is not positive
+     */
+    public ConfigAPI(HttpClient httpClient, CacheManager cacheManager, long watchInterval) {
+        this(httpClient, cacheManager, watchInterval, null);
+    }
+
+    /**
+     * Constructs a new ConfigAPI instance backed by the given cache, checking
+     * watched configurations at the given interval and running change
+     * listeners on the given executor.
+     *
+     * <p><b>Note:</b> This constructor is intended for internal use.
+     * Use {@link com.dinoconfig.sdk.DinoConfigSDK#getConfigAPI()} to obtain
+     * a ConfigAPI instance.
+     *
+     * @param httpClient       The HTTP client instance for making API requests.
+     *                         Must not be {@code null}.
+     * @param cacheManager     The cache for configurations and values.
+     *                         Must not be {@code null}.
+     * @param watchInterval    Delay between watch cycles in milliseconds, must be positive
+     * @param listenerExecutor The executor running change listeners, or {@code null}
+     *                         to run them on the SDK's snapshot thread
+     * @throws NullPointerException if {@code httpClient} or {@code cacheManager} is {@code null}
+     * @throws IllegalArgumentException if {@code watchInterval} is not positive
+     */
+    public ConfigAPI(HttpClient httpClient, CacheManager cacheManager, long watchInterval,
+                     Executor listenerExecutor) {
+        if (watchInterval <= 0) {
+            throw new IllegalArgumentException("Watch interval must be positive");
+        }
         this.httpClient = Objects.requireNonNull(httpClient, "HttpClient cannot be null");
+        this.cacheManager = Objects.requireNonNull(cacheManager, "CacheManager cannot be null");
         this.objectMapper = httpClient.getObjectMapper();
+        this.configReader = httpClient.readerFor(ConfigData.class);
+        this.valueReader = httpClient.readerFor(Object.class);
+        this.watchInterval = watchInterval;
+        this.changes = new ChangeNotifier(snapshots, listenerExecutor);
+        this.snapshots.addListener(changes);
     }
 
     // ─────────────────────────────────────────────────────────────────────────────
@@ -121,7 +292,7 @@ public class ConfigAPI {
      *
      * @param brandName  The name of the brand.
      * @param configName The name of the configuration.
-     * @param options    Request options for customizing the request (timeout, retries)
+     * @param options    Request options for customizing the request (timeout, retries, caching)
      * @return The {@link ConfigData} containing all configuration values
      * @throws IOException if a network error occurs
      * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
@@ -129,8 +300,20 @@ public class ConfigAPI {
     public ConfigData get(String brandName, String configName, RequestOptions options) throws IOException {
         validateBrandName(brandName);
         validateConfigName(configName);
-        Object data = httpClient.get(buildConfigUrl(brandName, configName), options);
-        return objectMapper.convertValue(data, ConfigData.class);
+
+        String cacheKey = buildConfigCacheKey(brandName, configName);
+        ConfigData cached = readCachedConfig(cacheKey, options);
+        if (cached != null) {
+            return cached;
+        }
+
+        CacheEntry<ConfigData> stale = staleEntry(cacheKey, options);
+        try {
+            return httpClient.getShared(buildConfigUrl(brandName, configName), etagOf(stale), options,
+                    response -> completeConfig(brandName, configName, cacheKey, response, stale, options));
+        } catch (RequestRejectedException e) {
+            return staleOrThrow(stale, e);
+        }
     }
 
     /**
@@ -212,7 +395,7 @@ public class ConfigAPI {
         Objects.requireNonNull(modelClass, "Model class cannot be null");
         
         ConfigData configData = get(brandName, configName, options);
-        return objectMapper.convertValue(configData.getValues(), modelClass);
+        return toModel(configData, modelClass, brandName, configName);
     }
 
     /**
@@ -289,25 +472,28 @@ public class ConfigAPI {
      * @return The configuration value cast to the specified type
      * @throws IOException if a network error occurs
      */
-    @SuppressWarnings("unchecked")
     public <T> T getValue(String brandName, String configName, String configValueKey, Class<T> valueType, RequestOptions options) throws IOException {
         validateBrandName(brandName);
         validateConfigName(configName);
         validateKeyName(configValueKey);
         Objects.requireNonNull(valueType, "Value type cannot be null");
-        
-        Object data = httpClient.get(buildValueUrl(brandName, configName, configValueKey), options);
-        
-        // Extract value from {value: actualValue} wrapper
-        Object actualValue = data;
-        if (data instanceof Map) {
-            Map<String, Object> map = (Map<String, Object>) data;
-            if (map.containsKey("value")) {
-                actualValue = map.get("value");
-            }
+
+        String cacheKey = buildValueCacheKey(brandName, configName, configValueKey);
+        Object cached = readCachedValue(cacheKey, brandName, configName, configValueKey, options);
+        if (cached != null) {
+            return toValueType(cached, valueType, brandName, configName, configValueKey);
         }
-        
-        return objectMapper.convertValue(actualValue, valueType);
+
+        CacheEntry<Object> stale = staleEntry(cacheKey, options);
+        Object value;
+        try {
+            value = httpClient.getShared(buildValueUrl(brandName, configName, configValueKey), etagOf(stale), options,
+                    response -> completeValue(brandName, configName, configValueKey, cacheKey,
+                            response, stale, options));
+        } catch (RequestRejectedException e) {
+            value = staleOrThrow(stale, e);
+        }
+        return toValueType(value, valueType, brandName, configName, configValueKey);
     }
 
     /**
@@ -377,24 +563,1200 @@ public class ConfigAPI {
     }
 
     // ─────────────────────────────────────────────────────────────────────────────
-    // Private helpers
+    // Typed Keys
     // ─────────────────────────────────────────────────────────────────────────────
 
-    private String buildConfigUrl(String brandName, String configName) {
-        return String.format("%s/%s/configs/%s",
-                API_BASE_PATH,
-                encode(brandName),
-                encode(configName)
-        );
+    /**
+     * Retrieves the value of a typed key.
+     *
+     * <p>The value is read from the key's entire configuration, which is fetched
+     * and cached like {@link #get(String, String)}. The key decodes the value once
+     * per configuration version, so repeated reads of a cached configuration
+     * neither look up nor convert the value again.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * private static final ConfigKey<String> THEME = ConfigKey.ofString("MyBrand.AppSettings.theme");
+     *
+     * String theme = configAPI.get(THEME);
+     * }</pre>
+     *
+     * @param <T> The value type
+     * @param key The key to read. Must not be {@code null}.
+     * @return The value, or {@code null} if the configuration has no such key
+     * @throws IOException if a network error occurs
+     * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
+     * @throws IllegalArgumentException if the value cannot be converted to the key type
+     */
+    public <T> T get(ConfigKey<T> key) throws IOException {
+        return resolve(key).value;
     }
 
-    private String buildValueUrl(String brandName, String configName, String keyName) {
-        return String.format("%s/%s/configs/%s/%s",
-                API_BASE_PATH,
-                encode(brandName),
-                encode(configName),
-                encode(keyName)
-        );
+    /**
+     * Retrieves the value of a typed key without blocking the calling thread.
+     *
+     * @param <T> The value type
+     * @param key The key to read. Must not be {@code null}.
+     * @return A future completing with the value, or {@code null} if the
+     *         configuration has no such key
+     * @see #get(ConfigKey)
+     */
+    public <T> CompletableFuture<T> getAsync(ConfigKey<T> key) {
+        Objects.requireNonNull(key, "Config key cannot be null");
+        ConfigData cached = readCachedConfig(key.configCacheKey, null);
+        if (cached != null) {
+            try {
+                return CompletableFuture.completedFuture(key.resolve(cached, objectMapper).value);
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return getAsync(key.getBrandName(), key.getConfigName())
+                .thenApply(configData -> key.resolve(configData, objectMapper).value);
+    }
+
+    /**
+     * Retrieves an {@code int} value without boxing.
+     *
+     * @param key The key to read. Must not be {@code null}.
+     * @return The value
+     * @throws IOException if a network error occurs
+     * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
+     * @throws NoSuchElementException if the configuration has no such key
+     * @see #get(ConfigKey)
+     */
+    public int getInt(ConfigKey<Integer> key) throws IOException {
+        return (int) require(resolve(key), key).longValue;
+    }
+
+    /**
+     * Retrieves a {@code long} value without boxing.
+     *
+     * @param key The key to read. Must not be {@code null}.
+     * @return The value
+     * @throws IOException if a network error occurs
+     * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
+     * @throws NoSuchElementException if the configuration has no such key
+     * @see #get(ConfigKey)
+     */
+    public long getLong(ConfigKey<Long> key) throws IOException {
+        return require(resolve(key), key).longValue;
+    }
+
+    /**
+     * Retrieves a {@code boolean} value without boxing.
+     *
+     * @param key The key to read. Must not be {@code null}.
+     * @return The value
+     * @throws IOException if a network error occurs
+     * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
+     * @throws NoSuchElementException if the configuration has no such key
+     * @see #get(ConfigKey)
+     */
+    public boolean getBoolean(ConfigKey<Boolean> key) throws IOException {
+        return require(resolve(key), key).booleanValue;
+    }
+
+    /**
+     * Retrieves a {@code double} value without boxing.
+     *
+     * @param key The key to read. Must not be {@code null}.
+     * @return The value
+     * @throws IOException if a network error occurs
+     * @throws com.dinoconfig.sdk.model.ApiError if the API returns an error response
+     * @throws NoSuchElementException if the configuration has no such key
+     * @see #get(ConfigKey)
+     */
+    public double getDouble(ConfigKey<Double> key) throws IOException {
+        return require(resolve(key), key).doubleValue;
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Asynchronous Variants
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Retrieves an entire configuration without blocking the calling thread.
+     *
+     * <p>The request is dispatched asynchronously and retries are scheduled rather
+     * than slept, so this method is safe to call from event-loop threads. Cached
+     * configurations are returned as an already completed future.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * configAPI.getAsync("MyBrand", "AppSettings")
+     *     .thenAccept(config -> System.out.println(config.getValues()));
+     * }</pre>
+     *
+     * @param brandName  The name of the brand containing the configuration.
+     * @param configName The name of the configuration.
+     * @return Future completed with the {@link ConfigData}, or exceptionally with
+     *         {@link IOException} or {@link com.dinoconfig.sdk.model.ApiError}
+     * @throws IllegalArgumentException if any parameter is null or empty
+     */
+    public CompletableFuture<ConfigData> getAsync(String brandName, String configName) {
+        return getAsync(brandName, configName, null);
+    }
+
+    /**
+     * Retrieves an entire configuration asynchronously with custom request options.
+     *
+     * @param brandName  The name of the brand.
+     * @param configName The name of the configuration.
+     * @param options    Request options for customizing the request
+     * @return Future completed with the {@link ConfigData}
+     * @throws IllegalArgumentException if any parameter is null or empty
+     * @see #getAsync(String, String)
+     */
+    public CompletableFuture<ConfigData> getAsync(String brandName, String configName, RequestOptions options) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+
+        String cacheKey = buildConfigCacheKey(brandName, configName);
+        ConfigData cached = readCachedConfig(cacheKey, options);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CacheEntry<ConfigData> stale = staleEntry(cacheKey, options);
+        return staleOnOpen(httpClient.getSharedAsync(buildConfigUrl(brandName, configName), etagOf(stale), options,
+                response -> completeConfig(brandName, configName, cacheKey, response, stale, options)), stale);
+    }
+
+    /**
+     * Retrieves an entire configuration asynchronously using path-based notation.
+     *
+     * @param path The dot-separated path in format "brandName.configName".
+     * @return Future completed with the {@link ConfigData}
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public CompletableFuture<ConfigData> getAsync(String path) {
+        return getAsync(path, (RequestOptions) null);
+    }
+
+    /**
+     * Retrieves an entire configuration asynchronously using path-based notation with custom options.
+     *
+     * @param path    The dot-separated path in format "brandName.configName"
+     * @param options Request options for customizing the request
+     * @return Future completed with the {@link ConfigData}
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public CompletableFuture<ConfigData> getAsync(String path, RequestOptions options) {
+        String[] parts = parseConfigPath(path);
+        return getAsync(parts[0], parts[1], options);
+    }
+
+    /**
+     * Retrieves a configuration asynchronously and deserializes it to a typed model class.
+     *
+     * @param <T>        The type of the model class
+     * @param brandName  The name of the brand containing the configuration.
+     * @param configName The name of the configuration.
+     * @param modelClass The class to deserialize the configuration values into.
+     * @return Future completed with the typed model instance
+     * @throws IllegalArgumentException if any parameter is null or empty
+     */
+    public <T> CompletableFuture<T> getAsAsync(String brandName, String configName, Class<T> modelClass) {
+        return getAsAsync(brandName, configName, modelClass, null);
+    }
+
+    /**
+     * Retrieves a configuration asynchronously as typed model with custom options.
+     *
+     * @param <T>        The type of the model class
+     * @param brandName  The name of the brand.
+     * @param configName The name of the configuration.
+     * @param modelClass The class to deserialize into
+     * @param options    Request options
+     * @return Future completed with the typed model instance
+     */
+    public <T> CompletableFuture<T> getAsAsync(String brandName, String configName, Class<T> modelClass, RequestOptions options) {
+        Objects.requireNonNull(modelClass, "Model class cannot be null");
+        return getAsync(brandName, configName, options)
+                .thenApply(configData -> toModel(configData, modelClass, brandName, configName));
+    }
+
+    /**
+     * Retrieves a configuration asynchronously using path notation and deserializes to typed model.
+     *
+     * @param <T>        The type of the model class
+     * @param path       The dot-separated path in format "brandName.configName".
+     * @param modelClass The class to deserialize into
+     * @return Future completed with the typed model instance
+     */
+    public <T> CompletableFuture<T> getAsAsync(String path, Class<T> modelClass) {
+        return getAsAsync(path, modelClass, null);
+    }
+
+    /**
+     * Retrieves a configuration asynchronously using path notation as typed model with custom options.
+     *
+     * @param <T>        The type of the model class
+     * @param path       The dot-separated path in format "brandName.configName"
+     * @param modelClass The class to deserialize into
+     * @param options    Request options
+     * @return Future completed with the typed model instance
+     */
+    public <T> CompletableFuture<T> getAsAsync(String path, Class<T> modelClass, RequestOptions options) {
+        String[] parts = parseConfigPath(path);
+        return getAsAsync(parts[0], parts[1], modelClass, options);
+    }
+
+    /**
+     * Retrieves a specific configuration value asynchronously with type safety.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * configAPI.getValueAsync("MyBrand", "AppSettings", "maxUsers", Integer.class)
+     *     .thenAccept(maxUsers -> pool.resize(maxUsers));
+     * }</pre>
+     *
+     * @param <T>            The expected type of the value
+     * @param brandName      The name of the brand.
+     * @param configName     The name of the configuration.
+     * @param configValueKey The key of the specific value to retrieve.
+     * @param valueType      The class of the expected type
+     * @return Future completed with the configuration value
+     * @throws IllegalArgumentException if any parameter is null or empty
+     */
+    public <T> CompletableFuture<T> getValueAsync(String brandName, String configName, String configValueKey, Class<T> valueType) {
+        return getValueAsync(brandName, configName, configValueKey, valueType, null);
+    }
+
+    /**
+     * Retrieves a specific configuration value asynchronously with type safety and custom options.
+     *
+     * @param <T>            The expected type of the value
+     * @param brandName      The name of the brand.
+     * @param configName     The name of the configuration.
+     * @param configValueKey The key to retrieve.
+     * @param valueType      The class of the expected type
+     * @param options        Request options
+     * @return Future completed with the configuration value
+     */
+    public <T> CompletableFuture<T> getValueAsync(String brandName, String configName, String configValueKey, Class<T> valueType, RequestOptions options) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+        validateKeyName(configValueKey);
+        Objects.requireNonNull(valueType, "Value type cannot be null");
+
+        String cacheKey = buildValueCacheKey(brandName, configName, configValueKey);
+        Object cached = readCachedValue(cacheKey, brandName, configName, configValueKey, options);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(toValueType(cached, valueType, brandName, configName, configValueKey));
+        }
+
+        CacheEntry<Object> stale = staleEntry(cacheKey, options);
+        return staleOnOpen(httpClient.getSharedAsync(buildValueUrl(brandName, configName, configValueKey), etagOf(stale),
+                        options, response -> completeValue(brandName, configName, configValueKey, cacheKey,
+                                response, stale, options)), stale)
+                .thenApply(value -> toValueType(value, valueType, brandName, configName, configValueKey));
+    }
+
+    /**
+     * Retrieves a specific configuration value asynchronously using path notation.
+     *
+     * @param <T>       The expected type of the value
+     * @param path      The dot-separated path in format "brandName.configName.keyName".
+     * @param valueType The class of the expected type
+     * @return Future completed with the configuration value
+     */
+    public <T> CompletableFuture<T> getValueAsync(String path, Class<T> valueType) {
+        return getValueAsync(path, valueType, null);
+    }
+
+    /**
+     * Retrieves a specific configuration value asynchronously using path notation with options.
+     *
+     * @param <T>       The expected type of the value
+     * @param path      The dot-separated path in format "brandName.configName.keyName"
+     * @param valueType The class of the expected type
+     * @param options   Request options
+     * @return Future completed with the configuration value
+     */
+    public <T> CompletableFuture<T> getValueAsync(String path, Class<T> valueType, RequestOptions options) {
+        String[] parts = parseValuePath(path);
+        return getValueAsync(parts[0], parts[1], parts[2], valueType, options);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Batch Access
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Retrieves several configurations in one call.
+     *
+     * <p>Requests are fanned out in parallel, at most {@link #MAX_BATCH_CONCURRENCY}
+     * at a time, and each goes through the cache like {@link #get(String, String)}.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * Map<String, ConfigData> configs = configAPI.getAll(List.of(
+     *     ConfigRef.of("MyBrand", "AppSettings"),
+     *     ConfigRef.of("OtherBrand", "FeatureFlags")
+     * ));
+     * ConfigData settings = configs.get("MyBrand.AppSettings");
+     * }</pre>
+     *
+     * @param refs The configurations to retrieve. Must not be {@code null}.
+     * @return Configurations keyed by {@code "brandName.configName"}, in request order
+     * @throws IOException if any request fails with a network error
+     * @throws com.dinoconfig.sdk.model.ApiError if any request fails with an API error
+     */
+    public Map<String, ConfigData> getAll(List<ConfigRef> refs) throws IOException {
+        return getAll(refs, null);
+    }
+
+    /**
+     * Retrieves several configurations in one call with custom options.
+     *
+     * @param refs    The configurations to retrieve. Must not be {@code null}.
+     * @param options Request options applied to every request
+     * @return Configurations keyed by {@code "brandName.configName"}, in request order
+     * @throws IOException if any request fails with a network error
+     * @see #getAll(List)
+     */
+    public Map<String, ConfigData> getAll(List<ConfigRef> refs, RequestOptions options) throws IOException {
+        return await(getAllAsync(refs, options));
+    }
+
+    /**
+     * Retrieves several configurations without blocking the calling thread.
+     *
+     * @param refs The configurations to retrieve. Must not be {@code null}.
+     * @return Future completed with configurations keyed by path, or exceptionally
+     *         with the first failure
+     */
+    public CompletableFuture<Map<String, ConfigData>> getAllAsync(List<ConfigRef> refs) {
+        return getAllAsync(refs, null);
+    }
+
+    /**
+     * Retrieves several configurations asynchronously with custom options.
+     *
+     * @param refs    The configurations to retrieve. Must not be {@code null}.
+     * @param options Request options applied to every request
+     * @return Future completed with configurations keyed by path
+     */
+    public CompletableFuture<Map<String, ConfigData>> getAllAsync(List<ConfigRef> refs, RequestOptions options) {
+        Objects.requireNonNull(refs, "Config refs cannot be null");
+        Set<String> paths = new LinkedHashSet<>();
+        List<Supplier<CompletableFuture<Map<String, ConfigData>>>> requests = new ArrayList<>();
+        for (ConfigRef ref : refs) {
+            Objects.requireNonNull(ref, "Config ref cannot be null");
+            String path = ref.getPath();
+            if (paths.add(path)) {
+                requests.add(() -> getAsync(ref.getBrandName(), ref.getConfigName(), options)
+                        .thenApply(configData -> singletonResult(path, configData)));
+            }
+        }
+        return fanOut(paths, requests);
+    }
+
+    /**
+     * Retrieves several values, possibly from different configurations and
+     * brands, in one call.
+     *
+     * <p>When several keys of the same configuration are requested, the
+     * configuration is fetched once and the values are taken from it; single
+     * keys use the value endpoint. Requests are fanned out in parallel, at most
+     * {@link #MAX_BATCH_CONCURRENCY} at a time.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * Map<String, Object> values = configAPI.getValues(List.of(
+     *     "MyBrand.AppSettings.theme",
+     *     "MyBrand.AppSettings.maxItems",
+     *     "OtherBrand.FeatureFlags.darkMode"
+     * ));
+     * Object theme = values.get("MyBrand.AppSettings.theme");
+     * }</pre>
+     *
+     * @param paths Paths in format "brandName.configName.keyName". Must not be {@code null}.
+     * @return Raw values keyed by path, in request order; missing keys map to {@code null}
+     * @throws IOException if any request fails with a network error
+     * @throws IllegalArgumentException if any path format is invalid
+     */
+    public Map<String, Object> getValues(List<String> paths) throws IOException {
+        return getValues(paths, null);
+    }
+
+    /**
+     * Retrieves several values in one call with custom options.
+     *
+     * @param paths   Paths in format "brandName.configName.keyName". Must not be {@code null}.
+     * @param options Request options applied to every request
+     * @return Raw values keyed by path, in request order
+     * @throws IOException if any request fails with a network error
+     * @see #getValues(List)
+     */
+    public Map<String, Object> getValues(List<String> paths, RequestOptions options) throws IOException {
+        return await(getValuesAsync(paths, options));
+    }
+
+    /**
+     * Retrieves several values without blocking the calling thread.
+     *
+     * @param paths Paths in format "brandName.configName.keyName". Must not be {@code null}.
+     * @return Future completed with raw values keyed by path, or exceptionally
+     *         with the first failure
+     * @throws IllegalArgumentException if any path format is invalid
+     */
+    public CompletableFuture<Map<String, Object>> getValuesAsync(List<String> paths) {
+        return getValuesAsync(paths, null);
+    }
+
+    /**
+     * Retrieves several values asynchronously with custom options.
+     *
+     * @param paths   Paths in format "brandName.configName.keyName". Must not be {@code null}.
+     * @param options Request options applied to every request
+     * @return Future completed with raw values keyed by path
+     * @throws IllegalArgumentException if any path format is invalid
+     */
+    public CompletableFuture<Map<String, Object>> getValuesAsync(List<String> paths, RequestOptions options) {
+        Objects.requireNonNull(paths, "Paths cannot be null");
+
+        // Group requested keys by configuration, keeping request order
+        Map<String, List<String[]>> byConfig = new LinkedHashMap<>();
+        Set<String> orderedPaths = new LinkedHashSet<>();
+        for (String path : paths) {
+            String[] parts = parseValuePath(path);
+            validateBrandName(parts[0]);
+            validateConfigName(parts[1]);
+            validateKeyName(parts[2]);
+            if (orderedPaths.add(path)) {
+                byConfig.computeIfAbsent(parts[0] + "." + parts[1], configPath -> new ArrayList<>()).add(parts);
+            }
+        }
+
+        List<Supplier<CompletableFuture<Map<String, Object>>>> requests = new ArrayList<>();
+        for (List<String[]> keys : byConfig.values()) {
+            String[] first = keys.get(0);
+            if (keys.size() == 1) {
+                requests.add(() -> getValueAsync(first[0], first[1], first[2], Object.class, options)
+                        .thenApply(value -> singletonResult(String.join(".", first), value)));
+            } else {
+                requests.add(() -> getAsync(first[0], first[1], options).thenApply(configData -> {
+                    Map<String, Object> values = new HashMap<>();
+                    for (String[] key : keys) {
+                        values.put(String.join(".", key), configData.getValue(key[2]));
+                    }
+                    return values;
+                }));
+            }
+        }
+        return fanOut(orderedPaths, requests);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Watching for Changes
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Watches a configuration and pushes each new version to the listener.
+     *
+     * <p>All watches are multiplexed onto one background loop. Each cycle sends
+     * a single conditional request per watched brand, and only configurations
+     * whose version changed are fetched. The first version seen after
+     * subscribing is the baseline; the listener is called for later versions,
+     * on the SDK's watch thread.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * WatchSubscription subscription = configAPI.watch("MyBrand", "FeatureFlags",
+     *     config -> flags.set(config.getValue("darkMode", Boolean.class)));
+     *
+     * // Later
+     * subscription.cancel();
+     * }</pre>
+     *
+     * @param brandName  The name of the brand. Must not be {@code null} or empty.
+     * @param configName The name of the configuration. Must not be {@code null} or empty.
+     * @param listener   The listener to notify. Must not be {@code null}.
+     * @return Subscription handle used to stop watching
+     * @throws IllegalArgumentException if {@code brandName} or {@code configName} is null or empty
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public WatchSubscription watch(String brandName, String configName, ConfigChangeListener listener) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        return watcher().subscribe(brandName, configName, listener);
+    }
+
+    private synchronized ConfigWatcher watcher() {
+        if (watcher == null) {
+            watcher = new ConfigWatcher(httpClient, this, watchInterval);
+        }
+        return watcher;
+    }
+
+    /**
+     * Watches a configuration using path-based notation.
+     *
+     * @param path     The dot-separated path in format "brandName.configName"
+     * @param listener The listener to notify
+     * @return Subscription handle used to stop watching
+     * @throws IllegalArgumentException if the path format is invalid
+     * @see #watch(String, String, ConfigChangeListener)
+     */
+    public WatchSubscription watch(String path, ConfigChangeListener listener) {
+        String[] parts = parseConfigPath(path);
+        return watch(parts[0], parts[1], listener);
+    }
+
+    /**
+     * Returns the current snapshot of every configuration loaded so far.
+     *
+     * <p>The snapshot is immutable and read without locking. A configuration
+     * loaded with a new version, by a lookup, a background refresh or a watch,
+     * appears in a later snapshot shortly afterwards; the snapshot is built
+     * and swapped in on the SDK's snapshot thread.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * ConfigSnapshot snapshot = configAPI.getSnapshot();
+     * Integer limit = snapshot.getValue("MyBrand", "Limits", "rateLimit", Integer.class);
+     * }</pre>
+     *
+     * @return The current snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshots.getSnapshot();
+    }
+
+    /**
+     * Registers a listener that is called after every snapshot swap with one
+     * {@link com.dinoconfig.sdk.watch.ConfigDiff} per changed configuration.
+     *
+     * <p>Listeners run on the SDK's snapshot thread, in swap order.
+     * Configurations that change close together may be reported in one swap.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * configAPI.addSnapshotListener((snapshot, diffs) -> {
+     *     for (ConfigDiff diff : diffs) {
+     *         log.info("{} v{}: changed {}", diff.getRef().getPath(),
+     *                 diff.getCurrent().getVersion(), diff.getChangedKeys());
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param listener The listener to notify. Must not be {@code null}.
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public void addSnapshotListener(SnapshotListener listener) {
+        snapshots.addListener(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addSnapshotListener(SnapshotListener)}.
+     *
+     * @param listener The listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeSnapshotListener(SnapshotListener listener) {
+        return snapshots.removeListener(listener);
+    }
+
+    /**
+     * Calls the listener whenever the value of a key changes.
+     *
+     * <p>The value is decoded to {@code valueType} from each new version of the
+     * configuration that enters the {@link ConfigSnapshot}, and the listener is
+     * called only if the decoded value differs from the previous one; a version
+     * that leaves the key unchanged, or changes it in a way that decodes to an
+     * equal value, is not reported. The value current when subscribing, or the
+     * first one loaded afterwards, is the baseline.
+     *
+     * <p>Listeners run on the executor configured with
+     * {@link com.dinoconfig.sdk.model.DinoConfigSDKConfig.Builder#listenerExecutor},
+     * by default the SDK's snapshot thread. Changes arriving before a listener
+     * ran are coalesced into one call with the latest value. Changes are picked
+     * up from every load of the configuration, such as lookups,
+     * {@link CacheConfig#isBackgroundRefresh() background refresh} or a
+     * {@link #watch(String, ConfigChangeListener) watch}.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * configAPI.onChange("MyBrand", "Limits", "workerThreads", Integer.class, pool::setCorePoolSize);
+     * }</pre>
+     *
+     * @param brandName  The name of the brand. Must not be {@code null} or empty.
+     * @param configName The name of the configuration. Must not be {@code null} or empty.
+     * @param keyName    The key of the value. Must not be {@code null} or empty.
+     * @param valueType  The class to decode the value to
+     * @param listener   The listener to notify. Must not be {@code null}.
+     * @param <T>        The value type
+     * @return Subscription handle used to stop listening
+     * @throws IllegalArgumentException if any name is null or empty
+     * @throws NullPointerException if {@code valueType} or {@code listener} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ChangeSubscription onChange(String brandName, String configName, String keyName,
+                                           Class<T> valueType, ValueChangeListener<T> listener) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+        validateKeyName(keyName);
+        Objects.requireNonNull(valueType, "Value type cannot be null");
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        return changes.subscribe(ConfigRef.of(brandName, configName), keyName,
+                config -> toValueType(config.getValue(keyName), valueType, brandName, configName, keyName),
+                value -> listener.onChange((T) value));
+    }
+
+    /**
+     * Calls the listener whenever the value of a key changes, using
+     * path-based notation.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * configAPI.onChange("MyBrand.Limits.rateLimit", Integer.class, limiter::setRate);
+     * }</pre>
+     *
+     * @param path      The dot-separated path in format "brandName.configName.keyName"
+     * @param valueType The class to decode the value to
+     * @param listener  The listener to notify
+     * @param <T>       The value type
+     * @return Subscription handle used to stop listening
+     * @throws IllegalArgumentException if the path format is invalid
+     * @see #onChange(String, String, String, Class, ValueChangeListener)
+     */
+    public <T> ChangeSubscription onChange(String path, Class<T> valueType, ValueChangeListener<T> listener) {
+        String[] parts = parseValuePath(path);
+        return onChange(parts[0], parts[1], parts[2], valueType, listener);
+    }
+
+    /**
+     * Calls the listener whenever the value of a typed key changes.
+     *
+     * @param key      The typed key
+     * @param listener The listener to notify
+     * @param <T>      The value type
+     * @return Subscription handle used to stop listening
+     * @throws NullPointerException if any argument is {@code null}
+     * @see #onChange(String, String, String, Class, ValueChangeListener)
+     */
+    public <T> ChangeSubscription onChange(ConfigKey<T> key, ValueChangeListener<T> listener) {
+        Objects.requireNonNull(key, "Config key cannot be null");
+        return onChange(key.getBrandName(), key.getConfigName(), key.getKeyName(), key.getType(), listener);
+    }
+
+    /**
+     * Calls the listener whenever the values of a configuration change.
+     *
+     * <p>Unlike {@link #watch(String, String, ConfigChangeListener)}, this does
+     * not poll for new versions, and a new version whose values are all equal
+     * to the previous ones is not reported. Delivery and coalescing work as for
+     * {@link #onChange(String, String, String, Class, ValueChangeListener)}.
+     *
+     * @param brandName  The name of the brand. Must not be {@code null} or empty.
+     * @param configName The name of the configuration. Must not be {@code null} or empty.
+     * @param listener   The listener to notify. Must not be {@code null}.
+     * @return Subscription handle used to stop listening
+     * @throws IllegalArgumentException if {@code brandName} or {@code configName} is null or empty
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public ChangeSubscription onChange(String brandName, String configName, ConfigChangeListener listener) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        return changes.subscribe(ConfigRef.of(brandName, configName), null,
+                config -> config, value -> listener.onChange((ConfigData) value));
+    }
+
+    /**
+     * Calls the listener whenever the values of a configuration change, using
+     * path-based notation.
+     *
+     * @param path     The dot-separated path in format "brandName.configName"
+     * @param listener The listener to notify
+     * @return Subscription handle used to stop listening
+     * @throws IllegalArgumentException if the path format is invalid
+     * @see #onChange(String, String, ConfigChangeListener)
+     */
+    public ChangeSubscription onChange(String path, ConfigChangeListener listener) {
+        String[] parts = parseConfigPath(path);
+        return onChange(parts[0], parts[1], listener);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Snapshots
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Loads the configurations persisted by the
+     * {@link CacheConfig#getSnapshotStore() snapshot store} into the cache, so
+     * they are served without waiting for the network.
+     *
+     * <p>Configurations already in the cache are left untouched. With background
+     * refresh enabled, restored configurations are registered for refresh like
+     * fetched ones. Call {@link #reconcile(List)} to revalidate them.
+     *
+     * <p>When {@link CacheManager#isFollowingSnapshot() following} a snapshot
+     * written by another process, restored configurations never expire and are
+     * not reconciled; instead the snapshot is checked for changes from then on
+     * and every new version it contains replaces the cached one.
+     *
+     * <p><b>Note:</b> {@link com.dinoconfig.sdk.DinoConfigSDK#configure} calls
+     * this method and reconciles the result automatically.
+     *
+     * @return References of the restored configurations, empty if there is no snapshot
+     */
+    public List<ConfigRef> restoreSnapshot() {
+        Map<ConfigRef, ConfigData> restored = cacheManager.restoreSnapshot();
+        snapshots.publishAll(restored);
+        if (cacheManager.isFollowingSnapshot()) {
+            applySnapshot(restored);
+            cacheManager.followSnapshot(this::applySnapshot);
+            return new ArrayList<>(restored.keySet());
+        }
+
+        List<ConfigRef> refs = new ArrayList<>(restored.size());
+        for (Map.Entry<ConfigRef, ConfigData> entry : restored.entrySet()) {
+            ConfigRef ref = entry.getKey();
+            String cacheKey = buildConfigCacheKey(ref.getBrandName(), ref.getConfigName());
+            if (cacheManager.getEntry(cacheKey) != null) {
+                continue;
+            }
+            cacheManager.set(cacheKey, entry.getValue(), null);
+            cacheManager.scheduleRefresh(cacheKey, null,
+                    () -> getAsync(ref.getBrandName(), ref.getConfigName(), refreshOptions(null)));
+            refs.add(ref);
+        }
+        return refs;
+    }
+
+    /**
+     * Pins the configurations of a followed snapshot whose version differs
+     * from the cached one.
+     */
+    private void applySnapshot(Map<ConfigRef, ConfigData> snapshot) {
+        for (Map.Entry<ConfigRef, ConfigData> entry : snapshot.entrySet()) {
+            ConfigRef ref = entry.getKey();
+            String cacheKey = buildConfigCacheKey(ref.getBrandName(), ref.getConfigName());
+            CacheEntry<ConfigData> cached = cacheManager.getEntry(cacheKey);
+            if (cached == null || cached.getValue().getVersion() != entry.getValue().getVersion()) {
+                cacheManager.pin(cacheKey, entry.getValue());
+                snapshots.publish(ref, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Revalidates configurations against the server without blocking.
+     *
+     * <p>Each configuration is fetched with {@link RequestOptions#getForceRefresh()};
+     * a configuration whose version did not change keeps its cached instance.
+     * Configurations that cannot be fetched keep their cached value.
+     *
+     * @param refs The configurations to revalidate
+     * @return Future completed with the current configurations keyed by path
+     */
+    public CompletableFuture<Map<String, ConfigData>> reconcile(List<ConfigRef> refs) {
+        return getAllAsync(refs, refreshOptions(null));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Lifecycle
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Stops the watch loop and the snapshot thread. Watch subscriptions end
+     * and later calls to {@code watch} fail; the snapshot keeps its last state.
+     *
+     * <p>The HTTP client and the cache are not closed, since this class does
+     * not own them; {@link com.dinoconfig.sdk.DinoConfigSDK#close()} closes
+     * all three.
+     */
+    public void close() {
+        synchronized (this) {
+            if (watcher != null) {
+                watcher.close();
+            }
+        }
+        snapshots.close();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Private helpers
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Runs batch requests with at most {@link #MAX_BATCH_CONCURRENCY} in flight,
+     * merging their partial results into a map ordered like {@code paths}.
+     * Fails with the first error; requests not yet started are skipped.
+     */
+    private static <V> CompletableFuture<Map<String, V>> fanOut(
+            Set<String> paths, List<Supplier<CompletableFuture<Map<String, V>>>> requests) {
+        Map<String, V> merged = new HashMap<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(requests.size());
+
+        Runnable launch = new Runnable() {
+            @Override
+            public void run() {
+                int index = next.getAndIncrement();
+                if (index >= requests.size() || done.isDone()) {
+                    return;
+                }
+                CompletableFuture<Map<String, V>> request;
+                try {
+                    request = requests.get(index).get();
+                } catch (RuntimeException e) {
+                    request = CompletableFuture.failedFuture(e);
+                }
+                request.whenComplete((partial, error) -> {
+                    if (error != null) {
+                        done.completeExceptionally(unwrap(error));
+                        return;
+                    }
+                    synchronized (merged) {
+                        merged.putAll(partial);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        done.complete(null);
+                    } else {
+                        run();
+                    }
+                });
+            }
+        };
+
+        if (requests.isEmpty()) {
+            done.complete(null);
+        }
+        for (int i = 0; i < Math.min(MAX_BATCH_CONCURRENCY, requests.size()); i++) {
+            launch.run();
+        }
+
+        return done.thenApply(ignored -> {
+            Map<String, V> ordered = new LinkedHashMap<>();
+            synchronized (merged) {
+                for (String path : paths) {
+                    ordered.put(path, merged.get(path));
+                }
+            }
+            return ordered;
+        });
+    }
+
+    private static <V> Map<String, V> singletonResult(String path, V value) {
+        Map<String, V> result = new HashMap<>();
+        result.put(path, value);
+        return result;
+    }
+
+    /**
+     * Waits for a batch future, rethrowing its failure as thrown by the
+     * synchronous single-item methods.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Returns a cached configuration if the request may read from the cache.
+     * With background refresh the entry is served even when stale.
+     */
+    private ConfigData readCachedConfig(String cacheKey, RequestOptions options) {
+        return cacheManager.canRead(options) ? cacheManager.getServing(cacheKey) : null;
+    }
+
+    /**
+     * Decodes a typed key from its cached configuration, fetching the
+     * configuration only if it is not cached.
+     */
+    private <T> ConfigKey.Decoded<T> resolve(ConfigKey<T> key) throws IOException {
+        Objects.requireNonNull(key, "Config key cannot be null");
+        ConfigData config = readCachedConfig(key.configCacheKey, null);
+        if (config == null) {
+            config = get(key.getBrandName(), key.getConfigName());
+        }
+        return key.resolve(config, objectMapper);
+    }
+
+    private static <T> ConfigKey.Decoded<T> require(ConfigKey.Decoded<T> decoded, ConfigKey<T> key) {
+        if (decoded.value == null) {
+            throw new NoSuchElementException("No value for " + key.getPath());
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns a fresh cached value, falling back to an already cached entire
+     * configuration, if the request may read from the cache.
+     */
+    private Object readCachedValue(String cacheKey, String brandName, String configName,
+                                   String keyName, RequestOptions options) {
+        if (!cacheManager.canRead(options)) {
+            return null;
+        }
+        Object cached = cacheManager.get(cacheKey);
+        if (cached == null) {
+            ConfigData cachedConfig = cacheManager.getServing(buildConfigCacheKey(brandName, configName));
+            if (cachedConfig != null) {
+                cached = cachedConfig.getValue(keyName);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the possibly expired entry used for conditional revalidation.
+     */
+    private <T> CacheEntry<T> staleEntry(String cacheKey, RequestOptions options) {
+        return cacheManager.isEnabledFor(options) ? cacheManager.getEntry(cacheKey) : null;
+    }
+
+    /**
+     * Answers a request rejected without being sent with the cached,
+     * possibly expired, value.
+     */
+    private static <T> T staleOrThrow(CacheEntry<T> stale, RequestRejectedException e)
+            throws RequestRejectedException {
+        if (stale == null || stale.getValue() == null) {
+            throw e;
+        }
+        return stale.getValue();
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #staleOrThrow(CacheEntry, RequestRejectedException)}.
+     */
+    private static <T> CompletableFuture<T> staleOnOpen(CompletableFuture<T> future, CacheEntry<T> stale) {
+        if (stale == null || stale.getValue() == null) {
+            return future;
+        }
+        return future.exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            return cause instanceof RequestRejectedException
+                    ? CompletableFuture.completedFuture(stale.getValue())
+                    : CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private String etagOf(CacheEntry<?> entry) {
+        return entry != null ? entry.getEtag() : null;
+    }
+
+    /**
+     * Turns a configuration response into {@link ConfigData}, caches it,
+     * records it for the snapshot, registers it for background refresh and
+     * publishes it to the {@link ConfigSnapshot}.
+     */
+    private ConfigData completeConfig(String brandName, String configName, String cacheKey, ConditionalResponse response,
+                                      CacheEntry<ConfigData> stale, RequestOptions options) throws IOException {
+        ConfigData configData;
+        if (response.isNotModified() && stale != null) {
+            configData = stale.getValue();
+        } else {
+            JsonMappingEvent event = JsonMappingEvent.start();
+            configData = readConfigData(response, stale != null ? stale.getValue() : null);
+            if (event != null) {
+                event.report(brandName, configName, null, ConfigData.class, response.getContentLength());
+            }
+        }
+
+        if (configData == null) {
+            return null;
+        }
+        ConfigRef ref = ConfigRef.of(brandName, configName);
+        if (cacheManager.isEnabledFor(options)) {
+            cacheManager.set(cacheKey, configData, options, response.getEtag());
+            cacheManager.recordSnapshot(ref, configData);
+            cacheManager.scheduleRefresh(cacheKey, options,
+                    () -> getAsync(brandName, configName, refreshOptions(options)));
+        }
+        snapshots.publish(ref, configData);
+        return configData;
+    }
+
+    /**
+     * Options for a background refresh: the original request's settings, but
+     * always revalidated against the server.
+     */
+    private static RequestOptions refreshOptions(RequestOptions options) {
+        RequestOptions.Builder builder = RequestOptions.builder().forceRefresh(true);
+        if (options != null) {
+            if (options.getHeaders() != null) {
+                builder.headers(options.getHeaders());
+            }
+            if (options.getTimeout() != null) {
+                builder.timeout(options.getTimeout());
+            }
+            if (options.getRetries() != null) {
+                builder.retries(options.getRetries());
+            }
+            if (options.getCache() != null) {
+                builder.cache(options.getCache());
+            }
+            if (options.getTtl() != null) {
+                builder.ttl(options.getTtl());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Unwraps a single-value response and caches the raw value.
+     */
+    @SuppressWarnings("unchecked")
+    private Object completeValue(String brandName, String configName, String keyName, String cacheKey,
+                                 ConditionalResponse response, CacheEntry<Object> stale,
+                                 RequestOptions options) throws IOException {
+        Object actualValue;
+        if (response.isNotModified() && stale != null) {
+            actualValue = stale.getValue();
+        } else {
+            JsonMappingEvent event = JsonMappingEvent.start();
+            Object data = response.read(valueReader);
+            if (event != null) {
+                event.report(brandName, configName, keyName, Object.class, response.getContentLength());
+            }
+
+            // Extract value from {value: actualValue} wrapper
+            actualValue = data;
+            if (data instanceof Map) {
+                Map<String, Object> map = (Map<String, Object>) data;
+                if (map.containsKey("value")) {
+                    actualValue = map.get("value");
+                }
+            }
+        }
+
+        if (actualValue != null && cacheManager.isEnabledFor(options)) {
+            cacheManager.set(cacheKey, actualValue, options, response.getEtag());
+        }
+        return actualValue;
+    }
+
+    /**
+     * Maps a configuration response body, reusing {@code previous} when the body
+     * carries the same version so the values map is never rebuilt.
+     *
+     * <p>Without a previous value the body is streamed straight into
+     * {@link ConfigData}; otherwise it is buffered once so the version can be
+     * peeked before deciding whether to bind it.
+     */
+    private ConfigData readConfigData(ConditionalResponse response, ConfigData previous) throws IOException {
+        if (previous == null) {
+            return response.read(configReader);
+        }
+        byte[] body = response.getBodyBytes();
+        if (body.length == 0) {
+            return null;
+        }
+        if (readVersion(body) == previous.getVersion()) {
+            return previous;
+        }
+        return configReader.readValue(body);
+    }
+
+    /**
+     * Returns a raw cached or parsed value as the requested type. Scalars that
+     * already have that type are returned as is; containers are always converted
+     * so callers never share the cached instance.
+     */
+    private <T> T toValueType(Object value, Class<T> valueType, String brandName, String configName,
+                              String keyName) {
+        if (value == null) {
+            return null;
+        }
+        if (valueType.isInstance(value) && !(value instanceof Map) && !(value instanceof List)) {
+            return valueType.cast(value);
+        }
+        JsonMappingEvent event = JsonMappingEvent.start();
+        T converted = objectMapper.convertValue(value, valueType);
+        if (event != null) {
+            event.report(brandName, configName, keyName, valueType, -1L);
+        }
+        return converted;
+    }
+
+    /**
+     * Converts the values of a configuration into a typed model.
+     */
+    private <T> T toModel(ConfigData configData, Class<T> modelClass, String brandName, String configName) {
+        JsonMappingEvent event = JsonMappingEvent.start();
+        T model = objectMapper.convertValue(configData.getValues(), modelClass);
+        if (event != null) {
+            event.report(brandName, configName, null, modelClass, -1L);
+        }
+        return model;
+    }
+
+    /**
+     * Streams the top-level {@code version} field out of a configuration body,
+     * skipping nested structures without materializing them.
+     *
+     * @return the version, or -1 if the body has none
+     */
+    private int readVersion(byte[] body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return -1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("version".equals(field) && token == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getIntValue();
+                }
+                parser.skipChildren();
+            }
+            return -1;
+        }
+    }
+
+    private String buildConfigUrl(String brandName, String configName) {
+        return String.format("%s/%s/configs/%s",
+                API_BASE_PATH,
+                encode(brandName),
+                encode(configName)
+        );
+    }
+
+    private String buildValueUrl(String brandName, String configName, String keyName) {
+        return String.format("%s/%s/configs/%s/%s",
+                API_BASE_PATH,
+                encode(brandName),
+                encode(configName),
+                encode(keyName)
+        );
+    }
+
+    static String buildConfigCacheKey(String brandName, String configName) {
+        return "config:" + brandName + ":" + configName;
+    }
+
+    private String buildValueCacheKey(String brandName, String configName, String keyName) {
+        return "config:" + brandName + ":" + configName + ":" + keyName;
     }
 
     private String encode(String value) {
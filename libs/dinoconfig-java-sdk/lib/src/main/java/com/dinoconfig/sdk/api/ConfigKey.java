@@ -0,0 +1,284 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.api;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precompiled, typed handle to a single configuration value.
+ *
+ * <p>A key parses its path once and decodes its value once per configuration
+ * version: as long as the cached {@link ConfigData} is unchanged, a lookup
+ * through {@link ConfigAPI#get(ConfigKey)} or one of the primitive getters
+ * ({@link ConfigAPI#getInt(ConfigKey)}, {@link ConfigAPI#getLong(ConfigKey)},
+ * {@link ConfigAPI#getBoolean(ConfigKey)}, {@link ConfigAPI#getDouble(ConfigKey)})
+ * is a cache read plus a field load, without hashing the key name, converting
+ * or boxing the value.
+ *
+ * <p>Keys are immutable apart from their decoded value and meant to be created
+ * once and kept in a {@code static final} field.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * private static final ConfigKey<Integer> MAX_CONNS = ConfigKey.ofInt("MyBrand.Limits.maxConns");
+ * private static final ConfigKey<Boolean> DARK_MODE = ConfigKey.ofBoolean("MyBrand.AppSettings.darkMode");
+ *
+ * int maxConns = configAPI.getInt(MAX_CONNS);
+ * boolean darkMode = configAPI.getBoolean(DARK_MODE);
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @param <T> The value type
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class ConfigKey<T> {
+
+    private final String brandName;
+    private final String configName;
+    private final String keyName;
+    private final Class<T> type;
+
+    /** Cache key of the configuration holding this value */
+    final String configCacheKey;
+
+    /** Value decoded from the last configuration read through this key */
+    private volatile Decoded<T> decoded;
+
+    private ConfigKey(String brandName, String configName, String keyName, Class<T> type) {
+        this.brandName = brandName;
+        this.configName = configName;
+        this.keyName = keyName;
+        this.type = type;
+        this.configCacheKey = ConfigAPI.buildConfigCacheKey(brandName, configName);
+    }
+
+    /**
+     * Creates a key for a value of the given type.
+     *
+     * @param <T>        The value type
+     * @param brandName  The brand name. Must not be {@code null} or empty.
+     * @param configName The configuration name. Must not be {@code null} or empty.
+     * @param keyName    The key name. Must not be {@code null} or empty.
+     * @param type       The value type. Must not be {@code null}.
+     * @return New key
+     * @throws IllegalArgumentException if any name is null or empty
+     * @throws NullPointerException if {@code type} is {@code null}
+     */
+    public static <T> ConfigKey<T> of(String brandName, String configName, String keyName, Class<T> type) {
+        requireName(brandName, "Brand name");
+        requireName(configName, "Config name");
+        requireName(keyName, "Key name");
+        Objects.requireNonNull(type, "Value type cannot be null");
+        return new ConfigKey<>(brandName, configName, keyName, type);
+    }
+
+    /**
+     * Creates a key for a value of the given type from a path in format
+     * {@code "brandName.configName.keyName"}.
+     *
+     * @param <T>  The value type
+     * @param path The dot-separated path
+     * @param type The value type. Must not be {@code null}.
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static <T> ConfigKey<T> of(String path, Class<T> type) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        String[] parts = path.split("\\.", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value path format '%s'. Expected 'brandName.configName.keyName'", path)
+            );
+        }
+        return of(parts[0], parts[1], parts[2], type);
+    }
+
+    /**
+     * Creates a key for an {@code int} value.
+     *
+     * @param path The path in format {@code "brandName.configName.keyName"}
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigKey<Integer> ofInt(String path) {
+        return of(path, Integer.class);
+    }
+
+    /**
+     * Creates a key for a {@code long} value.
+     *
+     * @param path The path in format {@code "brandName.configName.keyName"}
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigKey<Long> ofLong(String path) {
+        return of(path, Long.class);
+    }
+
+    /**
+     * Creates a key for a {@code boolean} value.
+     *
+     * @param path The path in format {@code "brandName.configName.keyName"}
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigKey<Boolean> ofBoolean(String path) {
+        return of(path, Boolean.class);
+    }
+
+    /**
+     * Creates a key for a {@code double} value.
+     *
+     * @param path The path in format {@code "brandName.configName.keyName"}
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigKey<Double> ofDouble(String path) {
+        return of(path, Double.class);
+    }
+
+    /**
+     * Creates a key for a {@code String} value.
+     *
+     * @param path The path in format {@code "brandName.configName.keyName"}
+     * @return New key
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigKey<String> ofString(String path) {
+        return of(path, String.class);
+    }
+
+    /**
+     * Returns the brand name.
+     *
+     * @return The brand name
+     */
+    public String getBrandName() {
+        return brandName;
+    }
+
+    /**
+     * Returns the configuration name.
+     *
+     * @return The configuration name
+     */
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * Returns the key name within the configuration.
+     *
+     * @return The key name
+     */
+    public String getKeyName() {
+        return keyName;
+    }
+
+    /**
+     * Returns the value type.
+     *
+     * @return The value type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the path of this key.
+     *
+     * @return The path in format {@code "brandName.configName.keyName"}
+     */
+    public String getPath() {
+        return brandName + "." + configName + "." + keyName;
+    }
+
+    /**
+     * Returns the value decoded from {@code config}, decoding it only if
+     * {@code config} is not the instance decoded last.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted to the key type
+     */
+    Decoded<T> resolve(ConfigData config, ObjectMapper objectMapper) {
+        Decoded<T> current = decoded;
+        if (current != null && current.source == config) {
+            return current;
+        }
+        current = new Decoded<>(config, convert(config.getValue(keyName), objectMapper));
+        decoded = current;
+        return current;
+    }
+
+    private T convert(Object raw, ObjectMapper objectMapper) {
+        if (raw == null) {
+            return null;
+        }
+        if (type.isInstance(raw) && !(raw instanceof Map) && !(raw instanceof List)) {
+            return type.cast(raw);
+        }
+        return objectMapper.convertValue(raw, type);
+    }
+
+    private static void requireName(String name, String label) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException(label + " cannot be null or empty");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConfigKey<?> that = (ConfigKey<?>) o;
+        return brandName.equals(that.brandName)
+                && configName.equals(that.configName)
+                && keyName.equals(that.keyName)
+                && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(brandName, configName, keyName, type);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigKey{" +
+                "path='" + getPath() + '\'' +
+                ", type=" + type.getSimpleName() +
+                '}';
+    }
+
+    /**
+     * A value decoded from one configuration instance, with primitive views
+     * computed once so primitive getters never box.
+     */
+    static final class Decoded<T> {
+        final ConfigData source;
+        final T value;
+        final long longValue;
+        final double doubleValue;
+        final boolean booleanValue;
+
+        Decoded(ConfigData source, T value) {
+            this.source = source;
+            this.value = value;
+            this.longValue = value instanceof Number ? ((Number) value).longValue() : 0L;
+            this.doubleValue = value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+            this.booleanValue = value instanceof Boolean && (Boolean) value;
+        }
+    }
+}
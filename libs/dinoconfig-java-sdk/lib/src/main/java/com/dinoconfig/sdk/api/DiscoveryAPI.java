@@ -9,7 +9,6 @@ import com.dinoconfig.sdk.http.HttpClient;
 import com.dinoconfig.sdk.model.*;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -17,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Discovery API client for exploring available brands, configurations, and schemas.
@@ -47,6 +47,9 @@ import java.util.Objects;
  * IntrospectionResult result = discoveryAPI.introspect();
  * }</pre>
  *
+ * <p>Each method also has a non-blocking {@code ...Async} counterpart returning
+ * a {@link CompletableFuture}.
+ *
  * <p><b>Thread Safety:</b> This class is thread-safe and can be used from
  * multiple threads concurrently.
  *
@@ -63,9 +66,6 @@ public class DiscoveryAPI {
     /** The HTTP client for making API requests */
     private final HttpClient httpClient;
 
-    /** Shared ObjectMapper for JSON conversion */
-    private final ObjectMapper objectMapper;
-
     /**
      * Constructs a new DiscoveryAPI instance.
      *
@@ -79,7 +79,6 @@ public class DiscoveryAPI {
      */
     public DiscoveryAPI(HttpClient httpClient) {
         this.httpClient = Objects.requireNonNull(httpClient, "HttpClient cannot be null");
-        this.objectMapper = httpClient.getObjectMapper();
     }
 
     /**
@@ -109,9 +108,7 @@ public class DiscoveryAPI {
      * @throws IOException if a network error occurs
      */
     public List<BrandInfo> listBrands(RequestOptions options) throws IOException {
-        Object data = httpClient.get(API_BASE_PATH + "/brands", options);
-        BrandListResponse response = objectMapper.convertValue(data, BrandListResponse.class);
-        return response.getBrands();
+        return httpClient.get(API_BASE_PATH + "/brands", BrandListResponse.class, options).getBrands();
     }
 
     /**
@@ -145,9 +142,7 @@ public class DiscoveryAPI {
      */
     public List<ConfigInfo> listConfigs(String brandName, RequestOptions options) throws IOException {
         validateBrandName(brandName);
-        Object data = httpClient.get(buildBrandUrl(brandName) + "/configs", options);
-        ConfigListResponse response = objectMapper.convertValue(data, ConfigListResponse.class);
-        return response.getConfigs();
+        return httpClient.get(buildBrandUrl(brandName) + "/configs", ConfigListResponse.class, options).getConfigs();
     }
 
     /**
@@ -184,8 +179,7 @@ public class DiscoveryAPI {
     public ConfigSchema getSchema(String brandName, String configName, RequestOptions options) throws IOException {
         validateBrandName(brandName);
         validateConfigName(configName);
-        Object data = httpClient.get(buildConfigUrl(brandName, configName) + "/schema", options);
-        return objectMapper.convertValue(data, ConfigSchema.class);
+        return httpClient.get(buildConfigUrl(brandName, configName) + "/schema", ConfigSchema.class, options);
     }
 
     /**
@@ -219,8 +213,106 @@ public class DiscoveryAPI {
      * @throws IOException if a network error occurs
      */
     public IntrospectionResult introspect(RequestOptions options) throws IOException {
-        Object data = httpClient.get(API_BASE_PATH + "/introspect", options);
-        return objectMapper.convertValue(data, IntrospectionResult.class);
+        return httpClient.get(API_BASE_PATH + "/introspect", IntrospectionResult.class, options);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Asynchronous Variants
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Lists all brands without blocking the calling thread.
+     *
+     * @return Future completed with a list of {@link BrandInfo} objects, or
+     *         exceptionally with {@link IOException} or {@link ApiError}
+     */
+    public CompletableFuture<List<BrandInfo>> listBrandsAsync() {
+        return listBrandsAsync(null);
+    }
+
+    /**
+     * Lists all brands asynchronously with custom request options.
+     *
+     * @param options Request options for customizing the request
+     * @return Future completed with a list of {@link BrandInfo} objects
+     */
+    public CompletableFuture<List<BrandInfo>> listBrandsAsync(RequestOptions options) {
+        return httpClient.getAsync(API_BASE_PATH + "/brands", BrandListResponse.class, options)
+                .thenApply(BrandListResponse::getBrands);
+    }
+
+    /**
+     * Lists all configurations for a specific brand without blocking the calling thread.
+     *
+     * @param brandName The name of the brand. Must not be {@code null} or empty.
+     * @return Future completed with a list of {@link ConfigInfo} objects
+     * @throws IllegalArgumentException if {@code brandName} is null or empty
+     */
+    public CompletableFuture<List<ConfigInfo>> listConfigsAsync(String brandName) {
+        return listConfigsAsync(brandName, null);
+    }
+
+    /**
+     * Lists all configurations for a specific brand asynchronously with custom options.
+     *
+     * @param brandName The name of the brand.
+     * @param options   Request options
+     * @return Future completed with a list of {@link ConfigInfo} objects
+     */
+    public CompletableFuture<List<ConfigInfo>> listConfigsAsync(String brandName, RequestOptions options) {
+        validateBrandName(brandName);
+        return httpClient.getAsync(buildBrandUrl(brandName) + "/configs", ConfigListResponse.class, options)
+                .thenApply(ConfigListResponse::getConfigs);
+    }
+
+    /**
+     * Gets the schema for a specific configuration without blocking the calling thread.
+     *
+     * @param brandName  The name of the brand.
+     * @param configName The name of the configuration.
+     * @return Future completed with the {@link ConfigSchema}
+     */
+    public CompletableFuture<ConfigSchema> getSchemaAsync(String brandName, String configName) {
+        return getSchemaAsync(brandName, configName, null);
+    }
+
+    /**
+     * Gets the schema asynchronously with custom request options.
+     *
+     * @param brandName  The name of the brand.
+     * @param configName The name of the configuration.
+     * @param options    Request options
+     * @return Future completed with the {@link ConfigSchema}
+     */
+    public CompletableFuture<ConfigSchema> getSchemaAsync(String brandName, String configName, RequestOptions options) {
+        validateBrandName(brandName);
+        validateConfigName(configName);
+        return httpClient.getAsync(buildConfigUrl(brandName, configName) + "/schema", ConfigSchema.class, options);
+    }
+
+    /**
+     * Performs full introspection without blocking the calling thread.
+     *
+     * <p><b>Example:</b>
+     * <pre>{@code
+     * discoveryAPI.introspectAsync()
+     *     .thenAccept(result -> System.out.printf("Company: %s%n", result.getCompany()));
+     * }</pre>
+     *
+     * @return Future completed with the {@link IntrospectionResult}
+     */
+    public CompletableFuture<IntrospectionResult> introspectAsync() {
+        return introspectAsync(null);
+    }
+
+    /**
+     * Performs full introspection asynchronously with custom request options.
+     *
+     * @param options Request options
+     * @return Future completed with the {@link IntrospectionResult}
+     */
+    public CompletableFuture<IntrospectionResult> introspectAsync(RequestOptions options) {
+        return httpClient.getAsync(API_BASE_PATH + "/introspect", IntrospectionResult.class, options);
     }
 
     // ─────────────────────────────────────────────────────────────────────────────
@@ -0,0 +1,389 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import java.util.Objects;
+
+/**
+ * Configuration options for the SDK cache layer.
+ *
+ * <p>Instances are immutable and created through {@link #builder()}.
+ * Caching is disabled by default; individual requests can still opt in
+ * or out through {@link com.dinoconfig.sdk.model.RequestOptions#getCache()}.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * CacheConfig cacheConfig = CacheConfig.builder()
+ *     .enabled(true)
+ *     .ttl(60000L)       // 1 minute
+ *     .maxSize(1000)
+ *     .backgroundRefresh(true) // serve cached data, refresh before expiry
+ *     .build();
+ *
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .cache(cacheConfig)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code enabled}: {@code false}</li>
+ *   <li>{@code ttl}: {@code 60000} milliseconds (1 minute)</li>
+ *   <li>{@code maxSize}: {@code 1000} entries</li>
+ *   <li>{@code backgroundRefresh}: {@code false}</li>
+ *   <li>{@code refreshAheadRatio}: {@code 0.8} (refresh after 80% of the TTL)</li>
+ *   <li>{@code maxRefreshBackoff}: {@code 300000} milliseconds (5 minutes)</li>
+ *   <li>{@code snapshotStore}: none</li>
+ *   <li>{@code snapshotMode}: {@link SnapshotMode#READ_WRITE}</li>
+ *   <li>{@code snapshotPollInterval}: {@code 1000} milliseconds</li>
+ * </ul>
+ *
+ * <p><b>Background Refresh:</b> When enabled, configurations are kept current by
+ * a background scheduler and served stale-while-revalidate: after the first load,
+ * {@code ConfigAPI} answers from memory even past the TTL, while the refresh runs
+ * off the request thread. A failed refresh keeps the last known value and retries
+ * with exponential backoff up to {@code maxRefreshBackoff}.
+ *
+ * <p><b>Snapshots:</b> With a {@link SnapshotStore}, every fetched configuration
+ * version is persisted. On startup the stored configurations are loaded into
+ * the cache and served immediately while they are reconciled with the server
+ * in the background, so the application can start even when the API is
+ * unreachable. A {@link MappedSnapshotStore} can be shared by all JVMs on a
+ * host: one process writes it, the others follow it in
+ * {@link SnapshotMode#READ_ONLY} mode, checking it every
+ * {@code snapshotPollInterval} milliseconds.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CacheManager
+ */
+public final class CacheConfig {
+
+    /** Default time-to-live in milliseconds */
+    public static final long DEFAULT_TTL = 60000L;
+
+    /** Default maximum number of cached entries */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /** Default fraction of the TTL after which a background refresh starts */
+    public static final double DEFAULT_REFRESH_AHEAD_RATIO = 0.8;
+
+    /** Default upper bound for the delay between failed background refreshes */
+    public static final long DEFAULT_MAX_REFRESH_BACKOFF = 300000L;
+
+    /** Default delay between checks of a followed snapshot in milliseconds */
+    public static final long DEFAULT_SNAPSHOT_POLL_INTERVAL = 1000L;
+
+    private final boolean enabled;
+    private final long ttl;
+    private final int maxSize;
+    private final boolean backgroundRefresh;
+    private final double refreshAheadRatio;
+    private final long maxRefreshBackoff;
+    private final SnapshotStore snapshotStore;
+    private final SnapshotMode snapshotMode;
+    private final long snapshotPollInterval;
+
+    private CacheConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.ttl = builder.ttl;
+        this.maxSize = builder.maxSize;
+        this.backgroundRefresh = builder.backgroundRefresh;
+        this.refreshAheadRatio = builder.refreshAheadRatio;
+        this.maxRefreshBackoff = builder.maxRefreshBackoff;
+        this.snapshotStore = builder.snapshotStore;
+        this.snapshotMode = builder.snapshotMode;
+        this.snapshotPollInterval = builder.snapshotPollInterval;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with caching disabled.
+     *
+     * @return Disabled cache configuration
+     */
+    public static CacheConfig disabled() {
+        return builder().build();
+    }
+
+    /**
+     * Returns whether caching is enabled by default for all requests.
+     *
+     * @return true if caching is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the default time-to-live for cached entries.
+     *
+     * @return TTL in milliseconds
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Returns the maximum number of entries held in memory.
+     *
+     * @return Maximum cache size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether cached configurations are refreshed in the background
+     * and served stale while being revalidated.
+     *
+     * @return true if background refresh is enabled
+     */
+    public boolean isBackgroundRefresh() {
+        return backgroundRefresh;
+    }
+
+    /**
+     * Returns the fraction of an entry's TTL after which it is refreshed.
+     *
+     * @return Ratio in the range (0, 1]
+     */
+    public double getRefreshAheadRatio() {
+        return refreshAheadRatio;
+    }
+
+    /**
+     * Returns the maximum delay between retries of a failing background refresh.
+     *
+     * @return Maximum backoff in milliseconds
+     */
+    public long getMaxRefreshBackoff() {
+        return maxRefreshBackoff;
+    }
+
+    /**
+     * Returns the store that persists fetched configurations across restarts.
+     *
+     * @return The snapshot store, or {@code null} if snapshots are disabled
+     */
+    public SnapshotStore getSnapshotStore() {
+        return snapshotStore;
+    }
+
+    /**
+     * Returns whether this instance writes the snapshot or follows it.
+     *
+     * @return The snapshot mode
+     */
+    public SnapshotMode getSnapshotMode() {
+        return snapshotMode;
+    }
+
+    /**
+     * Returns the delay between checks for changes of a followed snapshot.
+     *
+     * @return Poll interval in milliseconds
+     */
+    public long getSnapshotPollInterval() {
+        return snapshotPollInterval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CacheConfig that = (CacheConfig) o;
+        return enabled == that.enabled
+                && ttl == that.ttl
+                && maxSize == that.maxSize
+                && backgroundRefresh == that.backgroundRefresh
+                && Double.compare(refreshAheadRatio, that.refreshAheadRatio) == 0
+                && maxRefreshBackoff == that.maxRefreshBackoff
+                && Objects.equals(snapshotStore, that.snapshotStore)
+                && snapshotMode == that.snapshotMode
+                && snapshotPollInterval == that.snapshotPollInterval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, ttl, maxSize, backgroundRefresh, refreshAheadRatio, maxRefreshBackoff, snapshotStore,
+                snapshotMode, snapshotPollInterval);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheConfig{" +
+                "enabled=" + enabled +
+                ", ttl=" + ttl +
+                ", maxSize=" + maxSize +
+                ", backgroundRefresh=" + backgroundRefresh +
+                ", refreshAheadRatio=" + refreshAheadRatio +
+                ", maxRefreshBackoff=" + maxRefreshBackoff +
+                ", snapshotStore=" + snapshotStore +
+                ", snapshotMode=" + snapshotMode +
+                ", snapshotPollInterval=" + snapshotPollInterval +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating CacheConfig instances.
+     */
+    public static final class Builder {
+        private boolean enabled = false;
+        private long ttl = DEFAULT_TTL;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private boolean backgroundRefresh = false;
+        private double refreshAheadRatio = DEFAULT_REFRESH_AHEAD_RATIO;
+        private long maxRefreshBackoff = DEFAULT_MAX_REFRESH_BACKOFF;
+        private SnapshotStore snapshotStore;
+        private SnapshotMode snapshotMode = SnapshotMode.READ_WRITE;
+        private long snapshotPollInterval = DEFAULT_SNAPSHOT_POLL_INTERVAL;
+
+        private Builder() {}
+
+        /**
+         * Sets whether caching is enabled by default.
+         *
+         * @param enabled true to cache responses unless a request opts out
+         * @return This builder
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the default time-to-live for cached entries.
+         *
+         * @param ttl TTL in milliseconds, must be positive
+         * @return This builder
+         */
+        public Builder ttl(long ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached entries.
+         *
+         * @param maxSize Maximum number of entries, must be positive
+         * @return This builder
+         */
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets whether configurations are refreshed in the background and
+         * served stale while being revalidated.
+         *
+         * @param backgroundRefresh true to refresh cached configurations ahead of expiry
+         * @return This builder
+         */
+        public Builder backgroundRefresh(boolean backgroundRefresh) {
+            this.backgroundRefresh = backgroundRefresh;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of an entry's TTL after which it is refreshed.
+         *
+         * @param refreshAheadRatio Ratio greater than 0 and at most 1
+         * @return This builder
+         */
+        public Builder refreshAheadRatio(double refreshAheadRatio) {
+            this.refreshAheadRatio = refreshAheadRatio;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between retries of a failing background refresh.
+         *
+         * @param maxRefreshBackoff Maximum backoff in milliseconds, must be positive
+         * @return This builder
+         */
+        public Builder maxRefreshBackoff(long maxRefreshBackoff) {
+            this.maxRefreshBackoff = maxRefreshBackoff;
+            return this;
+        }
+
+        /**
+         * Sets the store that persists fetched configurations for startup.
+         * Snapshots are only restored when caching is enabled.
+         *
+         * @param snapshotStore The snapshot store, or {@code null} to disable snapshots
+         * @return This builder
+         */
+        public Builder snapshotStore(SnapshotStore snapshotStore) {
+            this.snapshotStore = snapshotStore;
+            return this;
+        }
+
+        /**
+         * Sets whether this instance writes the snapshot or follows a snapshot
+         * written by another process.
+         *
+         * @param snapshotMode The snapshot mode. Must not be {@code null}.
+         * @return This builder
+         */
+        public Builder snapshotMode(SnapshotMode snapshotMode) {
+            this.snapshotMode = Objects.requireNonNull(snapshotMode, "Snapshot mode cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the delay between checks for changes of a followed snapshot.
+         *
+         * @param snapshotPollInterval Poll interval in milliseconds, must be positive
+         * @return This builder
+         */
+        public Builder snapshotPollInterval(long snapshotPollInterval) {
+            this.snapshotPollInterval = snapshotPollInterval;
+            return this;
+        }
+
+        /**
+         * Builds the CacheConfig instance.
+         *
+         * @return New CacheConfig instance
+         * @throws IllegalArgumentException if ttl, maxSize, maxRefreshBackoff or
+         *         snapshotPollInterval is not positive, or refreshAheadRatio is outside (0, 1]
+         */
+        public CacheConfig build() {
+            if (ttl <= 0) {
+                throw new IllegalArgumentException("Cache TTL must be positive");
+            }
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Cache max size must be positive");
+            }
+            if (!(refreshAheadRatio > 0 && refreshAheadRatio <= 1)) {
+                throw new IllegalArgumentException("Refresh ahead ratio must be in (0, 1]");
+            }
+            if (maxRefreshBackoff <= 0) {
+                throw new IllegalArgumentException("Max refresh backoff must be positive");
+            }
+            if (snapshotPollInterval <= 0) {
+                throw new IllegalArgumentException("Snapshot poll interval must be positive");
+            }
+            return new CacheConfig(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+/**
+ * An immutable cached entry with expiry metadata.
+ *
+ * @param <T> The type of the cached value
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class CacheEntry<T> {
+
+    private final T value;
+    private final long timestamp;
+    private final long expiresAt;
+    private final String etag;
+
+    /**
+     * Creates a new cache entry.
+     *
+     * @param value     The cached value
+     * @param timestamp Creation time in epoch milliseconds
+     * @param expiresAt Expiry time in epoch milliseconds
+     */
+    public CacheEntry(T value, long timestamp, long expiresAt) {
+        this(value, timestamp, expiresAt, null);
+    }
+
+    /**
+     * Creates a new cache entry with an HTTP entity tag.
+     *
+     * @param value     The cached value
+     * @param timestamp Creation time in epoch milliseconds
+     * @param expiresAt Expiry time in epoch milliseconds
+     * @param etag      Entity tag of the response the value came from, or {@code null}
+     */
+    public CacheEntry(T value, long timestamp, long expiresAt, String etag) {
+        this.value = value;
+        this.timestamp = timestamp;
+        this.expiresAt = expiresAt;
+        this.etag = etag;
+    }
+
+    /**
+     * Returns the cached value.
+     *
+     * @return The cached value
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the time the entry was created.
+     *
+     * @return Creation time in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the time the entry expires.
+     *
+     * @return Expiry time in epoch milliseconds
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Returns the entity tag used to revalidate this entry.
+     *
+     * @return The entity tag, or {@code null} if none was recorded
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Checks whether the entry has expired.
+     *
+     * @param now Current time in epoch milliseconds
+     * @return true if the entry is past its expiry time
+     */
+    public boolean isExpired(long now) {
+        return now > expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheEntry{" +
+                "timestamp=" + timestamp +
+                ", expiresAt=" + expiresAt +
+                ", etag='" + etag + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.metrics.MetricsRecorder;
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import com.dinoconfig.sdk.model.RequestOptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache manager used by the SDK API classes.
+ *
+ * <p>Wraps a {@link MemoryCache} and decides, per request, whether cached data
+ * may be read or written based on {@link CacheConfig#isEnabled()} and the
+ * {@link RequestOptions#getCache()} and {@link RequestOptions#getForceRefresh()} flags.
+ * With {@link CacheConfig#isBackgroundRefresh()} it also owns the
+ * {@link RefreshScheduler} that keeps registered entries current, and with
+ * {@link CacheConfig#getSnapshotStore()} it persists fetched configurations.
+ *
+ * <p><b>Usage:</b> Access this class through {@link com.dinoconfig.sdk.DinoConfigSDK#getCache()}.
+ *
+ * <pre>{@code
+ * CacheManager cache = sdk.getCache();
+ *
+ * // Drop everything cached for a brand
+ * cache.invalidate("^config:MyBrand:");
+ *
+ * // Inspect effectiveness
+ * CacheStats stats = cache.getStats();
+ * System.out.printf("Hit rate: %.2f%n", stats.getHitRate());
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CacheConfig
+ */
+public class CacheManager implements AutoCloseable {
+
+    private final CacheConfig config;
+    private final MemoryCache memoryCache;
+    private final RefreshScheduler refreshScheduler;
+    private final SnapshotRecorder snapshotRecorder;
+
+    /**
+     * Creates a new cache manager.
+     *
+     * @param config The cache configuration. Must not be {@code null}.
+     * @throws NullPointerException if {@code config} is {@code null}
+     */
+    public CacheManager(CacheConfig config) {
+        this(config, MetricsRecorder.noop());
+    }
+
+    /**
+     * Creates a new cache manager reporting cache hits and misses.
+     *
+     * @param config  The cache configuration. Must not be {@code null}.
+     * @param metrics Receives a measurement for every cache hit and miss
+     * @throws NullPointerException if {@code config} or {@code metrics} is {@code null}
+     */
+    public CacheManager(CacheConfig config, MetricsRecorder metrics) {
+        this.config = Objects.requireNonNull(config, "CacheConfig cannot be null");
+        this.memoryCache = new MemoryCache(config.getTtl(), config.getMaxSize(),
+                Objects.requireNonNull(metrics, "MetricsRecorder cannot be null"));
+        this.refreshScheduler = config.isBackgroundRefresh()
+                ? new RefreshScheduler(config.getRefreshAheadRatio(), config.getMaxRefreshBackoff())
+                : null;
+        this.snapshotRecorder = config.getSnapshotStore() != null
+                ? new SnapshotRecorder(config.getSnapshotStore(), config.getSnapshotMode())
+                : null;
+    }
+
+    /**
+     * Returns the cache configuration.
+     *
+     * @return The cache configuration
+     */
+    public CacheConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Determines whether a request may use the cache at all.
+     *
+     * <p>{@link RequestOptions#getCache()} overrides {@link CacheConfig#isEnabled()}
+     * when set.
+     *
+     * @param options Request options, may be {@code null}
+     * @return true if responses for this request should be cached
+     */
+    public boolean isEnabledFor(RequestOptions options) {
+        if (options != null && options.getCache() != null) {
+            return options.getCache();
+        }
+        return config.isEnabled();
+    }
+
+    /**
+     * Determines whether a request may be served from the cache.
+     *
+     * <p>Returns false when caching is disabled for the request or when
+     * {@link RequestOptions#getForceRefresh()} is set.
+     *
+     * @param options Request options, may be {@code null}
+     * @return true if a cached value may be returned
+     */
+    public boolean canRead(RequestOptions options) {
+        if (options != null && Boolean.TRUE.equals(options.getForceRefresh())) {
+            return false;
+        }
+        return isEnabledFor(options);
+    }
+
+    /**
+     * Gets a value from the cache.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The cached value, or {@code null} if absent or expired
+     */
+    public <T> T get(String key) {
+        return memoryCache.get(key);
+    }
+
+    /**
+     * Gets a value for a stale-while-revalidate read.
+     *
+     * <p>With background refresh enabled, an expired value is still returned and
+     * an immediate refresh of the key is requested; otherwise this behaves like
+     * {@link #get(String)}.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The cached value, or {@code null} if none is available
+     */
+    public <T> T getServing(String key) {
+        if (refreshScheduler == null) {
+            return memoryCache.get(key);
+        }
+        CacheEntry<T> entry = memoryCache.getEntry(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            refreshScheduler.refreshNow(key);
+        }
+        return memoryCache.getStale(key);
+    }
+
+    /**
+     * Gets the raw entry for a key, including expired entries awaiting revalidation.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The entry, or {@code null} if absent or evicted
+     */
+    public <T> CacheEntry<T> getEntry(String key) {
+        return memoryCache.getEntry(key);
+    }
+
+    /**
+     * Stores a value, using the request TTL if one is set.
+     *
+     * @param key     Cache key
+     * @param value   Value to cache
+     * @param options Request options, may be {@code null}
+     */
+    public void set(String key, Object value, RequestOptions options) {
+        set(key, value, options, null);
+    }
+
+    /**
+     * Stores a value with the entity tag of the response it came from.
+     *
+     * @param key     Cache key
+     * @param value   Value to cache
+     * @param options Request options, may be {@code null}
+     * @param etag    Entity tag for conditional revalidation, or {@code null}
+     */
+    public void set(String key, Object value, RequestOptions options, String etag) {
+        memoryCache.set(key, value, ttlFor(options), etag);
+    }
+
+    /**
+     * Returns whether cached entries are refreshed in the background.
+     *
+     * @return true if {@link CacheConfig#isBackgroundRefresh()} is set
+     */
+    public boolean isBackgroundRefresh() {
+        return refreshScheduler != null;
+    }
+
+    /**
+     * Keeps a key current by running {@code refresh} ahead of its expiry.
+     *
+     * <p>Does nothing unless background refresh is enabled or if the key is
+     * already registered. The refresh is expected to store its result through
+     * {@link #set(String, Object, RequestOptions, String)}.
+     *
+     * @param key     Cache key
+     * @param options Request options the entry was cached with, may be {@code null}
+     * @param refresh Starts a refresh of the entry
+     */
+    public void scheduleRefresh(String key, RequestOptions options, Supplier<CompletableFuture<?>> refresh) {
+        if (refreshScheduler != null) {
+            refreshScheduler.register(key, ttlFor(options), refresh);
+        }
+    }
+
+    /**
+     * Loads the persisted snapshot.
+     *
+     * <p>Returns an empty map when no snapshot store is configured, caching is
+     * disabled, or the snapshot is missing or unreadable.
+     *
+     * @return The stored configurations
+     */
+    public Map<ConfigRef, ConfigData> restoreSnapshot() {
+        if (snapshotRecorder == null || !config.isEnabled()) {
+            return Collections.emptyMap();
+        }
+        return snapshotRecorder.restore();
+    }
+
+    /**
+     * Records a fetched configuration for the persisted snapshot. New versions
+     * are written shortly after in the background.
+     *
+     * @param ref  The configuration reference
+     * @param data The fetched configuration
+     */
+    public void recordSnapshot(ConfigRef ref, ConfigData data) {
+        if (snapshotRecorder != null) {
+            snapshotRecorder.record(ref, data);
+        }
+    }
+
+    /**
+     * Returns whether configurations are taken from a snapshot written by
+     * another process.
+     *
+     * @return true if a snapshot store is configured in {@link SnapshotMode#READ_ONLY} mode
+     */
+    public boolean isFollowingSnapshot() {
+        return snapshotRecorder != null && config.getSnapshotMode() == SnapshotMode.READ_ONLY;
+    }
+
+    /**
+     * Checks the followed snapshot every {@link CacheConfig#getSnapshotPollInterval()}
+     * milliseconds and passes each new snapshot to {@code onChange}.
+     *
+     * <p>Does nothing unless {@link #isFollowingSnapshot()}.
+     *
+     * @param onChange Receives the configurations of each new snapshot
+     */
+    public void followSnapshot(Consumer<Map<ConfigRef, ConfigData>> onChange) {
+        if (isFollowingSnapshot()) {
+            snapshotRecorder.follow(config.getSnapshotPollInterval(), onChange);
+        }
+    }
+
+    /**
+     * Stores a value that never expires, for configurations owned by a
+     * followed snapshot. It is replaced by the next snapshot or removed by
+     * {@link #delete}, {@link #clear} or {@link #invalidate}.
+     *
+     * @param key   Cache key
+     * @param value Value to cache
+     */
+    public void pin(String key, Object value) {
+        memoryCache.set(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Writes the snapshot immediately instead of waiting for the pending
+     * background write, e.g. before the application shuts down.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void flushSnapshot() throws IOException {
+        if (snapshotRecorder != null) {
+            snapshotRecorder.flush();
+        }
+    }
+
+    /**
+     * Removes a value from the cache and stops its background refresh.
+     *
+     * @param key Cache key
+     */
+    public void delete(String key) {
+        if (refreshScheduler != null) {
+            refreshScheduler.cancel(key);
+        }
+        memoryCache.delete(key);
+    }
+
+    /**
+     * Removes all entries, stops their background refreshes and resets statistics.
+     */
+    public void clear() {
+        if (refreshScheduler != null) {
+            refreshScheduler.cancelAll();
+        }
+        memoryCache.clear();
+    }
+
+    /**
+     * Removes all entries whose key matches the given regular expression
+     * and stops their background refreshes.
+     *
+     * <p>Keys have the form {@code config:<brand>:<config>} for entire
+     * configurations and {@code config:<brand>:<config>:<key>} for single values.
+     *
+     * @param pattern Regular expression matched against cache keys
+     */
+    public void invalidate(String pattern) {
+        if (refreshScheduler != null) {
+            refreshScheduler.cancelMatching(pattern);
+        }
+        memoryCache.invalidate(pattern);
+    }
+
+    /**
+     * Checks whether a non-expired entry exists for the key.
+     *
+     * @param key Cache key
+     * @return true if a valid entry exists
+     */
+    public boolean has(String key) {
+        return memoryCache.has(key);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return Current statistics
+     */
+    public CacheStats getStats() {
+        return memoryCache.getStats();
+    }
+
+    /**
+     * Stops background refreshes and the snapshot threads, first writing
+     * configurations not yet in the snapshot. Cached entries stay readable.
+     */
+    @Override
+    public void close() {
+        if (refreshScheduler != null) {
+            refreshScheduler.close();
+        }
+        if (snapshotRecorder != null) {
+            snapshotRecorder.close();
+        }
+    }
+
+    private long ttlFor(RequestOptions options) {
+        return options != null && options.getTtl() != null ? options.getTtl() : config.getTtl();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+/**
+ * Immutable point-in-time cache statistics.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CacheManager#getStats()
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final int size;
+
+    /**
+     * Creates a new statistics snapshot.
+     *
+     * @param hits   Number of cache hits
+     * @param misses Number of cache misses
+     * @param size   Number of entries currently in the cache
+     */
+    public CacheStats(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of cache misses.
+     *
+     * @return Miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     *
+     * @return Entry count
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the cache hit rate.
+     *
+     * @return Hit rate between 0 and 1, or 0 if no lookups were made
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", size=" + size +
+                ", hitRate=" + getHitRate() +
+                '}';
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link SnapshotStore} keeping the snapshot as a JSON file.
+ *
+ * <p>The snapshot is written to a temporary file next to the target and then
+ * moved into place, so the file always holds either the previous or the new
+ * snapshot. Parent directories are created on the first save.
+ *
+ * <p>Every save stores a generation one higher than the generation of the
+ * snapshot it replaces, as the first field of the file, so the generation
+ * can be read without parsing the configurations and, unlike the file
+ * modification time, never repeats or goes backwards.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class FileSnapshotStore implements SnapshotStore {
+
+    /** Version of the file layout written by this class */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final Path path;
+
+    /** Generation of the last snapshot saved through this store */
+    private long savedGeneration;
+
+    /**
+     * Creates a store backed by the given file.
+     *
+     * @param path Location of the snapshot file. Must not be {@code null}.
+     * @throws NullPointerException if {@code path} is {@code null}
+     */
+    public FileSnapshotStore(Path path) {
+        this.path = Objects.requireNonNull(path, "Snapshot path cannot be null").toAbsolutePath();
+    }
+
+    /**
+     * Returns the location of the snapshot file.
+     *
+     * @return The snapshot file path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads the generation stored at the start of the file; a snapshot
+     * written without one has generation {@code 0}.
+     */
+    @Override
+    public long getGeneration() throws IOException {
+        try (InputStream in = Files.newInputStream(path);
+             JsonParser parser = MAPPER.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Malformed snapshot file " + path);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if ("generation".equals(parser.currentName())) {
+                    parser.nextToken();
+                    return parser.getLongValue();
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return 0L;
+        } catch (NoSuchFileException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException if the file cannot be read, is malformed or has an
+     *         unsupported format version
+     */
+    @Override
+    public Map<ConfigRef, ConfigData> load() throws IOException {
+        SnapshotFile file;
+        try (InputStream in = Files.newInputStream(path)) {
+            file = MAPPER.readValue(in, SnapshotFile.class);
+        } catch (NoSuchFileException e) {
+            return Collections.emptyMap();
+        }
+        if (file.formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + file.formatVersion + " in " + path);
+        }
+
+        Map<ConfigRef, ConfigData> configs = new LinkedHashMap<>();
+        if (file.configs != null) {
+            for (SnapshotEntry entry : file.configs) {
+                configs.put(ConfigRef.of(entry.brand, entry.config), entry.toConfigData());
+            }
+        }
+        return configs;
+    }
+
+    @Override
+    public synchronized void save(Map<ConfigRef, ConfigData> configs) throws IOException {
+        long current;
+        try {
+            current = getGeneration();
+        } catch (IOException e) {
+            // A malformed file is replaced like a missing one
+            current = -1L;
+        }
+        SnapshotFile file = new SnapshotFile();
+        file.generation = Math.max(current, savedGeneration) + 1;
+        file.formatVersion = FORMAT_VERSION;
+        file.savedAt = Instant.now();
+        file.configs = new ArrayList<>(configs.size());
+        for (Map.Entry<ConfigRef, ConfigData> entry : configs.entrySet()) {
+            file.configs.add(SnapshotEntry.of(entry.getKey(), entry.getValue()));
+        }
+
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                MAPPER.writeValue(out, file);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            savedGeneration = file.generation;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return path.equals(((FileSnapshotStore) o).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FileSnapshotStore{" +
+                "path=" + path +
+                '}';
+    }
+
+    /**
+     * Root of the snapshot file.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonPropertyOrder({"generation", "formatVersion", "savedAt", "configs"})
+    private static class SnapshotFile {
+        @JsonProperty("generation")
+        private long generation;
+
+        @JsonProperty("formatVersion")
+        private int formatVersion;
+
+        @JsonProperty("savedAt")
+        private Instant savedAt;
+
+        @JsonProperty("configs")
+        private List<SnapshotEntry> configs;
+    }
+
+    /**
+     * One stored configuration.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class SnapshotEntry {
+        @JsonProperty("brand")
+        private String brand;
+
+        @JsonProperty("config")
+        private String config;
+
+        @JsonProperty("name")
+        private String name;
+
+        @JsonProperty("description")
+        private String description;
+
+        @JsonProperty("version")
+        private int version;
+
+        @JsonProperty("keys")
+        private List<String> keys;
+
+        @JsonProperty("createdAt")
+        private Instant createdAt;
+
+        @JsonProperty("updatedAt")
+        private Instant updatedAt;
+
+        @JsonProperty("values")
+        private Map<String, Object> values;
+
+        static SnapshotEntry of(ConfigRef ref, ConfigData data) {
+            SnapshotEntry entry = new SnapshotEntry();
+            entry.brand = ref.getBrandName();
+            entry.config = ref.getConfigName();
+            entry.name = data.getName();
+            entry.description = data.getDescription().orElse(null);
+            entry.version = data.getVersion();
+            entry.keys = data.getKeys();
+            entry.createdAt = data.getCreatedAt();
+            entry.updatedAt = data.getUpdatedAt().orElse(null);
+            entry.values = data.getValues();
+            return entry;
+        }
+
+        ConfigData toConfigData() {
+            return new ConfigData(name != null ? name : config, description, values, version, keys, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * {@link SnapshotStore} keeping the snapshot in a compact binary file that is
+ * memory-mapped and shared by all JVMs on a host.
+ *
+ * <p>One process writes the snapshot (see {@link SnapshotMode#READ_WRITE}); the
+ * other processes follow it ({@link SnapshotMode#READ_ONLY}) and decode
+ * configurations from the shared page cache without a network round trip.
+ * The file is not read into a buffer first, but decoding builds each
+ * {@link ConfigData} on the heap, so every reader still holds its own copy
+ * of the configurations.
+ *
+ * <p><b>File Layout:</b> A 32-byte header followed by the payload, big-endian.
+ * <pre>
+ *  0  int   magic ("DCS1")
+ *  4  int   format version
+ *  8  long  sequence, odd while a write is in progress
+ * 16  int   payload length
+ * 20  int   CRC-32 of the payload
+ * 24  long  save time in epoch milliseconds
+ * 32  ...   payload
+ * </pre>
+ * Writers hold an exclusive file lock and update the file in place: they make
+ * the sequence odd, write the payload and header, then publish the next even
+ * sequence. Readers take the sequence before and after decoding and retry if it
+ * was odd or changed, so they never return a torn snapshot. The file only
+ * grows, which keeps existing mappings valid.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class MappedSnapshotStore implements SnapshotStore {
+
+    /** Version of the binary layout written by this class */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x44435331;
+    private static final int HEADER_SIZE = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int FORMAT_OFFSET = 4;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int LENGTH_OFFSET = 16;
+    private static final int CHECKSUM_OFFSET = 20;
+    private static final int SAVED_AT_OFFSET = 24;
+    private static final int MAX_READ_ATTEMPTS = 1000;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte STRING = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+    private static final byte DECIMAL = 9;
+    private static final byte BIG_INTEGER = 10;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Path path;
+    private MappedByteBuffer mapping;
+
+    /**
+     * Creates a store backed by the given file.
+     *
+     * @param path Location of the shared snapshot file. Must not be {@code null}.
+     * @throws NullPointerException if {@code path} is {@code null}
+     */
+    public MappedSnapshotStore(Path path) {
+        this.path = Objects.requireNonNull(path, "Snapshot path cannot be null").toAbsolutePath();
+    }
+
+    /**
+     * Returns the location of the snapshot file.
+     *
+     * @return The snapshot file path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads the sequence from the mapped header, without a system call.
+     */
+    @Override
+    public long getGeneration() throws IOException {
+        ByteBuffer header = map(HEADER_SIZE);
+        if (header == null || header.getInt(MAGIC_OFFSET) != MAGIC) {
+            return -1L;
+        }
+        return (long) LONGS.getAcquire(header, SEQUENCE_OFFSET);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IOException if the file is not a snapshot, has an unsupported
+     *         format version, fails its checksum, or keeps changing while read
+     */
+    @Override
+    public Map<ConfigRef, ConfigData> load() throws IOException {
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            ByteBuffer buffer = map(HEADER_SIZE);
+            if (buffer == null || buffer.getInt(MAGIC_OFFSET) == 0) {
+                return Collections.emptyMap();
+            }
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not a DinoConfig snapshot: " + path);
+            }
+
+            long sequence = (long) LONGS.getAcquire(buffer, SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+            int format = buffer.getInt(FORMAT_OFFSET);
+            int length = buffer.getInt(LENGTH_OFFSET);
+            int checksum = buffer.getInt(CHECKSUM_OFFSET);
+            buffer = map(HEADER_SIZE + Math.max(length, 0));
+            if (buffer == null) {
+                return Collections.emptyMap();
+            }
+
+            Map<ConfigRef, ConfigData> configs = null;
+            boolean valid = false;
+            if (format == FORMAT_VERSION && length >= 0 && buffer.capacity() >= HEADER_SIZE + length) {
+                ByteBuffer payload = buffer.duplicate().position(HEADER_SIZE).limit(HEADER_SIZE + length).slice();
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                valid = (int) crc.getValue() == checksum;
+                if (valid) {
+                    try {
+                        configs = decode(payload);
+                    } catch (RuntimeException e) {
+                        // Only possible for a torn read; the sequence check below retries
+                        valid = false;
+                    }
+                }
+            }
+
+            VarHandle.acquireFence();
+            if ((long) LONGS.getAcquire(buffer, SEQUENCE_OFFSET) != sequence) {
+                continue;
+            }
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + format + " in " + path);
+            }
+            if (!valid) {
+                throw new IOException("Corrupt snapshot: " + path);
+            }
+            return configs;
+        }
+        throw new IOException("Snapshot kept changing while being read: " + path);
+    }
+
+    @Override
+    public synchronized void save(Map<ConfigRef, ConfigData> configs) throws IOException {
+        byte[] payload = encode(configs);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                long size = Math.max(channel.size(), HEADER_SIZE + payload.length);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+                long sequence = buffer.getInt(MAGIC_OFFSET) == MAGIC ? (long) LONGS.getAcquire(buffer, SEQUENCE_OFFSET) : 0L;
+                long writing = sequence | 1;
+                LONGS.setVolatile(buffer, SEQUENCE_OFFSET, writing);
+                VarHandle.storeStoreFence();
+
+                buffer.put(HEADER_SIZE, payload);
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+                buffer.putInt(FORMAT_OFFSET, FORMAT_VERSION);
+                buffer.putInt(LENGTH_OFFSET, payload.length);
+                buffer.putInt(CHECKSUM_OFFSET, (int) crc.getValue());
+                buffer.putLong(SAVED_AT_OFFSET, System.currentTimeMillis());
+                LONGS.setRelease(buffer, SEQUENCE_OFFSET, writing + 1);
+                buffer.force();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only mapping covering at least {@code size} bytes if the
+     * file is that large, remapping when the file has grown.
+     *
+     * @return The mapping, or {@code null} if the file holds no header yet
+     */
+    private synchronized ByteBuffer map(int size) throws IOException {
+        if (mapping != null && mapping.capacity() >= size) {
+            return mapping;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                return null;
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            return mapping;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return path.equals(((MappedSnapshotStore) o).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedSnapshotStore{" +
+                "path=" + path +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Encoding
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    private static byte[] encode(Map<ConfigRef, ConfigData> configs) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(configs.size());
+        for (Map.Entry<ConfigRef, ConfigData> entry : configs.entrySet()) {
+            ConfigData data = entry.getValue();
+            writeString(out, entry.getKey().getBrandName());
+            writeString(out, entry.getKey().getConfigName());
+            writeString(out, data.getName());
+            writeString(out, data.getDescription().orElse(null));
+            out.writeInt(data.getVersion());
+            writeInstant(out, data.getCreatedAt());
+            writeInstant(out, data.getUpdatedAt().orElse(null));
+            out.writeInt(data.getKeys().size());
+            for (String key : data.getKeys()) {
+                writeString(out, key);
+            }
+            writeValue(out, data.getValues());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Decoding
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    private static Map<ConfigRef, ConfigData> decode(ByteBuffer in) {
+        int count = readCount(in);
+        Map<ConfigRef, ConfigData> configs = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            ConfigRef ref = ConfigRef.of(readString(in), readString(in));
+            String name = readString(in);
+            String description = readString(in);
+            int version = in.getInt();
+            Instant createdAt = readInstant(in);
+            Instant updatedAt = readInstant(in);
+            int keyCount = readCount(in);
+            List<String> keys = new ArrayList<>(keyCount);
+            for (int k = 0; k < keyCount; k++) {
+                keys.add(readString(in));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> values = (Map<String, Object>) readValue(in);
+            configs.put(ref, new ConfigData(name != null ? name : ref.getConfigName(), description,
+                    values, version, keys, createdAt, updatedAt));
+        }
+        return configs;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid element count " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case INT:
+                return in.getInt();
+            case LONG:
+                return in.getLong();
+            case DOUBLE:
+                return in.getDouble();
+            case STRING:
+                return readString(in);
+            case DECIMAL:
+                return new BigDecimal(readString(in));
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case LIST: {
+                int size = readCount(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case MAP: {
+                int size = readCount(in);
+                Map<String, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(in), readValue(in));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.jfr.CacheLookupEvent;
+import com.dinoconfig.sdk.metrics.MetricsRecorder;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded in-memory cache with per-entry TTL.
+ *
+ * <p>Lookups are lock-free reads on a {@link ConcurrentHashMap}. Expired entries
+ * are no longer returned by {@link #get(String)} but are kept, together with their
+ * entity tag, so they can be revalidated via {@link #getEntry(String)}. When the
+ * cache is full, inserting a new key first purges expired entries and then evicts
+ * the entries closest to expiry until a tenth of the capacity is free, so the
+ * scan this takes is paid once per batch of inserts rather than on every one.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class MemoryCache {
+
+    /** Fraction of the capacity freed by one eviction pass */
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    private final ConcurrentHashMap<String, CacheEntry<?>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final long ttl;
+    private final int maxSize;
+    private final MetricsRecorder metrics;
+
+    /**
+     * Creates a new memory cache.
+     *
+     * @param ttl     Default time-to-live in milliseconds
+     * @param maxSize Maximum number of entries
+     */
+    public MemoryCache(long ttl, int maxSize) {
+        this(ttl, maxSize, MetricsRecorder.noop());
+    }
+
+    /**
+     * Creates a new memory cache reporting hits and misses to a metrics recorder.
+     *
+     * @param ttl     Default time-to-live in milliseconds
+     * @param maxSize Maximum number of entries
+     * @param metrics Receives a measurement for every hit and miss
+     */
+    public MemoryCache(long ttl, int maxSize, MetricsRecorder metrics) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets a value from the cache.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The cached value, or {@code null} if absent or expired
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        CacheEntry<?> entry = entries.get(key);
+        if (entry == null) {
+            recordMiss(key);
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            recordMiss(key);
+            return null;
+        }
+        recordHit(key);
+        return (T) entry.getValue();
+    }
+
+    /**
+     * Gets a value from the cache even if it has expired.
+     *
+     * <p>Used for stale-while-revalidate reads; counts as a hit whenever an
+     * entry exists.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The cached value, or {@code null} if absent or evicted
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String key) {
+        CacheEntry<?> entry = entries.get(key);
+        if (entry == null) {
+            recordMiss(key);
+            return null;
+        }
+        recordHit(key);
+        return (T) entry.getValue();
+    }
+
+    private void recordHit(String key) {
+        hits.increment();
+        metrics.recordCacheHit();
+        CacheLookupEvent.record(key, true);
+    }
+
+    private void recordMiss(String key) {
+        misses.increment();
+        metrics.recordCacheMiss();
+        CacheLookupEvent.record(key, false);
+    }
+
+    /**
+     * Gets the raw entry for a key, including expired entries.
+     *
+     * <p>Does not affect hit/miss statistics.
+     *
+     * @param <T> The expected value type
+     * @param key Cache key
+     * @return The entry, or {@code null} if absent or evicted
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CacheEntry<T> getEntry(String key) {
+        return (CacheEntry<T>) entries.get(key);
+    }
+
+    /**
+     * Stores a value using the default TTL.
+     *
+     * @param key   Cache key
+     * @param value Value to cache
+     */
+    public void set(String key, Object value) {
+        set(key, value, ttl);
+    }
+
+    /**
+     * Stores a value with a custom TTL.
+     *
+     * @param key   Cache key
+     * @param value Value to cache
+     * @param ttl   Time-to-live in milliseconds
+     */
+    public void set(String key, Object value, long ttl) {
+        set(key, value, ttl, null);
+    }
+
+    /**
+     * Stores a value with a custom TTL and entity tag.
+     *
+     * @param key   Cache key
+     * @param value Value to cache
+     * @param ttl   Time-to-live in milliseconds; {@link Long#MAX_VALUE} never expires
+     * @param etag  Entity tag for later revalidation, or {@code null}
+     */
+    public void set(String key, Object value, long ttl, String etag) {
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict(now);
+        }
+        // Saturate so that very long TTLs cannot overflow into the past
+        long expiresAt = ttl > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttl;
+        entries.put(key, new CacheEntry<>(value, now, expiresAt, etag));
+    }
+
+    /**
+     * Removes a value from the cache.
+     *
+     * @param key Cache key
+     */
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries and resets statistics.
+     */
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Removes all entries whose key matches the given regular expression.
+     *
+     * @param pattern Regular expression matched against cache keys
+     */
+    public void invalidate(String pattern) {
+        Pattern regex = Pattern.compile(pattern);
+        entries.keySet().removeIf(key -> regex.matcher(key).find());
+    }
+
+    /**
+     * Checks whether a non-expired entry exists for the key.
+     *
+     * @param key Cache key
+     * @return true if a valid entry exists
+     */
+    public boolean has(String key) {
+        CacheEntry<?> entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return Current statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    /**
+     * Makes room for new entries by dropping expired entries, falling back
+     * to the entries closest to expiry until the eviction batch is free.
+     */
+    private synchronized void evict(long now) {
+        if (entries.size() < maxSize) {
+            // Another thread made room while this one waited
+            return;
+        }
+        entries.values().removeIf(entry -> entry.getExpiresAt() < now);
+
+        int target = maxSize - Math.max(1, maxSize / EVICTION_BATCH_DIVISOR);
+        int excess = entries.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        long[] expiries = entries.values().stream().mapToLong(CacheEntry::getExpiresAt).toArray();
+        if (expiries.length == 0) {
+            return;
+        }
+        Arrays.sort(expiries);
+        long threshold = expiries[Math.min(excess, expiries.length) - 1];
+        for (Map.Entry<String, CacheEntry<?>> e : entries.entrySet()) {
+            if (excess == 0) {
+                break;
+            }
+            CacheEntry<?> entry = e.getValue();
+            if (entry.getExpiresAt() <= threshold && entries.remove(e.getKey(), entry)) {
+                excess--;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Refreshes cached entries in the background before they expire.
+ *
+ * <p>Each registered key is refreshed after {@code ttl * refreshAheadRatio}
+ * milliseconds. A successful refresh schedules the next one; a failed refresh
+ * leaves the cached value untouched and is retried with exponential backoff,
+ * starting at one second and capped at {@link CacheConfig#getMaxRefreshBackoff()}.
+ * At most one refresh per key runs at a time.
+ *
+ * <p>Refreshes run on a single daemon thread and are expected to be
+ * non-blocking; the returned future does the actual work. {@link #close()}
+ * cancels all refreshes and stops the thread.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ * Obtain it indirectly through {@link CacheManager}.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class RefreshScheduler implements AutoCloseable {
+
+    private static final long INITIAL_BACKOFF = 1000L;
+
+    private final ConcurrentHashMap<String, Registration> registrations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final double refreshAheadRatio;
+    private final long maxBackoff;
+
+    /**
+     * Creates a new refresh scheduler.
+     *
+     * @param refreshAheadRatio Fraction of the TTL after which a key is refreshed
+     * @param maxBackoff        Maximum delay between failed refreshes in milliseconds
+     */
+    public RefreshScheduler(double refreshAheadRatio, long maxBackoff) {
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.maxBackoff = maxBackoff;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dinoconfig-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts refreshing a key ahead of expiry. Registering a key that is
+     * already refreshed has no effect.
+     *
+     * @param key     Cache key
+     * @param ttl     TTL of the key's entries in milliseconds
+     * @param refresh Starts a refresh; the future completes when the cache is updated
+     */
+    public void register(String key, long ttl, Supplier<CompletableFuture<?>> refresh) {
+        Registration registration = new Registration(key, ttl, refresh);
+        if (registrations.putIfAbsent(key, registration) == null) {
+            registration.schedule(registration.refreshDelay());
+        }
+    }
+
+    /**
+     * Refreshes a key immediately unless a refresh is already running or
+     * the key is backing off after a failure.
+     *
+     * @param key Cache key
+     */
+    public void refreshNow(String key) {
+        Registration registration = registrations.get(key);
+        if (registration != null && registration.failures == 0) {
+            registration.schedule(0);
+        }
+    }
+
+    /**
+     * Stops refreshing a key.
+     *
+     * @param key Cache key
+     */
+    public void cancel(String key) {
+        Registration registration = registrations.remove(key);
+        if (registration != null) {
+            registration.cancel();
+        }
+    }
+
+    /**
+     * Stops refreshing all keys matching the given regular expression.
+     *
+     * @param pattern Regular expression matched against cache keys
+     */
+    public void cancelMatching(String pattern) {
+        Pattern regex = Pattern.compile(pattern);
+        registrations.keySet().stream()
+                .filter(key -> regex.matcher(key).find())
+                .forEach(this::cancel);
+    }
+
+    /**
+     * Stops refreshing all keys.
+     */
+    public void cancelAll() {
+        registrations.keySet().forEach(this::cancel);
+    }
+
+    /**
+     * Stops refreshing all keys and stops the refresh thread. Keys registered
+     * afterwards are not refreshed.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        cancelAll();
+    }
+
+    /**
+     * Returns the number of keys currently refreshed in the background.
+     *
+     * @return Registered key count
+     */
+    public int getRegisteredCount() {
+        return registrations.size();
+    }
+
+    /**
+     * Refresh state of a single key.
+     */
+    private final class Registration {
+        private final String key;
+        private final long ttl;
+        private final Supplier<CompletableFuture<?>> refresh;
+        private ScheduledFuture<?> pending;
+        private boolean running;
+        private volatile int failures;
+
+        Registration(String key, long ttl, Supplier<CompletableFuture<?>> refresh) {
+            this.key = key;
+            this.ttl = ttl;
+            this.refresh = refresh;
+        }
+
+        long refreshDelay() {
+            return Math.max(1L, (long) (ttl * refreshAheadRatio));
+        }
+
+        long backoffDelay() {
+            int exponent = Math.min(failures - 1, 30);
+            return Math.min(maxBackoff, INITIAL_BACKOFF << exponent);
+        }
+
+        synchronized void schedule(long delay) {
+            if (running || registrations.get(key) != this || scheduler.isShutdown()) {
+                return;
+            }
+            if (pending != null) {
+                if (pending.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                    return;
+                }
+                pending.cancel(false);
+            }
+            pending = scheduler.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized void cancel() {
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+        }
+
+        private void run() {
+            synchronized (this) {
+                pending = null;
+                running = true;
+            }
+            CompletableFuture<?> future;
+            try {
+                future = refresh.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((result, error) -> {
+                synchronized (this) {
+                    running = false;
+                }
+                if (error == null) {
+                    failures = 0;
+                    schedule(refreshDelay());
+                } else {
+                    failures++;
+                    schedule(backoffDelay());
+                }
+            });
+        }
+    }
+}
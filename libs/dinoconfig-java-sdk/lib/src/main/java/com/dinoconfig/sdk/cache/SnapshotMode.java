@@ -0,0 +1,37 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+/**
+ * Role of an SDK instance towards its {@link SnapshotStore}.
+ *
+ * <p>Several processes on a host can share one snapshot: a single process
+ * (an application instance or a small sidecar) runs in {@link #READ_WRITE}
+ * mode, fetches configurations from the API and writes them, and all other
+ * processes run in {@link #READ_ONLY} mode and take the stored configurations
+ * from the snapshot instead of the API.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CacheConfig#getSnapshotMode()
+ */
+public enum SnapshotMode {
+
+    /**
+     * Restores the snapshot on startup, reconciles it with the API and writes
+     * every newly fetched configuration version back. This is the default.
+     */
+    READ_WRITE,
+
+    /**
+     * Restores the snapshot on startup and keeps following it: configurations
+     * in the snapshot never expire from the cache and are reloaded whenever
+     * the snapshot changes, without requests to the API. Configurations missing
+     * from the snapshot are still fetched, but never written.
+     */
+    READ_ONLY
+}
@@ -0,0 +1,175 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the last known good configurations and writes them to a
+ * {@link SnapshotStore}.
+ *
+ * <p>Writes are debounced: the first new version schedules a write after
+ * {@link #WRITE_DELAY} milliseconds on a daemon thread, and every version
+ * recorded until then goes into the same write. A failed write keeps the
+ * previous snapshot on disk and is retried with the next change.
+ *
+ * <p>In {@link SnapshotMode#READ_ONLY} mode nothing is written; instead the
+ * store can be {@link #follow followed} for snapshots written by another process.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+final class SnapshotRecorder {
+
+    /** Delay between the first unsaved change and the write in milliseconds */
+    static final long WRITE_DELAY = 1000L;
+
+    private final SnapshotStore store;
+    private final boolean readOnly;
+    private final ConcurrentHashMap<ConfigRef, ConfigData> configs = new ConcurrentHashMap<>();
+    private final AtomicBoolean writePending = new AtomicBoolean();
+    private ScheduledExecutorService writer;
+    private boolean closed;
+    private volatile long generation = -1L;
+
+    SnapshotRecorder(SnapshotStore store, SnapshotMode mode) {
+        this.store = store;
+        this.readOnly = mode == SnapshotMode.READ_ONLY;
+    }
+
+    /**
+     * Loads the stored snapshot, which becomes the base of later writes.
+     *
+     * @return The stored configurations, empty if none exist or they cannot be read
+     */
+    Map<ConfigRef, ConfigData> restore() {
+        try {
+            generation = store.getGeneration();
+            Map<ConfigRef, ConfigData> restored = store.load();
+            for (Map.Entry<ConfigRef, ConfigData> entry : restored.entrySet()) {
+                configs.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            return restored;
+        } catch (IOException | RuntimeException e) {
+            // An unreadable snapshot is treated like a missing one
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Records a configuration and schedules a write if its version is new.
+     *
+     * @param ref  The configuration reference
+     * @param data The configuration as last fetched
+     */
+    void record(ConfigRef ref, ConfigData data) {
+        if (readOnly) {
+            return;
+        }
+        ConfigData previous = configs.put(ref, data);
+        if (previous != null && previous.getVersion() == data.getVersion()) {
+            return;
+        }
+        if (writePending.compareAndSet(false, true)) {
+            try {
+                writer().schedule(this::write, WRITE_DELAY, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Closed; changes recorded from now on are not written
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded configurations now.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    void flush() throws IOException {
+        if (readOnly) {
+            return;
+        }
+        writePending.set(false);
+        store.save(new LinkedHashMap<>(configs));
+    }
+
+    /**
+     * Polls the store and passes every newly written snapshot to {@code onChange}.
+     *
+     * @param interval Delay between checks in milliseconds
+     * @param onChange Receives the configurations of each new snapshot
+     */
+    void follow(long interval, Consumer<Map<ConfigRef, ConfigData>> onChange) {
+        writer().scheduleWithFixedDelay(() -> {
+            try {
+                long current = store.getGeneration();
+                if (current != generation) {
+                    Map<ConfigRef, ConfigData> loaded = store.load();
+                    generation = current;
+                    onChange.accept(loaded);
+                }
+            } catch (IOException | RuntimeException ignored) {
+                // Keep serving the last loaded snapshot; the next check retries
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the writer and following threads, first writing changes still
+     * waiting for the write delay.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (writer != null) {
+                writer.shutdownNow();
+            }
+        }
+        if (writePending.get()) {
+            write();
+        }
+    }
+
+    private void write() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException ignored) {
+            // Keep the previous snapshot; the next recorded change retries
+        }
+    }
+
+    private synchronized ScheduledExecutorService writer() {
+        if (closed) {
+            throw new RejectedExecutionException("Snapshot recorder is closed");
+        }
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dinoconfig-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persistent store for the last known good configurations.
+ *
+ * <p>A snapshot store lets the SDK start serving configurations before the API
+ * is reachable. On startup the SDK loads the stored configurations into the
+ * cache and reconciles them with the server in the background; afterwards every
+ * newly fetched configuration version is written back.
+ *
+ * <p>Implementations must replace the stored snapshot atomically, so a reader
+ * never observes a partially written snapshot.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * CacheConfig cacheConfig = CacheConfig.builder()
+ *     .enabled(true)
+ *     .snapshotStore(new FileSnapshotStore(Path.of("/var/cache/myapp/dinoconfig.json")))
+ *     .build();
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see FileSnapshotStore
+ * @see MappedSnapshotStore
+ */
+public interface SnapshotStore {
+
+    /**
+     * Loads the stored snapshot.
+     *
+     * @return The stored configurations, empty if no snapshot exists
+     * @throws IOException if the snapshot exists but cannot be read
+     */
+    Map<ConfigRef, ConfigData> load() throws IOException;
+
+    /**
+     * Returns a value that changes whenever the stored snapshot is replaced.
+     *
+     * <p>Processes following a snapshot written by another process poll this
+     * value and only {@link #load()} when it changed, so it should be cheap.
+     *
+     * @return The generation of the stored snapshot, or {@code -1} if none exists
+     * @throws IOException if the snapshot cannot be inspected
+     */
+    long getGeneration() throws IOException;
+
+    /**
+     * Replaces the stored snapshot.
+     *
+     * @param configs The configurations to store
+     * @throws IOException if the snapshot cannot be written
+     */
+    void save(Map<ConfigRef, ConfigData> configs) throws IOException;
+}
@@ -0,0 +1,47 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the DinoConfig API rejects the API key during the token
+ * exchange, e.g. because it is wrong or was revoked.
+ *
+ * <p>Unlike network errors and transient server errors, a rejection is final:
+ * the exchange is not retried in the background.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see TokenManager
+ */
+public class AuthenticationException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message Description of the rejection
+     * @param status  HTTP status code of the rejected exchange
+     */
+    public AuthenticationException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Returns the HTTP status code of the rejected exchange.
+     *
+     * @return The status code, e.g. {@code 401} or {@code 403}
+     */
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.model.ApiError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryPolicy} with exponential backoff and full jitter.
+ *
+ * <p>The delay before retry {@code n} is drawn uniformly from
+ * {@code [0, min(maxDelay, baseDelay * 2^n)]}, so clients that failed together
+ * spread their retries instead of retrying in synchronized waves. When the
+ * server answers with a {@code Retry-After} header, that delay is used instead;
+ * if it exceeds {@code maxDelay} the request is not retried.
+ *
+ * <p>Retried are network errors and {@link ApiError}s that are
+ * {@link ApiError#isRetryable() retryable} (429 and 5xx). Other client errors,
+ * failures to read the response body, such as malformed JSON, and requests
+ * the SDK rejected without sending them ({@link RequestRejectedException}, for
+ * example while the circuit breaker is open) are not.
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code baseDelay}: {@code 1000} milliseconds</li>
+ *   <li>{@code maxDelay}: {@code 30000} milliseconds</li>
+ *   <li>{@code respectRetryAfter}: {@code true}</li>
+ * </ul>
+ *
+ * <p><b>Thread Safety:</b> This class is immutable and thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class BackoffRetryPolicy implements RetryPolicy {
+
+    /** Default upper bound of the first retry delay in milliseconds */
+    public static final long DEFAULT_BASE_DELAY = 1000L;
+
+    /** Default maximum delay between attempts in milliseconds */
+    public static final long DEFAULT_MAX_DELAY = 30000L;
+
+    private final long baseDelay;
+    private final long maxDelay;
+    private final boolean respectRetryAfter;
+
+    private BackoffRetryPolicy(Builder builder) {
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.respectRetryAfter = builder.respectRetryAfter;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean isRetryable(Exception error) {
+        if (error instanceof ApiError) {
+            return ((ApiError) error).isRetryable();
+        }
+        return error instanceof IOException
+                && !(error instanceof JsonProcessingException)
+                && !(error instanceof RequestRejectedException);
+    }
+
+    @Override
+    public long delay(int attempt, Exception error) {
+        if (respectRetryAfter && error instanceof ApiError) {
+            Long retryAfter = ((ApiError) error).getRetryAfter();
+            if (retryAfter != null) {
+                return retryAfter <= maxDelay ? retryAfter : -1L;
+            }
+        }
+        long ceiling = attempt >= Long.numberOfLeadingZeros(baseDelay) - 1
+                ? maxDelay
+                : Math.min(maxDelay, baseDelay << attempt);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Returns the upper bound of the first retry delay.
+     *
+     * @return Base delay in milliseconds
+     */
+    public long getBaseDelay() {
+        return baseDelay;
+    }
+
+    /**
+     * Returns the maximum delay between attempts.
+     *
+     * @return Maximum delay in milliseconds
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Returns whether {@code Retry-After} headers are honored.
+     *
+     * @return true if the server-provided delay is used
+     */
+    public boolean isRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return "BackoffRetryPolicy{" +
+                "baseDelay=" + baseDelay +
+                ", maxDelay=" + maxDelay +
+                ", respectRetryAfter=" + respectRetryAfter +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating BackoffRetryPolicy instances.
+     */
+    public static final class Builder {
+        private long baseDelay = DEFAULT_BASE_DELAY;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+        private boolean respectRetryAfter = true;
+
+        private Builder() {}
+
+        /**
+         * Sets the upper bound of the first retry delay; it doubles with every attempt.
+         *
+         * @param baseDelay Base delay in milliseconds
+         * @return This builder
+         */
+        public Builder baseDelay(long baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between attempts.
+         *
+         * @param maxDelay Maximum delay in milliseconds
+         * @return This builder
+         */
+        public Builder maxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets whether {@code Retry-After} headers are honored.
+         *
+         * @param respectRetryAfter true to use the server-provided delay
+         * @return This builder
+         */
+        public Builder respectRetryAfter(boolean respectRetryAfter) {
+            this.respectRetryAfter = respectRetryAfter;
+            return this;
+        }
+
+        /**
+         * Builds the BackoffRetryPolicy instance.
+         *
+         * @return New BackoffRetryPolicy instance
+         * @throws IllegalArgumentException if baseDelay is not positive or
+         *         maxDelay is smaller than baseDelay
+         */
+        public BackoffRetryPolicy build() {
+            if (baseDelay <= 0) {
+                throw new IllegalArgumentException("Base delay must be positive");
+            }
+            if (maxDelay < baseDelay) {
+                throw new IllegalArgumentException("Max delay cannot be smaller than base delay");
+            }
+            return new BackoffRetryPolicy(this);
+        }
+    }
+}
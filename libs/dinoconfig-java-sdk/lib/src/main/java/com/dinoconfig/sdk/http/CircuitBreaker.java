@@ -0,0 +1,272 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker guarding all requests to the DinoConfig API host.
+ *
+ * <p>The breaker records the outcome of the last {@code windowSize} calls.
+ * Network errors and retryable API errors (429, 5xx) count as failures;
+ * other responses, including client errors, show that the API is reachable
+ * and count as successes. Once at least {@code minimumCalls} are recorded and
+ * the failure rate or the rate of calls slower than {@code slowCallDuration}
+ * reaches its threshold, the breaker opens: requests fail immediately with a
+ * {@link CircuitBreakerOpenException}, and configuration lookups are answered
+ * from the cache where possible.
+ *
+ * <p>After {@code openDuration} the next call moves the breaker to half-open,
+ * letting {@code halfOpenProbes} probe calls through. If they all succeed the
+ * breaker closes; if any of them fails or is slow it opens again.
+ *
+ * <p>Calls are recorded per attempt, so with retries enabled each failed
+ * attempt counts, and retries stop as soon as the breaker opens. Each permit
+ * carries the epoch of the state it was granted in; the outcome of a call
+ * that is still in flight when the state changes is ignored, so a call sent
+ * before the breaker opened can neither count as a probe nor close it.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe. Closed-state admission
+ * takes two volatile reads and no lock.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CircuitBreakerConfig
+ */
+public final class CircuitBreaker {
+
+    /**
+     * State of the circuit breaker.
+     */
+    public enum State {
+        /** Calls are sent and their outcomes recorded */
+        CLOSED,
+        /** Calls are rejected without being sent */
+        OPEN,
+        /** A limited number of probe calls are sent to test recovery */
+        HALF_OPEN
+    }
+
+    /** Returned by {@link #tryAcquire()} when a call must be rejected */
+    static final long NO_PERMIT = -1L;
+
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    /** Ring buffers of the outcomes in the window */
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    /** Incremented on every state change */
+    private volatile long epoch;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    CircuitBreaker(CircuitBreakerConfig config) {
+        this.config = config;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDuration());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration());
+        this.failed = new boolean[config.getWindowSize()];
+        this.slow = new boolean[config.getWindowSize()];
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * <p>An open breaker reports {@link State#OPEN} until the first call after
+     * {@code openDuration} moves it to half-open.
+     *
+     * @return The state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether the breaker is enabled.
+     *
+     * @return true if calls are guarded by the breaker
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Returns the fraction of failed calls in the current window.
+     *
+     * @return Failure rate in [0, 1], {@code 0} if no calls were recorded
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0.0 : (double) failures / recorded;
+    }
+
+    /**
+     * Returns the fraction of slow calls in the current window.
+     *
+     * @return Slow call rate in [0, 1], {@code 0} if no calls were recorded
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0.0 : (double) slowCalls / recorded;
+    }
+
+    /**
+     * Returns whether a call may be sent now. Every permitted call must be
+     * followed by {@link #onResult(long, long, boolean)} or {@link #release(long)}
+     * with the returned permit.
+     *
+     * @return The permit, or {@link #NO_PERMIT} if the call must be rejected
+     */
+    long tryAcquire() {
+        // Read before the state: a state change in between makes the permit stale
+        long permit = epoch;
+        if (!config.isEnabled() || state == State.CLOSED) {
+            return permit;
+        }
+        boolean halfOpened = false;
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                transition(State.HALF_OPEN);
+                probesStarted = 0;
+                probesSucceeded = 0;
+                halfOpened = true;
+            }
+            if (state == State.CLOSED) {
+                permit = epoch;
+            } else if (state == State.HALF_OPEN && probesStarted < config.getHalfOpenProbes()) {
+                probesStarted++;
+                permit = epoch;
+            } else {
+                permit = NO_PERMIT;
+            }
+        }
+        if (halfOpened) {
+            notifyListener(State.OPEN, State.HALF_OPEN);
+        }
+        return permit;
+    }
+
+    /**
+     * Records the outcome of a permitted call. The outcome is ignored if the
+     * state changed since the permit was granted.
+     *
+     * @param permit  The permit returned by {@link #tryAcquire()}
+     * @param nanos   Duration of the call in nanoseconds
+     * @param failure true if the call failed in a way that indicates an unhealthy API
+     */
+    void onResult(long permit, long nanos, boolean failure) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        boolean isSlow = slowCallNanos > 0 && nanos > slowCallNanos;
+        State from = null;
+        State to = null;
+        synchronized (this) {
+            if (permit != epoch) {
+                // Sent before the last state change; says nothing about the current state
+            } else if (state == State.CLOSED) {
+                record(failure, isSlow);
+                if (recorded >= config.getMinimumCalls()
+                        && (failures >= config.getFailureRateThreshold() * recorded
+                        || slowCalls >= config.getSlowCallRateThreshold() * recorded)) {
+                    from = State.CLOSED;
+                    to = open();
+                }
+            } else if (state == State.HALF_OPEN) {
+                if (failure || isSlow) {
+                    from = State.HALF_OPEN;
+                    to = open();
+                } else if (++probesSucceeded >= config.getHalfOpenProbes()) {
+                    from = State.HALF_OPEN;
+                    to = close();
+                }
+            }
+        }
+        if (to != null) {
+            notifyListener(from, to);
+        }
+    }
+
+    /**
+     * Releases a permitted call that was cancelled before it had an outcome.
+     *
+     * @param permit The permit returned by {@link #tryAcquire()}
+     */
+    synchronized void release(long permit) {
+        if (permit == epoch && state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    private void record(boolean failure, boolean isSlow) {
+        if (recorded == failed.length) {
+            if (failed[next]) {
+                failures--;
+            }
+            if (slow[next]) {
+                slowCalls--;
+            }
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = isSlow;
+        if (failure) {
+            failures++;
+        }
+        if (isSlow) {
+            slowCalls++;
+        }
+        next = (next + 1) % failed.length;
+    }
+
+    private State open() {
+        openedAt = System.nanoTime();
+        return transition(State.OPEN);
+    }
+
+    private State close() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        return transition(State.CLOSED);
+    }
+
+    private State transition(State to) {
+        state = to;
+        epoch++;
+        return to;
+    }
+
+    private void notifyListener(State from, State to) {
+        CircuitBreakerListener listener = config.getListener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onStateChange(from, to);
+        } catch (RuntimeException ignored) {
+            // A failing listener must not affect the request that triggered it
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "state=" + state +
+                ", failureRate=" + getFailureRate() +
+                ", slowCallRate=" + getSlowCallRate() +
+                '}';
+    }
+}
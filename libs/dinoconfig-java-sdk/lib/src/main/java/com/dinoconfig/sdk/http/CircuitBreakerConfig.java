@@ -0,0 +1,378 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.Objects;
+
+/**
+ * Configuration options for the circuit breaker around the DinoConfig API.
+ *
+ * <p>Instances are immutable and created through {@link #builder()}. The
+ * breaker is disabled by default.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * CircuitBreakerConfig breaker = CircuitBreakerConfig.builder()
+ *     .enabled(true)
+ *     .failureRateThreshold(0.5)   // open when half of the recent calls failed
+ *     .slowCallDuration(2000L)     // calls slower than 2s count as slow
+ *     .openDuration(30000L)        // fail fast for 30s before probing
+ *     .listener((from, to) -> log.warn("DinoConfig circuit {} -> {}", from, to))
+ *     .build();
+ *
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .circuitBreaker(breaker)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code enabled}: {@code false}</li>
+ *   <li>{@code windowSize}: {@code 20} calls</li>
+ *   <li>{@code minimumCalls}: {@code 10}</li>
+ *   <li>{@code failureRateThreshold}: {@code 0.5}</li>
+ *   <li>{@code slowCallDuration}: {@code 0} (slow calls are not tracked)</li>
+ *   <li>{@code slowCallRateThreshold}: {@code 1.0}</li>
+ *   <li>{@code openDuration}: {@code 30000} milliseconds</li>
+ *   <li>{@code halfOpenProbes}: {@code 3}</li>
+ *   <li>{@code listener}: none</li>
+ * </ul>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CircuitBreaker
+ */
+public final class CircuitBreakerConfig {
+
+    /** Default number of recent calls the rates are computed over */
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    /** Default number of recorded calls before the breaker may open */
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    /** Default fraction of failed calls that opens the breaker */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /** Default fraction of slow calls that opens the breaker */
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0;
+
+    /** Default time the breaker stays open in milliseconds */
+    public static final long DEFAULT_OPEN_DURATION = 30000L;
+
+    /** Default number of probe calls let through while half-open */
+    public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallDuration;
+    private final double slowCallRateThreshold;
+    private final long openDuration;
+    private final int halfOpenProbes;
+    private final CircuitBreakerListener listener;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.openDuration = builder.openDuration;
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with the circuit breaker disabled.
+     *
+     * @return Disabled circuit breaker configuration
+     */
+    public static CircuitBreakerConfig disabled() {
+        return builder().build();
+    }
+
+    /**
+     * Returns whether the circuit breaker is enabled.
+     *
+     * @return true if calls are guarded by the breaker
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of recent calls the failure and slow call rates are computed over.
+     *
+     * @return Window size in calls
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Returns the number of calls that must be recorded before the breaker may open.
+     *
+     * @return Minimum number of calls
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * Returns the fraction of failed calls in the window that opens the breaker.
+     *
+     * @return Ratio in the range (0, 1]
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Returns the duration above which a call counts as slow.
+     *
+     * @return Duration in milliseconds, {@code 0} if slow calls are not tracked
+     */
+    public long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    /**
+     * Returns the fraction of slow calls in the window that opens the breaker.
+     *
+     * @return Ratio in the range (0, 1]
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * Returns how long the breaker fails fast before letting probe calls through.
+     *
+     * @return Duration in milliseconds
+     */
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Returns the number of probe calls that must succeed to close the breaker.
+     *
+     * @return Number of probes
+     */
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    /**
+     * Returns the listener notified of state changes.
+     *
+     * @return The listener, or {@code null} if none
+     */
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CircuitBreakerConfig that = (CircuitBreakerConfig) o;
+        return enabled == that.enabled
+                && windowSize == that.windowSize
+                && minimumCalls == that.minimumCalls
+                && Double.compare(failureRateThreshold, that.failureRateThreshold) == 0
+                && slowCallDuration == that.slowCallDuration
+                && Double.compare(slowCallRateThreshold, that.slowCallRateThreshold) == 0
+                && openDuration == that.openDuration
+                && halfOpenProbes == that.halfOpenProbes
+                && Objects.equals(listener, that.listener);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, windowSize, minimumCalls, failureRateThreshold, slowCallDuration,
+                slowCallRateThreshold, openDuration, halfOpenProbes, listener);
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerConfig{" +
+                "enabled=" + enabled +
+                ", windowSize=" + windowSize +
+                ", minimumCalls=" + minimumCalls +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", slowCallDuration=" + slowCallDuration +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", openDuration=" + openDuration +
+                ", halfOpenProbes=" + halfOpenProbes +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating CircuitBreakerConfig instances.
+     */
+    public static final class Builder {
+        private boolean enabled = false;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private long slowCallDuration = 0L;
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        private long openDuration = DEFAULT_OPEN_DURATION;
+        private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+        private CircuitBreakerListener listener;
+
+        private Builder() {}
+
+        /**
+         * Sets whether the circuit breaker is enabled.
+         *
+         * @param enabled true to guard calls with the breaker
+         * @return This builder
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the number of recent calls the rates are computed over.
+         *
+         * @param windowSize Window size in calls
+         * @return This builder
+         */
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls that must be recorded before the breaker may open.
+         *
+         * @param minimumCalls Minimum number of calls
+         * @return This builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of failed calls that opens the breaker.
+         *
+         * @param failureRateThreshold Ratio in the range (0, 1]
+         * @return This builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration above which a call counts as slow.
+         *
+         * @param slowCallDuration Duration in milliseconds, {@code 0} to not track slow calls
+         * @return This builder
+         */
+        public Builder slowCallDuration(long slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of slow calls that opens the breaker.
+         *
+         * @param slowCallRateThreshold Ratio in the range (0, 1]
+         * @return This builder
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how long the breaker fails fast before letting probe calls through.
+         *
+         * @param openDuration Duration in milliseconds
+         * @return This builder
+         */
+        public Builder openDuration(long openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of probe calls that must succeed to close the breaker.
+         *
+         * @param halfOpenProbes Number of probes
+         * @return This builder
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified of state changes.
+         *
+         * @param listener The listener
+         * @return This builder
+         */
+        public Builder listener(CircuitBreakerListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Builds the CircuitBreakerConfig instance.
+         *
+         * @return New CircuitBreakerConfig instance
+         * @throws IllegalArgumentException if a count or duration is out of range
+         *         or a threshold is outside (0, 1]
+         */
+        public CircuitBreakerConfig build() {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("Window size must be positive");
+            }
+            if (minimumCalls <= 0 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("Minimum calls must be in [1, windowSize]");
+            }
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+            }
+            if (slowCallDuration < 0) {
+                throw new IllegalArgumentException("Slow call duration cannot be negative");
+            }
+            if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+                throw new IllegalArgumentException("Slow call rate threshold must be in (0, 1]");
+            }
+            if (openDuration <= 0) {
+                throw new IllegalArgumentException("Open duration must be positive");
+            }
+            if (halfOpenProbes <= 0) {
+                throw new IllegalArgumentException("Half-open probes must be positive");
+            }
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
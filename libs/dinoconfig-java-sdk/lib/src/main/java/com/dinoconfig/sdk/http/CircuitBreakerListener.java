@@ -0,0 +1,30 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+/**
+ * Listener notified when the circuit breaker changes state.
+ *
+ * <p>The listener is called synchronously on the thread that completed the
+ * call causing the transition, so it should return quickly. Exceptions it
+ * throws are ignored.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CircuitBreakerConfig#getListener()
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * Called after the breaker moved from one state to another.
+     *
+     * @param from The previous state
+     * @param to   The new state
+     */
+    void onStateChange(CircuitBreaker.State from, CircuitBreaker.State to);
+}
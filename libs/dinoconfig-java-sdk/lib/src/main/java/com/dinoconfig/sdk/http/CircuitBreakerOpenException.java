@@ -0,0 +1,29 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+/**
+ * Thrown when a request is rejected without being sent because the circuit
+ * breaker is open.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CircuitBreaker
+ */
+public class CircuitBreakerOpenException extends RequestRejectedException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message Description of the rejection
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
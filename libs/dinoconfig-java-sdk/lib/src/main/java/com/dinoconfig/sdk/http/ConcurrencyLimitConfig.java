@@ -0,0 +1,362 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.Objects;
+
+/**
+ * Configuration options for the adaptive limit on concurrent API requests.
+ *
+ * <p>The limit starts at {@code initialLimit} and is adjusted with additive
+ * increase, multiplicative decrease (AIMD): each successful request that used
+ * at least half of the limit raises it by one, and each request that failed
+ * transiently or took longer than {@code latencyTolerance} times the average
+ * latency lowers it to {@code backoffRatio} of its value, within
+ * [{@code minLimit}, {@code maxLimit}].
+ *
+ * <p>Requests over the limit wait in a queue of up to {@code maxQueueSize}
+ * callers for at most {@code maxWait} milliseconds; with a full queue or after
+ * the wait they fail with {@link ConcurrencyLimitExceededException}. The
+ * default queue size of {@code 0} rejects excess requests immediately.
+ *
+ * <p>Instances are immutable and created through {@link #builder()}. The
+ * limit is disabled by default.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .concurrencyLimit(ConcurrencyLimitConfig.builder()
+ *         .enabled(true)
+ *         .maxLimit(50)
+ *         .maxQueueSize(100)   // queue excess requests
+ *         .maxWait(500L)       // for at most 500ms
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code enabled}: {@code false}</li>
+ *   <li>{@code initialLimit}: {@code 20}</li>
+ *   <li>{@code minLimit}: {@code 1}</li>
+ *   <li>{@code maxLimit}: {@code 200}</li>
+ *   <li>{@code backoffRatio}: {@code 0.9}</li>
+ *   <li>{@code latencyTolerance}: {@code 2.0}</li>
+ *   <li>{@code maxQueueSize}: {@code 0} (reject immediately)</li>
+ *   <li>{@code maxWait}: {@code 1000} milliseconds</li>
+ * </ul>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see ConcurrencyLimiter
+ */
+public final class ConcurrencyLimitConfig {
+
+    /** Default limit before any request completed */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /** Default lower bound of the limit */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /** Default upper bound of the limit */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    /** Default factor applied to the limit on overload */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /** Default multiple of the average latency above which a request signals overload */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    /** Default maximum time a request waits for a slot in milliseconds */
+    public static final long DEFAULT_MAX_WAIT = 1000L;
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final long maxWait;
+
+    private ConcurrencyLimitConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with the concurrency limit disabled.
+     *
+     * @return Disabled concurrency limit configuration
+     */
+    public static ConcurrencyLimitConfig disabled() {
+        return builder().build();
+    }
+
+    /**
+     * Returns whether concurrent requests are limited.
+     *
+     * @return true if the limit is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the limit used before any request completed.
+     *
+     * @return Initial number of concurrent requests
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Returns the lower bound of the limit.
+     *
+     * @return Minimum number of concurrent requests
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Returns the upper bound of the limit.
+     *
+     * @return Maximum number of concurrent requests
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Returns the factor applied to the limit when a request signals overload.
+     *
+     * @return Ratio in the range (0, 1)
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Returns the multiple of the average latency above which a request
+     * signals overload.
+     *
+     * @return Tolerance, at least {@code 1}
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * Returns the number of requests that may wait for a slot.
+     *
+     * @return Maximum queue size, {@code 0} to reject excess requests immediately
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Returns how long a queued request waits for a slot.
+     *
+     * @return Duration in milliseconds
+     */
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConcurrencyLimitConfig that = (ConcurrencyLimitConfig) o;
+        return enabled == that.enabled
+                && initialLimit == that.initialLimit
+                && minLimit == that.minLimit
+                && maxLimit == that.maxLimit
+                && Double.compare(backoffRatio, that.backoffRatio) == 0
+                && Double.compare(latencyTolerance, that.latencyTolerance) == 0
+                && maxQueueSize == that.maxQueueSize
+                && maxWait == that.maxWait;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance,
+                maxQueueSize, maxWait);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitConfig{" +
+                "enabled=" + enabled +
+                ", initialLimit=" + initialLimit +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", backoffRatio=" + backoffRatio +
+                ", latencyTolerance=" + latencyTolerance +
+                ", maxQueueSize=" + maxQueueSize +
+                ", maxWait=" + maxWait +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating ConcurrencyLimitConfig instances.
+     */
+    public static final class Builder {
+        private boolean enabled = false;
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private int maxQueueSize = 0;
+        private long maxWait = DEFAULT_MAX_WAIT;
+
+        private Builder() {}
+
+        /**
+         * Sets whether concurrent requests are limited.
+         *
+         * @param enabled true to enable the limit
+         * @return This builder
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the limit used before any request completed.
+         *
+         * @param initialLimit Initial number of concurrent requests
+         * @return This builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lower bound of the limit.
+         *
+         * @param minLimit Minimum number of concurrent requests
+         * @return This builder
+         */
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of the limit.
+         *
+         * @param maxLimit Maximum number of concurrent requests
+         * @return This builder
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor applied to the limit when a request signals overload.
+         *
+         * @param backoffRatio Ratio in the range (0, 1)
+         * @return This builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets the multiple of the average latency above which a request
+         * signals overload.
+         *
+         * @param latencyTolerance Tolerance, at least {@code 1}
+         * @return This builder
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets the number of requests that may wait for a slot.
+         *
+         * @param maxQueueSize Maximum queue size, {@code 0} to reject excess requests immediately
+         * @return This builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a queued request waits for a slot.
+         *
+         * @param maxWait Duration in milliseconds
+         * @return This builder
+         */
+        public Builder maxWait(long maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Builds the ConcurrencyLimitConfig instance.
+         *
+         * @return New ConcurrencyLimitConfig instance
+         * @throws IllegalArgumentException if the limits are not positive and
+         *         ordered, a ratio is out of range, or the queue size or wait
+         *         time is negative
+         */
+        public ConcurrencyLimitConfig build() {
+            if (minLimit <= 0 || maxLimit < minLimit) {
+                throw new IllegalArgumentException("Limits must satisfy 0 < minLimit <= maxLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Initial limit must be in [minLimit, maxLimit]");
+            }
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("Backoff ratio must be in (0, 1)");
+            }
+            if (!(latencyTolerance >= 1)) {
+                throw new IllegalArgumentException("Latency tolerance must be at least 1");
+            }
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("Max queue size cannot be negative");
+            }
+            if (maxWait < 0) {
+                throw new IllegalArgumentException("Max wait cannot be negative");
+            }
+            return new ConcurrencyLimitConfig(this);
+        }
+    }
+}
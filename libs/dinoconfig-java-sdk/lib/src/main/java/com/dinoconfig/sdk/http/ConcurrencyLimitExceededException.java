@@ -0,0 +1,30 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+/**
+ * Thrown when a request is rejected without being sent because the
+ * concurrency limit is reached and the request could not be queued, or
+ * waited in the queue longer than {@link ConcurrencyLimitConfig#getMaxWait()}.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see ConcurrencyLimiter
+ */
+public class ConcurrencyLimitExceededException extends RequestRejectedException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message Description of the rejection
+     */
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit on the number of concurrent requests to the DinoConfig API.
+ *
+ * <p>Every request attempt holds a slot from the moment it is sent until its
+ * response is handled. The limit follows AIMD: it grows by one after each
+ * successful request that used at least half of it, and shrinks to
+ * {@code backoffRatio} of its value when a request fails transiently or its
+ * latency exceeds {@code latencyTolerance} times the moving average latency.
+ * Under a burst, such as many cache entries expiring at once, the limit thus
+ * settles near the concurrency the API serves without queueing.
+ *
+ * <p>Requests over the limit are queued in FIFO order, or rejected with a
+ * {@link ConcurrencyLimitExceededException} if the queue is full or they waited
+ * longer than {@code maxWait}. Waiting never blocks a thread for asynchronous
+ * requests.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see ConcurrencyLimitConfig
+ */
+public final class ConcurrencyLimiter {
+
+    /** Weight of a new sample in the moving average latency */
+    private static final double SMOOTHING = 0.05;
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final ConcurrencyLimitConfig config;
+    private final ScheduledExecutorService scheduler;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private double averageNanos;
+
+    ConcurrencyLimiter(ConcurrencyLimitConfig config, ScheduledExecutorService scheduler) {
+        this.config = config;
+        this.scheduler = scheduler;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * Returns whether the limit is enabled.
+     *
+     * @return true if concurrent requests are limited
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return Number of requests that may be in flight at once
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return In-flight request count
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of requests waiting for a slot.
+     *
+     * @return Queued request count
+     */
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * Requests a slot. Every granted slot must be returned through
+     * {@link #onResult(long, boolean)} or {@link #release()}; a caller that no
+     * longer needs a pending slot cancels the returned future.
+     *
+     * @return Future completed once the slot is granted, or failed with
+     *         {@link ConcurrencyLimitExceededException}
+     */
+    CompletableFuture<Void> acquire() {
+        if (!config.isEnabled()) {
+            return ACQUIRED;
+        }
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (inFlight < (int) limit && waiters.isEmpty()) {
+                inFlight++;
+                // Shared completed future: a granted slot allocates nothing
+                return ACQUIRED;
+            }
+            if (waiters.size() >= config.getMaxQueueSize()) {
+                return CompletableFuture.failedFuture(rejected("limit of " + (int) limit + " reached"));
+            }
+            waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+        }
+        ScheduledFuture<?> timer = scheduler.schedule(() -> {
+            boolean expired;
+            synchronized (this) {
+                expired = waiters.remove(waiter);
+            }
+            if (expired) {
+                waiter.completeExceptionally(rejected("no slot within " + config.getMaxWait() + "ms"));
+            }
+        }, config.getMaxWait(), TimeUnit.MILLISECONDS);
+        waiter.whenComplete((result, error) -> timer.cancel(false));
+        return waiter;
+    }
+
+    /**
+     * Returns a slot and adjusts the limit to the outcome of its request.
+     *
+     * @param nanos    Duration of the request in nanoseconds
+     * @param overload true if the request failed in a way that indicates an overloaded API
+     */
+    void onResult(long nanos, boolean overload) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            if (!overload && averageNanos > 0 && nanos > config.getLatencyTolerance() * averageNanos) {
+                overload = true;
+            }
+            if (overload) {
+                limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+            } else {
+                averageNanos = averageNanos == 0 ? nanos : averageNanos + SMOOTHING * (nanos - averageNanos);
+                if (inFlight * 2 >= limit) {
+                    limit = Math.min(config.getMaxLimit(), limit + 1);
+                }
+            }
+            inFlight--;
+            granted = dispatch();
+        }
+        grant(granted);
+    }
+
+    /**
+     * Returns a slot whose request was cancelled or not sent, without
+     * adjusting the limit.
+     */
+    void release() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = dispatch();
+        }
+        grant(granted);
+    }
+
+    /**
+     * Hands free slots to queued requests. Must hold the lock.
+     */
+    private List<CompletableFuture<Void>> dispatch() {
+        List<CompletableFuture<Void>> granted = null;
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            if (granted == null) {
+                granted = new ArrayList<>();
+            }
+            granted.add(waiters.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    /**
+     * Completes granted waiters outside the lock, since completion runs the
+     * waiting request. Slots of waiters cancelled meanwhile are passed on.
+     */
+    private void grant(List<CompletableFuture<Void>> granted) {
+        if (granted == null) {
+            return;
+        }
+        for (CompletableFuture<Void> waiter : granted) {
+            if (!waiter.complete(null)) {
+                release();
+            }
+        }
+    }
+
+    private ConcurrencyLimitExceededException rejected(String reason) {
+        return new ConcurrencyLimitExceededException("Concurrency limit exceeded: " + reason);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{" +
+                "limit=" + getLimit() +
+                ", inFlight=" + getInFlight() +
+                ", queued=" + getQueued() +
+                '}';
+    }
+}
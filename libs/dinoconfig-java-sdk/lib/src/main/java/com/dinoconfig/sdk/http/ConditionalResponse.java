@@ -0,0 +1,153 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Open result of a (possibly conditional) HTTP request, handed to a {@link ResponseMapper}.
+ *
+ * <p>The body is read directly from the connection and is only available while
+ * {@link ResponseMapper#map(ConditionalResponse)} runs; it can be consumed once.
+ * A {@code 304 Not Modified} answer has no body; callers reuse the representation
+ * they cached together with {@link #getEtag()}.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class ConditionalResponse {
+
+    private final int status;
+    private final String etag;
+    private final ResponseBody body;
+
+    private ConditionalResponse(int status, String etag, ResponseBody body) {
+        this.status = status;
+        this.etag = etag;
+        this.body = body;
+    }
+
+    /**
+     * Creates a response for a successful request.
+     *
+     * @param status HTTP status code
+     * @param etag   Value of the {@code ETag} header, or {@code null}
+     * @param body   Open response body, or {@code null}
+     * @return New response
+     */
+    static ConditionalResponse of(int status, String etag, ResponseBody body) {
+        return new ConditionalResponse(status, etag, body);
+    }
+
+    /**
+     * Creates a response for a {@code 304 Not Modified} answer.
+     *
+     * @param etag Entity tag that is still current
+     * @return New response
+     */
+    static ConditionalResponse notModified(String etag) {
+        return new ConditionalResponse(304, etag, null);
+    }
+
+    /**
+     * Returns the HTTP status code.
+     *
+     * @return HTTP status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns whether the server answered {@code 304 Not Modified}.
+     *
+     * @return true if the cached representation is still current
+     */
+    public boolean isNotModified() {
+        return status == 304;
+    }
+
+    /**
+     * Returns the entity tag of the returned or confirmed representation.
+     *
+     * @return The entity tag, or {@code null} if the server sent none
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Returns the declared size of the body.
+     *
+     * @return The {@code Content-Length}, {@code 0} without a body, or {@code -1} if unknown
+     */
+    public long getContentLength() {
+        return body != null ? body.contentLength() : 0L;
+    }
+
+    /**
+     * Returns whether any body bytes remain to be read.
+     *
+     * @return true if the response carries a non-empty body
+     * @throws IOException if the body cannot be read
+     */
+    public boolean hasBody() throws IOException {
+        return body != null && !body.source().exhausted();
+    }
+
+    /**
+     * Reads the body into a value using the given reader, without an
+     * intermediate {@code String} or tree.
+     *
+     * @param <T>    The target type
+     * @param reader Reader bound to the target type
+     * @return The parsed value, or {@code null} for {@code 304} and empty responses
+     * @throws IOException if the body cannot be read or parsed
+     */
+    public <T> T read(ObjectReader reader) throws IOException {
+        if (!hasBody()) {
+            return null;
+        }
+        try (InputStream in = body.byteStream()) {
+            return reader.readValue(in);
+        }
+    }
+
+    /**
+     * Reads the remaining body as bytes.
+     *
+     * @return The body, empty for {@code 304} and empty responses
+     * @throws IOException if the body cannot be read
+     */
+    public byte[] getBodyBytes() throws IOException {
+        return body != null ? body.bytes() : new byte[0];
+    }
+
+    /**
+     * Reads the remaining body as a string.
+     *
+     * @return The body, empty for {@code 304} and empty responses
+     * @throws IOException if the body cannot be read
+     */
+    public String getBody() throws IOException {
+        return body != null ? body.string() : "";
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionalResponse{" +
+                "status=" + status +
+                ", etag='" + etag + '\'' +
+                '}';
+    }
+}
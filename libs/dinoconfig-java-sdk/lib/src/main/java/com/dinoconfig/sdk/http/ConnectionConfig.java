@@ -0,0 +1,327 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import okhttp3.OkHttpClient;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Connection pool, dispatcher and protocol settings of the SDK HTTP client.
+ *
+ * <p>Instances are immutable and created through {@link #builder()}. The
+ * defaults match those of OkHttp, so an SDK without a connection configuration
+ * behaves as before.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ConnectionConfig connection = ConnectionConfig.builder()
+ *     .maxIdleConnections(20)
+ *     .keepAlive(60000L)          // 1 minute
+ *     .maxRequests(256)
+ *     .maxRequestsPerHost(64)     // all SDK requests go to one host
+ *     .build();
+ *
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .connection(connection)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code maxIdleConnections}: {@code 5}</li>
+ *   <li>{@code keepAlive}: {@code 300000} milliseconds (5 minutes)</li>
+ *   <li>{@code maxRequests}: {@code 64}</li>
+ *   <li>{@code maxRequestsPerHost}: {@code 5}</li>
+ *   <li>{@code http2}: {@code true} (negotiated over TLS, HTTP/1.1 otherwise)</li>
+ *   <li>{@code okHttpClient}: none</li>
+ *   <li>{@code executor}: none (OkHttp's own cached thread pool)</li>
+ * </ul>
+ *
+ * <p><b>Sharing:</b> Several SDK instances can share one connection pool and
+ * dispatcher by passing the same {@link OkHttpClient}. The SDK derives its
+ * client from the shared one with {@link OkHttpClient#newBuilder()}, so the
+ * pool, dispatcher and protocols of the shared client are used and the pool,
+ * dispatcher, protocol and executor settings of this class are ignored. An
+ * {@link ExecutorService} alone runs the asynchronous calls of the SDK on an
+ * application-owned executor. The SDK never shuts down an injected client or
+ * executor.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see com.dinoconfig.sdk.model.DinoConfigSDKConfig#getConnection()
+ */
+public final class ConnectionConfig {
+
+    /** Default maximum number of idle connections kept in the pool */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /** Default time an idle connection is kept alive in milliseconds */
+    public static final long DEFAULT_KEEP_ALIVE = 300000L;
+
+    /** Default maximum number of concurrent asynchronous requests */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /** Default maximum number of concurrent asynchronous requests per host */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    private final int maxIdleConnections;
+    private final long keepAlive;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final boolean http2;
+    private final OkHttpClient okHttpClient;
+    private final ExecutorService executor;
+
+    private ConnectionConfig(Builder builder) {
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAlive = builder.keepAlive;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.http2 = builder.http2;
+        this.okHttpClient = builder.okHttpClient;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with the default settings.
+     *
+     * @return Default connection configuration
+     */
+    public static ConnectionConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns the maximum number of idle connections kept in the pool.
+     *
+     * @return Maximum idle connections
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Returns how long an idle connection is kept in the pool.
+     *
+     * @return Keep-alive duration in milliseconds
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Returns the maximum number of asynchronous requests executed concurrently.
+     *
+     * @return Maximum concurrent requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Returns the maximum number of asynchronous requests executed concurrently
+     * against a single host.
+     *
+     * @return Maximum concurrent requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Returns whether HTTP/2 may be negotiated.
+     *
+     * @return true if HTTP/2 is preferred, false to use HTTP/1.1 only
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Returns the shared client the SDK client is derived from.
+     *
+     * @return The shared client, or {@code null} if the SDK creates its own
+     */
+    public OkHttpClient getOkHttpClient() {
+        return okHttpClient;
+    }
+
+    /**
+     * Returns the executor that runs asynchronous calls.
+     *
+     * @return The executor, or {@code null} for OkHttp's default
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConnectionConfig that = (ConnectionConfig) o;
+        return maxIdleConnections == that.maxIdleConnections
+                && keepAlive == that.keepAlive
+                && maxRequests == that.maxRequests
+                && maxRequestsPerHost == that.maxRequestsPerHost
+                && http2 == that.http2
+                && Objects.equals(okHttpClient, that.okHttpClient)
+                && Objects.equals(executor, that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxIdleConnections, keepAlive, maxRequests, maxRequestsPerHost, http2, okHttpClient, executor);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionConfig{" +
+                "maxIdleConnections=" + maxIdleConnections +
+                ", keepAlive=" + keepAlive +
+                ", maxRequests=" + maxRequests +
+                ", maxRequestsPerHost=" + maxRequestsPerHost +
+                ", http2=" + http2 +
+                ", okHttpClient=" + (okHttpClient != null ? "shared" : "none") +
+                ", executor=" + (executor != null ? "custom" : "default") +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating ConnectionConfig instances.
+     */
+    public static final class Builder {
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAlive = DEFAULT_KEEP_ALIVE;
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+        private boolean http2 = true;
+        private OkHttpClient okHttpClient;
+        private ExecutorService executor;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool.
+         *
+         * @param maxIdleConnections Maximum idle connections, zero to disable pooling
+         * @return This builder
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept in the pool.
+         *
+         * @param keepAlive Keep-alive duration in milliseconds
+         * @return This builder
+         */
+        public Builder keepAlive(long keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executed concurrently.
+         * Further requests are queued.
+         *
+         * @param maxRequests Maximum concurrent requests
+         * @return This builder
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executed concurrently
+         * against a single host. Since all SDK requests go to the DinoConfig API,
+         * this bounds the concurrency of asynchronous and batch calls.
+         *
+         * @param maxRequestsPerHost Maximum concurrent requests per host
+         * @return This builder
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets whether HTTP/2 may be negotiated.
+         *
+         * @param http2 true to prefer HTTP/2, false to use HTTP/1.1 only
+         * @return This builder
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Sets a shared client to derive the SDK client from.
+         *
+         * @param okHttpClient The shared client, or {@code null} to create a new one
+         * @return This builder
+         */
+        public Builder okHttpClient(OkHttpClient okHttpClient) {
+            this.okHttpClient = okHttpClient;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs asynchronous calls.
+         *
+         * @param executor The executor, or {@code null} for OkHttp's default
+         * @return This builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the ConnectionConfig instance.
+         *
+         * @return New ConnectionConfig instance
+         * @throws IllegalArgumentException if maxIdleConnections is negative, or
+         *         keepAlive, maxRequests or maxRequestsPerHost is not positive
+         */
+        public ConnectionConfig build() {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("Max idle connections cannot be negative");
+            }
+            if (keepAlive <= 0) {
+                throw new IllegalArgumentException("Keep-alive must be positive");
+            }
+            if (maxRequests <= 0) {
+                throw new IllegalArgumentException("Max requests must be positive");
+            }
+            if (maxRequestsPerHost <= 0) {
+                throw new IllegalArgumentException("Max requests per host must be positive");
+            }
+            return new ConnectionConfig(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when and how often GET requests are hedged.
+ *
+ * <p>The hedge delay is the configured percentile of the most recent response
+ * latencies, recomputed every {@value #RECOMPUTE_INTERVAL} samples so that
+ * sorting stays off the common path. Hedges are paid for from a token bucket
+ * that every hedgeable request fills by {@code maxHedgeRatio}, which keeps the
+ * extra load at or below that ratio while still allowing short bursts.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see HedgingConfig
+ */
+final class Hedger {
+
+    /** Number of recent latencies the percentile is computed over */
+    private static final int WINDOW_SIZE = 256;
+
+    /** Number of new samples after which the delay is recomputed */
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    /** Maximum number of hedges that may be sent in a burst */
+    private static final long MAX_BURST = 10;
+
+    /** Tokens are tracked in thousandths of a hedge */
+    private static final long SCALE = 1000;
+
+    private final HedgingConfig config;
+    private final long minDelayNanos;
+    private final long tokensPerRequest;
+
+    /** Ring buffer of recent latencies in nanoseconds */
+    private final long[] latencies;
+    private int next;
+    private int recorded;
+    private int sinceRecompute;
+
+    /** Current hedge delay in nanoseconds, {@code -1} until enough samples exist */
+    private volatile long delayNanos = -1L;
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    Hedger(HedgingConfig config) {
+        this.config = config;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getMinDelay());
+        this.tokensPerRequest = Math.max(1L, Math.round(config.getMaxHedgeRatio() * SCALE));
+        this.latencies = new long[Math.max(WINDOW_SIZE, config.getMinSamples())];
+    }
+
+    /**
+     * Returns whether requests may be hedged.
+     */
+    boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Registers a hedgeable request and returns the delay after which it should
+     * be hedged.
+     *
+     * @return Delay in nanoseconds, or {@code -1} if too few latencies were observed
+     */
+    long onRequest() {
+        tokens.updateAndGet(current -> Math.min(MAX_BURST * SCALE, current + tokensPerRequest));
+        return delayNanos;
+    }
+
+    /**
+     * Takes one hedge from the budget.
+     *
+     * @return true if a hedge may be sent
+     */
+    boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Records the latency of a hedgeable request.
+     *
+     * @param nanos Time from sending the request until the first response
+     */
+    void record(long nanos) {
+        long[] snapshot = null;
+        synchronized (this) {
+            latencies[next] = nanos;
+            next = (next + 1) % latencies.length;
+            if (recorded < latencies.length) {
+                recorded++;
+            }
+            if (recorded >= config.getMinSamples()
+                    && (delayNanos < 0 || ++sinceRecompute >= RECOMPUTE_INTERVAL)) {
+                sinceRecompute = 0;
+                snapshot = Arrays.copyOf(latencies, recorded);
+            }
+        }
+        if (snapshot != null) {
+            // Sort outside the lock; a concurrent recompute may win, which is harmless
+            Arrays.sort(snapshot);
+            int index = (int) Math.ceil(config.getPercentile() * snapshot.length) - 1;
+            delayNanos = Math.max(minDelayNanos, snapshot[Math.max(0, index)]);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.Objects;
+
+/**
+ * Configuration options for hedged GET requests.
+ *
+ * <p>With hedging enabled, a GET request that has not been answered after the
+ * {@code percentile} latency of recent requests is sent a second time; the
+ * first response wins and the other call is cancelled. This cuts the tail
+ * latency caused by an occasional slow backend node.
+ *
+ * <p>Hedges are limited to {@code maxHedgeRatio} of all GET requests, so
+ * hedging adds at most that fraction of load, and no hedges are sent until
+ * {@code minSamples} latencies have been observed. Instances are immutable
+ * and created through {@link #builder()}. Hedging is disabled by default.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .hedging(HedgingConfig.builder()
+ *         .enabled(true)
+ *         .percentile(0.95)
+ *         .maxHedgeRatio(0.05)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code enabled}: {@code false}</li>
+ *   <li>{@code percentile}: {@code 0.95}</li>
+ *   <li>{@code minDelay}: {@code 10} milliseconds</li>
+ *   <li>{@code maxHedgeRatio}: {@code 0.05} (at most 5% extra requests)</li>
+ *   <li>{@code minSamples}: {@code 20}</li>
+ * </ul>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class HedgingConfig {
+
+    /** Default latency percentile after which a hedge is sent */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /** Default lower bound of the hedge delay in milliseconds */
+    public static final long DEFAULT_MIN_DELAY = 10L;
+
+    /** Default maximum number of hedges per GET request */
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+
+    /** Default number of observed latencies required before hedging */
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelay;
+    private final double maxHedgeRatio;
+    private final int minSamples;
+
+    private HedgingConfig(Builder builder) {
+        this.enabled = builder.enabled;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.maxHedgeRatio = builder.maxHedgeRatio;
+        this.minSamples = builder.minSamples;
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with hedging disabled.
+     *
+     * @return Disabled hedging configuration
+     */
+    public static HedgingConfig disabled() {
+        return builder().build();
+    }
+
+    /**
+     * Returns whether GET requests are hedged.
+     *
+     * @return true if hedging is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the latency percentile after which a hedge is sent.
+     *
+     * @return Percentile in the range (0, 1)
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the lower bound of the hedge delay.
+     *
+     * @return Minimum delay in milliseconds
+     */
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Returns the maximum number of hedges sent per GET request.
+     *
+     * @return Ratio in the range (0, 1]
+     */
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    /**
+     * Returns the number of latencies observed before hedging starts.
+     *
+     * @return Minimum number of samples
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HedgingConfig that = (HedgingConfig) o;
+        return enabled == that.enabled
+                && Double.compare(percentile, that.percentile) == 0
+                && minDelay == that.minDelay
+                && Double.compare(maxHedgeRatio, that.maxHedgeRatio) == 0
+                && minSamples == that.minSamples;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, percentile, minDelay, maxHedgeRatio, minSamples);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingConfig{" +
+                "enabled=" + enabled +
+                ", percentile=" + percentile +
+                ", minDelay=" + minDelay +
+                ", maxHedgeRatio=" + maxHedgeRatio +
+                ", minSamples=" + minSamples +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating HedgingConfig instances.
+     */
+    public static final class Builder {
+        private boolean enabled = false;
+        private double percentile = DEFAULT_PERCENTILE;
+        private long minDelay = DEFAULT_MIN_DELAY;
+        private double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+        private int minSamples = DEFAULT_MIN_SAMPLES;
+
+        private Builder() {}
+
+        /**
+         * Sets whether GET requests are hedged.
+         *
+         * @param enabled true to enable hedging
+         * @return This builder
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the latency percentile after which a hedge is sent.
+         *
+         * @param percentile Percentile in the range (0, 1), e.g. {@code 0.95}
+         * @return This builder
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the lower bound of the hedge delay.
+         *
+         * @param minDelay Minimum delay in milliseconds
+         * @return This builder
+         */
+        public Builder minDelay(long minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hedges sent per GET request.
+         *
+         * @param maxHedgeRatio Ratio in the range (0, 1]
+         * @return This builder
+         */
+        public Builder maxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * Sets the number of latencies observed before hedging starts.
+         *
+         * @param minSamples Minimum number of samples
+         * @return This builder
+         */
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Builds the HedgingConfig instance.
+         *
+         * @return New HedgingConfig instance
+         * @throws IllegalArgumentException if percentile is outside (0, 1),
+         *         maxHedgeRatio is outside (0, 1], minDelay is negative or
+         *         minSamples is not positive
+         */
+        public HedgingConfig build() {
+            if (!(percentile > 0 && percentile < 1)) {
+                throw new IllegalArgumentException("Hedging percentile must be in (0, 1)");
+            }
+            if (minDelay < 0) {
+                throw new IllegalArgumentException("Hedging min delay cannot be negative");
+            }
+            if (!(maxHedgeRatio > 0 && maxHedgeRatio <= 1)) {
+                throw new IllegalArgumentException("Max hedge ratio must be in (0, 1]");
+            }
+            if (minSamples <= 0) {
+                throw new IllegalArgumentException("Hedging min samples must be positive");
+            }
+            return new HedgingConfig(this);
+        }
+    }
+}
@@ -5,26 +5,54 @@
  */
 package com.dinoconfig.sdk.http;
 
+import com.dinoconfig.sdk.jfr.HttpAttemptEvent;
+import com.dinoconfig.sdk.jfr.JsonMappingEvent;
+import com.dinoconfig.sdk.jfr.RetryBackoffEvent;
+import com.dinoconfig.sdk.jfr.TokenExchangeEvent;
+import com.dinoconfig.sdk.metrics.MetricsRecorder;
 import com.dinoconfig.sdk.model.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import okhttp3.*;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * HTTP client for making requests to the DinoConfig API.
  * 
  * <p>This class handles all HTTP communication with the DinoConfig API, including:
  * <ul>
- *   <li>API key to token exchange</li>
+ *   <li>API key to token exchange and proactive token renewal</li>
  *   <li>Authorization header management</li>
  *   <li>Request/response JSON serialization</li>
- *   <li>Timeout handling</li>
- *   <li>Retry logic with exponential backoff</li>
+ *   <li>Per-call deadlines for connect, read, write and total call time</li>
+ *   <li>Retries with jittered backoff, {@code Retry-After} and a retry budget</li>
+ *   <li>A circuit breaker that fails fast while the API is unhealthy</li>
+ *   <li>An adaptive limit on concurrent requests</li>
+ *   <li>Request, retry and token metrics through a {@link MetricsRecorder}</li>
+ *   <li>Network phase timings and connection reuse statistics</li>
+ *   <li>JDK Flight Recorder events for attempts, backoffs, token exchanges and JSON mapping</li>
+ *   <li>Optional hedging of slow GET requests</li>
+ *   <li>Non-blocking asynchronous requests</li>
+ *   <li>Coalescing of concurrent identical GET requests</li>
  * </ul>
  * 
  * <p><b>Note:</b> This class is intended for internal use by the SDK.
@@ -38,7 +66,10 @@ import java.util.concurrent.TimeUnit;
  * @version 2.0.0
  * @since 1.0.0
  */
-public class HttpClient {
+public class HttpClient implements AutoCloseable {
+    
+    /** Path segment preceding the brand name in API endpoints */
+    private static final String BRANDS_SEGMENT = "/brands/";
     
     /** Base URL for all API requests */
     private final String baseUrl;
@@ -52,8 +83,55 @@ public class HttpClient {
     /** Jackson ObjectMapper for JSON serialization/deserialization */
     private final ObjectMapper objectMapper;
     
-    /** Default headers included in every request */
-    private Map<String, String> defaultHeaders;
+    /** Reader for untyped responses (Map, List, or primitive) */
+    private final ObjectReader untypedReader;
+    
+    /** Readers for typed responses, created once per target class */
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    
+    /**
+     * Default headers included in every request. The snapshot is immutable and
+     * replaced atomically on every change, so requests read it without locking
+     * or copying while the token is rotated concurrently.
+     */
+    private final AtomicReference<Headers> defaultHeaders = new AtomicReference<>(Headers.of());
+    
+    /** Timer for scheduling asynchronous retries without blocking a thread */
+    private final ScheduledExecutorService retryScheduler;
+    
+    /** Classifies failures and computes retry delays */
+    private final RetryPolicy retryPolicy;
+    
+    /** Limits retries across all requests of this client */
+    private final RetryBudget retryBudget;
+    
+    /** Fails fast while the API is unhealthy */
+    private final CircuitBreaker circuitBreaker;
+    
+    /** Decides when GET requests are hedged */
+    private final Hedger hedger;
+    
+    /** Bounds the number of requests in flight */
+    private final ConcurrencyLimiter concurrencyLimiter;
+    
+    /** Receives request, retry and token metrics */
+    private final MetricsRecorder metrics;
+    
+    /** Times the network phases of every call */
+    private final NetworkStatsListener networkStats;
+    
+    /** Single-flight layer shared by all GET requests */
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    
+    /** Renews the access token; {@code null} until authorization is configured */
+    private volatile TokenManager tokenManager;
+    
+    /** Whether the dispatcher and connection pool were created by this client */
+    private final boolean ownsDispatcher;
+    private final boolean ownsConnectionPool;
+    
+    /** Set by {@link #close()}; new requests fail once it is set */
+    private volatile boolean closed;
     
     /**
      * Creates a new HttpClient instance.
@@ -62,20 +140,81 @@ public class HttpClient {
      * @param timeout Default request timeout in milliseconds
      */
     public HttpClient(String baseUrl, Long timeout) {
+        this(new DinoConfigSDKConfig(null, baseUrl, timeout));
+    }
+    
+    /**
+     * Creates a new HttpClient instance from the SDK configuration.
+     * 
+     * <p>Uses the base URL, timeout, connection, retry, circuit breaker,
+     * hedging, concurrency limit and metrics settings of {@code config}; the API key is passed separately to
+     * {@link #configureAuthorizationHeader(Map)}.
+     * 
+     * @param config The SDK configuration
+     */
+    public HttpClient(DinoConfigSDKConfig config) {
+        long timeout = config.getTimeout();
         // Remove trailing slash to prevent double slashes in URLs
-        this.baseUrl = baseUrl.replaceAll("/$", "");
+        this.baseUrl = config.getBaseUrl().replaceAll("/$", "");
         this.defaultTimeout = timeout;
+        this.retryPolicy = config.getRetryPolicy();
+        this.retryBudget = config.getRetryBudget() != null ? config.getRetryBudget() : RetryBudget.defaults();
+        this.circuitBreaker = new CircuitBreaker(config.getCircuitBreaker());
+        this.hedger = new Hedger(config.getHedging());
+        this.metrics = config.getMetricsRecorder();
         this.objectMapper = new ObjectMapper();
         // Register JavaTimeModule for Java 8 date/time types support
         this.objectMapper.registerModule(new JavaTimeModule());
-        this.defaultHeaders = new HashMap<>();
+        this.untypedReader = objectMapper.readerFor(Object.class);
+        // Also times hedges and queued requests, which only enqueue a call or fail a future
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dinoconfig-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.concurrencyLimiter = new ConcurrencyLimiter(config.getConcurrencyLimit(), retryScheduler);
+        OkHttpClient shared = config.getConnection().getOkHttpClient();
+        this.ownsConnectionPool = shared == null;
+        this.ownsDispatcher = shared == null && config.getConnection().getExecutor() == null;
+        this.networkStats = new NetworkStatsListener(shared != null ? shared.eventListenerFactory() : null);
         
-        // Configure OkHttpClient with connect timeout only
-        this.client = new OkHttpClient.Builder()
+        // The default timeout bounds every phase and the whole call; requests
+        // with a custom timeout override it per call through the interceptor
+        this.client = clientBuilder(config.getConnection())
+                .eventListenerFactory(networkStats)
                 .connectTimeout(timeout, TimeUnit.MILLISECONDS)
+                .readTimeout(timeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(timeout, TimeUnit.MILLISECONDS)
+                .callTimeout(timeout, TimeUnit.MILLISECONDS)
+                .addInterceptor(HttpClient::applyTimeout)
                 .build();
     }
     
+    /**
+     * Returns a builder for the SDK client. A shared client is reused through
+     * {@link OkHttpClient#newBuilder()}, which keeps its pool and dispatcher.
+     */
+    private static OkHttpClient.Builder clientBuilder(ConnectionConfig connection) {
+        if (connection.getOkHttpClient() != null) {
+            return connection.getOkHttpClient().newBuilder();
+        }
+        
+        Dispatcher dispatcher = connection.getExecutor() != null
+                ? new Dispatcher(connection.getExecutor())
+                : new Dispatcher();
+        dispatcher.setMaxRequests(connection.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(connection.getMaxRequestsPerHost());
+        
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(connection.getMaxIdleConnections(),
+                        connection.getKeepAlive(), TimeUnit.MILLISECONDS));
+        if (!connection.isHttp2()) {
+            builder.protocols(List.of(Protocol.HTTP_1_1));
+        }
+        return builder;
+    }
+    
     /**
      * Returns the ObjectMapper used for JSON serialization/deserialization.
      * Useful for API classes that need to perform additional conversions.
@@ -86,6 +225,47 @@ public class HttpClient {
         return objectMapper;
     }
     
+    /**
+     * Returns the circuit breaker guarding requests to the API.
+     * 
+     * @return The circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+    
+    /**
+     * Returns the limiter bounding concurrent requests to the API.
+     * 
+     * @return The concurrency limiter
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+    
+    /**
+     * Returns the network phase timings and connection reuse of the calls
+     * made so far.
+     * 
+     * @return Statistics snapshot
+     */
+    public NetworkStats getNetworkStats() {
+        return networkStats.getStats();
+    }
+    
+    /**
+     * Returns a cached {@link ObjectReader} for the given type.
+     * 
+     * <p>Readers are immutable and thread-safe; caching them avoids resolving the
+     * root deserializer on every response.
+     * 
+     * @param type The target class
+     * @return The reader for {@code type}
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+    
     /**
      * Configures authorization by exchanging the API key for an access token.
      * 
@@ -94,37 +274,83 @@ public class HttpClient {
      *   <li>Extracts the API key from the provided headers</li>
      *   <li>Exchanges it for a JWT access token</li>
      *   <li>Configures the Authorization header for subsequent requests</li>
+     *   <li>Starts renewing the token in the background before it expires</li>
      * </ol>
      * 
+     * <p>A request rejected with {@code 401 Unauthorized} is replayed once with
+     * a renewed token; concurrent rejections share a single exchange.
+     * 
      * @param headers Headers containing the X-API-Key
      * @throws IOException if the token exchange fails
      * @throws IllegalArgumentException if X-API-Key header is missing
      */
     public void configureAuthorizationHeader(Map<String, String> headers) throws IOException {
+        createTokenManager(headers).start();
+    }
+    
+    /**
+     * Configures authorization without waiting for the token exchange.
+     * 
+     * <p>The exchange runs on a background thread. Network errors and transient
+     * server errors ({@code 5xx}, {@code 408}, {@code 429}) are retried with
+     * backoff until the exchange succeeds. Requests sent before a token is
+     * available are rejected by the server and replayed once the exchange
+     * completes.
+     * 
+     * @param headers Headers containing the X-API-Key
+     * @return Future completed when the first token is available, or completed
+     *         exceptionally with {@link AuthenticationException} once the API
+     *         rejects the API key, which is not retried
+     * @throws IllegalArgumentException if X-API-Key header is missing
+     * @see #configureAuthorizationHeader(Map)
+     */
+    public CompletableFuture<Void> configureAuthorizationHeaderAsync(Map<String, String> headers) {
+        return createTokenManager(headers).startAsync().thenApply(token -> null);
+    }
+    
+    /**
+     * Installs the default headers for the given API key headers and the
+     * token manager that maintains the Authorization header, closing the
+     * manager it replaces.
+     */
+    private synchronized TokenManager createTokenManager(Map<String, String> headers) {
         String apiKey = headers.get("X-API-Key");
         if (apiKey == null) {
             throw new IllegalArgumentException("X-API-Key header is required");
         }
         
-        String token = exchangeApiKeyForToken(apiKey);
-
-        this.defaultHeaders = new HashMap<>();
-        this.defaultHeaders.put("Content-Type", "application/json");
-        this.defaultHeaders.put("Authorization", "Bearer " + token);
-        this.defaultHeaders.putAll(headers);
+        Headers.Builder snapshot = new Headers.Builder()
+                .set("Content-Type", "application/json");
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            snapshot.set(entry.getKey(), entry.getValue());
+        }
+        defaultHeaders.set(snapshot.build());
+        
+        TokenManager manager = new TokenManager(() -> exchangeApiKeyForToken(apiKey), this::setToken);
+        TokenManager previous = this.tokenManager;
+        this.tokenManager = manager;
+        if (previous != null) {
+            previous.close();
+        }
+        return manager;
     }
     
     /**
      * Exchanges an API key for a JWT access token.
      * 
      * <p>Makes a POST request to the token exchange endpoint with the API key
-     * and returns the access token from the response.
+     * and returns the access token and its lifetime from the response.
      * 
      * @param apiKey The API key to exchange
-     * @return The JWT access token
-     * @throws IOException if the exchange fails or the API key is invalid
+     * @return The exchange response carrying the JWT access token
+     * @throws AuthenticationException if the API rejects the API key
+     * @throws IOException if the exchange fails
      */
-    private String exchangeApiKeyForToken(String apiKey) throws IOException {
+    private TokenExchangeResponse exchangeApiKeyForToken(String apiKey) throws IOException {
+        TokenExchangeEvent event = TokenExchangeEvent.start();
+        long start = System.nanoTime();
+        boolean success = false;
+        long bytes = -1L;
         try {
             RequestBody body = RequestBody.create("", MediaType.get("application/json"));
             Request request = new Request.Builder()
@@ -134,10 +360,15 @@ public class HttpClient {
                     .addHeader("x-api-key", apiKey)
                     .build();
             
-            try (Response response = client.newCall(request).execute()) {
+            try (Response response = newCall(request).execute()) {
+                bytes = response.body() != null ? response.body().contentLength() : -1L;
                 if (!response.isSuccessful()) {
                     String errorBody = response.body() != null ? response.body().string() : "";
-                    throw new IOException("Failed to exchange API key for token: " + response.code() + " " + errorBody);
+                    String message = "Failed to exchange API key for token: " + response.code() + " " + errorBody;
+                    if (isRejection(response.code())) {
+                        throw new AuthenticationException(message, response.code());
+                    }
+                    throw new IOException(message);
                 }
                 
                 if (response.body() == null) {
@@ -145,15 +376,31 @@ public class HttpClient {
                 }
                 
                 String responseBody = response.body().string();
-                TokenExchangeResponse tokenResponse = objectMapper.readValue(responseBody, TokenExchangeResponse.class);
-                
-                return tokenResponse.getAccessToken();
+                TokenExchangeResponse exchange = objectMapper.readValue(responseBody, TokenExchangeResponse.class);
+                success = true;
+                return exchange;
             }
+        } catch (AuthenticationException e) {
+            throw e;
         } catch (Exception e) {
             throw new IOException("Failed to authenticate with API key: " + e.getMessage(), e);
+        } finally {
+            metrics.recordTokenRefresh(success, System.nanoTime() - start);
+            if (event != null) {
+                event.report(success, bytes);
+            }
         }
     }
     
+    /**
+     * Returns whether a failed exchange status rejects the API key itself.
+     * Client errors other than {@code 408} and {@code 429} do not go away by
+     * retrying; server errors and throttling do.
+     */
+    private static boolean isRejection(int status) {
+        return status >= 400 && status < 500 && status != 408 && status != 429;
+    }
+    
     /**
      * Makes a generic HTTP request to the API and returns the raw response data.
      * 
@@ -163,7 +410,7 @@ public class HttpClient {
      *   <li>Custom timeouts per request</li>
      *   <li>Response parsing</li>
      *   <li>Error handling</li>
-     *   <li>Retry logic with exponential backoff</li>
+     *   <li>Retries as decided by the {@link RetryPolicy} and {@link RetryBudget}</li>
      * </ul>
      * 
      * @param method HTTP method (GET, POST, PUT, PATCH, DELETE)
@@ -175,120 +422,610 @@ public class HttpClient {
      * @throws ApiError if the API returns an error response
      */
     private Object request(String method, String endpoint, Object data, RequestOptions options) throws IOException {
-        String url = baseUrl + endpoint;
-        Long timeout = options != null && options.getTimeout() != null ? options.getTimeout() : defaultTimeout;
+        return execute(method, endpoint, data, options, null, response -> response.read(untypedReader));
+    }
+    
+    /**
+     * Executes an HTTP request with retries and maps the response while it is open.
+     * 
+     * <p>When {@code etag} is given it is sent as {@code If-None-Match}, and a
+     * {@code 304 Not Modified} answer is passed to the mapper as a successful,
+     * body-less response. The mapper reads the body straight from the connection.
+     * 
+     * <p>With hedging enabled, GET requests run through
+     * {@link #executeAsync(String, String, Object, RequestOptions, String, ResponseMapper)},
+     * since a hedge needs a second call in flight while the caller waits.
+     * 
+     * @param <T> The mapped result type
+     * @param method HTTP method (GET, POST, PUT, PATCH, DELETE)
+     * @param endpoint API endpoint path
+     * @param data Request body data (for POST, PUT, PATCH)
+     * @param options Request customization options
+     * @param etag Entity tag of the cached representation, or {@code null}
+     * @param mapper Maps the open response into the result
+     * @return The mapped result
+     * @throws IOException if a network error occurs
+     * @throws ApiError if the API returns an error response
+     */
+    private <T> T execute(String method, String endpoint, Object data, RequestOptions options, String etag,
+                          ResponseMapper<T> mapper) throws IOException {
+        if (hedger.isEnabled() && method.equals("GET")) {
+            return await(executeAsync(method, endpoint, data, options, etag, mapper));
+        }
         Integer retries = options != null && options.getRetries() != null ? options.getRetries() : 0;
+        Request request = buildRequest(method, endpoint, data, options, etag);
         
         Exception lastError = null;
         
         // Attempt the request with retries
         for (int attempt = 0; attempt <= retries; attempt++) {
+            if (closed) {
+                throw closedException();
+            }
+            long permit = circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.NO_PERMIT) {
+                throw circuitOpen();
+            }
             try {
-                Request.Builder requestBuilder = new Request.Builder()
-                        .url(url);
-                
-                // Merge headers
-                Map<String, String> headers = new HashMap<>(defaultHeaders);
-                if (options != null && options.getHeaders() != null) {
-                    headers.putAll(options.getHeaders());
-                }
-                
-                for (Map.Entry<String, String> entry : headers.entrySet()) {
-                    requestBuilder.addHeader(entry.getKey(), entry.getValue());
-                }
-                
-                // Set method and body
-                RequestBody body = null;
-                if (data != null && (method.equals("POST") || method.equals("PUT") || method.equals("PATCH"))) {
-                    String jsonData = objectMapper.writeValueAsString(data);
-                    body = RequestBody.create(jsonData, MediaType.get("application/json"));
-                }
-                
-                switch (method.toUpperCase()) {
-                    case "GET":
-                        requestBuilder.get();
-                        break;
-                    case "POST":
-                        requestBuilder.post(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    case "PUT":
-                        requestBuilder.put(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    case "PATCH":
-                        requestBuilder.patch(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
-                        break;
-                    case "DELETE":
-                        requestBuilder.delete();
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Unsupported HTTP method: " + method);
-                }
-                
-                Request request = requestBuilder.build();
-                
-                // Create client with custom timeout if specified
-                OkHttpClient requestClient = client;
-                if (timeout != null && !timeout.equals(defaultTimeout)) {
-                    requestClient = client.newBuilder()
-                            .connectTimeout(timeout, TimeUnit.MILLISECONDS)
-                            .build();
-                }
-                
-                try (Response response = requestClient.newCall(request).execute()) {
-                    String responseBody = response.body() != null ? response.body().string() : "";
-                    
-                    if (!response.isSuccessful()) {
-                        ApiError apiError;
-                        try {
-                            apiError = objectMapper.readValue(responseBody, ApiError.class);
-                        } catch (Exception e) {
-                            apiError = new ApiError(responseBody.isEmpty() ? response.message() : responseBody, response.code());
-                        }
-                        throw apiError;
-                    }
-                    
-                    // Parse and return raw data
-                    if (responseBody.isEmpty()) {
-                        return null;
-                    }
-                    
-                    return objectMapper.readValue(responseBody, Object.class);
-                }
-                
-            } catch (ApiError e) {
-                // Don't retry on authentication errors or client errors (4xx)
-                if (e.getStatus() >= 400 && e.getStatus() < 500) {
-                    throw e;
-                }
-                lastError = e;
+                await(concurrencyLimiter.acquire());
             } catch (IOException e) {
-                lastError = e;
+                circuitBreaker.release(permit);
+                throw e;
+            }
+            HttpAttemptEvent event = HttpAttemptEvent.start();
+            long start = System.nanoTime();
+            Response response = null;
+            try {
+                response = send(request);
+                T result = mapper.map(handleResponse(response, etag));
+                recordOutcome(request, attempt, permit, start, event, response, null);
+                retryBudget.onSuccess();
+                return result;
             } catch (Exception e) {
+                recordOutcome(request, attempt, permit, start, event, response, e);
                 lastError = e;
+            } finally {
+                if (response != null) {
+                    response.close();
+                }
             }
             
-            // Don't retry on last attempt
-            if (attempt == retries) {
+            long delay = retryDelay(lastError, attempt, retries);
+            if (delay < 0) {
                 break;
             }
+            metrics.recordRetry(request.method(), routeOf(request), attempt + 1);
             
-            // Exponential backoff: 1s, 2s, 4s, 8s, etc.
+            RetryBackoffEvent backoff = RetryBackoffEvent.start();
             try {
-                Thread.sleep((long) Math.pow(2, attempt) * 1000);
+                Thread.sleep(delay);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IOException("Request interrupted", e);
             }
+            if (backoff != null) {
+                backoff.report(request.method(), endpointOf(request), attempt + 1, lastError);
+            }
+        }
+        
+        Exception failure = toFailure(lastError);
+        if (failure instanceof ApiError) {
+            throw (ApiError) failure;
+        }
+        throw (IOException) failure;
+    }
+    
+    /**
+     * Executes an HTTP request asynchronously with retries.
+     * 
+     * <p>The call is dispatched with {@link Call#enqueue(Callback)} and retries are
+     * scheduled on a timer instead of sleeping, so no thread is blocked for the
+     * round trip or the backoff. The returned future completes exceptionally with
+     * {@link IOException} or {@link ApiError} under the same conditions as
+     * {@link #execute(String, String, Object, RequestOptions, String, ResponseMapper)}.
+     * The mapper runs on the OkHttp callback thread while the response is open.
+     * 
+     * @param <T> The mapped result type
+     * @param method HTTP method (GET, POST, PUT, PATCH, DELETE)
+     * @param endpoint API endpoint path
+     * @param data Request body data (for POST, PUT, PATCH)
+     * @param options Request customization options
+     * @param etag Entity tag of the cached representation, or {@code null}
+     * @param mapper Maps the open response into the result
+     * @return Future completed with the mapped result
+     */
+    private <T> CompletableFuture<T> executeAsync(String method, String endpoint, Object data, RequestOptions options, String etag,
+                                                  ResponseMapper<T> mapper) {
+        PendingRequest<T> future = new PendingRequest<>();
+        try {
+            int retries = options != null && options.getRetries() != null ? options.getRetries() : 0;
+            Request request = buildRequest(method, endpoint, data, options, etag);
+            attemptAsync(request, etag, mapper, 0, retries, false, future);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+    
+    /**
+     * Runs one asynchronous attempt and schedules the next one on failure.
+     * A {@code 401} is replayed once with a renewed token before it counts as failure.
+     */
+    private <T> void attemptAsync(Request request, String etag, ResponseMapper<T> mapper,
+                                  int attempt, int retries, boolean replayed, PendingRequest<T> future) {
+        if (future.isDone()) {
+            return;
+        }
+        if (closed) {
+            future.completeExceptionally(closedException());
+            return;
+        }
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.NO_PERMIT) {
+            future.completeExceptionally(circuitOpen());
+            return;
+        }
+        CompletableFuture<Void> slot = concurrencyLimiter.acquire();
+        future.track(slot);
+        slot.whenComplete((granted, error) -> {
+            if (error != null) {
+                circuitBreaker.release(permit);
+                future.completeExceptionally(error);
+            } else if (future.isDone()) {
+                // Cancelled while the slot was being granted
+                circuitBreaker.release(permit);
+                concurrencyLimiter.release();
+            } else {
+                sendAttempt(request, etag, mapper, attempt, permit, retries, replayed, future);
+            }
+        });
+    }
+    
+    /**
+     * Sends an attempt that holds a circuit breaker permit and a concurrency slot.
+     */
+    private <T> void sendAttempt(Request request, String etag, ResponseMapper<T> mapper, int attempt,
+                                 long permit, int retries, boolean replayed, PendingRequest<T> future) {
+        HttpAttemptEvent event = HttpAttemptEvent.start();
+        long start = System.nanoTime();
+        CompletableFuture<Response> exchange = sendAsync(request);
+        future.track(exchange);
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                if (exchange.isCancelled()) {
+                    circuitBreaker.release(permit);
+                    concurrencyLimiter.release();
+                    return;
+                }
+                Exception e = error instanceof Exception ? (Exception) error : new IOException(error);
+                recordOutcome(request, attempt, permit, start, event, null, e);
+                retryAsync(e, request, etag, mapper, attempt, retries, future);
+                return;
+            }
+            TokenManager manager = tokenManager;
+            if (response.code() == 401 && manager != null && !replayed) {
+                response.close();
+                recordOutcome(request, attempt, permit, start, event, response, null);
+                manager.renewAsync(bearerToken(request)).whenComplete((token, renewError) -> {
+                    Throwable cause = renewError instanceof CompletionException ? renewError.getCause() : renewError;
+                    if (cause != null) {
+                        retryAsync(cause instanceof Exception ? (Exception) cause : new IOException(cause),
+                                request, etag, mapper, attempt, retries, future);
+                    } else if (!future.isDone()) {
+                        attemptAsync(withToken(request, token), etag, mapper,
+                                attempt, retries, true, future);
+                    }
+                });
+                return;
+            }
+            try (response) {
+                T result = mapper.map(handleResponse(response, etag));
+                recordOutcome(request, attempt, permit, start, event, response, null);
+                retryBudget.onSuccess();
+                future.complete(result);
+            } catch (Exception e) {
+                recordOutcome(request, attempt, permit, start, event, response, e);
+                retryAsync(e, request, etag, mapper, attempt, retries, future);
+            }
+        });
+    }
+    
+    /**
+     * Schedules the next asynchronous attempt after a failed one, or fails the
+     * future if the error is final.
+     */
+    private <T> void retryAsync(Exception e, Request request, String etag, ResponseMapper<T> mapper,
+                                int attempt, int retries, PendingRequest<T> future) {
+        if (future.isDone()) {
+            return;
+        }
+        long delay = retryDelay(e, attempt, retries);
+        if (delay < 0) {
+            future.completeExceptionally(toFailure(e));
+            return;
+        }
+        metrics.recordRetry(request.method(), routeOf(request), attempt + 1);
+        RetryBackoffEvent backoff = RetryBackoffEvent.start();
+        try {
+            retryScheduler.schedule(() -> {
+                if (backoff != null) {
+                    backoff.report(request.method(), endpointOf(request), attempt + 1, e);
+                }
+                attemptAsync(request, etag, mapper, attempt + 1, retries, false, future);
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejected) {
+            future.completeExceptionally(closedException());
+        }
+    }
+    
+    /**
+     * Enqueues a call and completes the returned future with its response.
+     * 
+     * <p>A GET is hedged when hedging is enabled: if no response has arrived
+     * after the hedge delay and the hedge budget allows it, the same request is
+     * sent again. The first response wins and the other call is cancelled; the
+     * future fails only once every call sent has failed. Cancelling the future
+     * cancels all calls.
+     */
+    private CompletableFuture<Response> sendAsync(Request request) {
+        CompletableFuture<Response> exchange = new CompletableFuture<>();
+        boolean hedgeable = hedger.isEnabled() && request.method().equals("GET");
+        long start = System.nanoTime();
+        List<Call> calls = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        
+        Callback callback = new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                long elapsed = System.nanoTime() - start;
+                if (exchange.isDone()) {
+                    // Lost the race against the other call
+                    response.close();
+                    return;
+                }
+                if (hedgeable) {
+                    // Record before completing so the caller's next request sees the sample
+                    hedger.record(elapsed);
+                }
+                if (!exchange.complete(response)) {
+                    response.close();
+                    return;
+                }
+                for (Call other : calls) {
+                    if (other != call) {
+                        other.cancel();
+                    }
+                }
+            }
+            
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (pending.decrementAndGet() == 0) {
+                    exchange.completeExceptionally(e);
+                }
+            }
+        };
+        
+        Call primary = newCall(request);
+        calls.add(primary);
+        exchange.whenComplete((response, error) -> {
+            if (exchange.isCancelled()) {
+                calls.forEach(Call::cancel);
+            }
+        });
+        primary.enqueue(callback);
+        
+        long delay = hedgeable ? hedger.onRequest() : -1L;
+        if (delay >= 0) {
+            ScheduledFuture<?> timer;
+            try {
+                timer = retryScheduler.schedule(() -> {
+                    if (exchange.isDone() || !hedger.tryAcquire()) {
+                        return;
+                    }
+                    pending.incrementAndGet();
+                    Call hedge = newCall(request);
+                    calls.add(hedge);
+                    hedge.enqueue(callback);
+                    if (exchange.isDone()) {
+                        // The primary call completed while the hedge was being sent
+                        hedge.cancel();
+                    }
+                }, delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Closed while sending; the primary call goes out unhedged
+                return exchange;
+            }
+            exchange.whenComplete((response, error) -> timer.cancel(false));
+        }
+        return exchange;
+    }
+    
+    /**
+     * Waits for an asynchronous request, rethrowing its failure as the
+     * synchronous variant would.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Request failed: " + cause.getMessage(), cause);
+        }
+    }
+    
+    /**
+     * Executes a call, replaying it once with a renewed token if the server
+     * rejects the current one.
+     */
+    private Response send(Request request) throws IOException {
+        Response response = newCall(request).execute();
+        TokenManager manager = tokenManager;
+        if (response.code() != 401 || manager == null) {
+            return response;
+        }
+        response.close();
+        String token = manager.renew(bearerToken(request));
+        return newCall(withToken(request, token)).execute();
+    }
+    
+    /**
+     * Creates a call whose total duration is bounded by the request timeout.
+     */
+    private Call newCall(Request request) {
+        Call call = client.newCall(request);
+        RequestTag tag = request.tag(RequestTag.class);
+        if (tag != null) {
+            call.timeout().timeout(tag.timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return call;
+    }
+    
+    /**
+     * Applies the request timeout to the connect, read and write phases when
+     * it differs from the client default, without building a new client.
+     */
+    private static Response applyTimeout(Interceptor.Chain chain) throws IOException {
+        RequestTag tag = chain.request().tag(RequestTag.class);
+        if (tag != null) {
+            int millis = (int) Math.min(tag.timeoutMillis, Integer.MAX_VALUE);
+            if (chain.connectTimeoutMillis() != millis) {
+                chain = chain.withConnectTimeout(millis, TimeUnit.MILLISECONDS);
+            }
+            if (chain.readTimeoutMillis() != millis) {
+                chain = chain.withReadTimeout(millis, TimeUnit.MILLISECONDS);
+            }
+            if (chain.writeTimeoutMillis() != millis) {
+                chain = chain.withWriteTimeout(millis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return chain.proceed(chain.request());
+    }
+    
+    /**
+     * Returns the bearer token a request was sent with, or {@code null}.
+     */
+    private static String bearerToken(Request request) {
+        String authorization = request.header("Authorization");
+        return authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring("Bearer ".length())
+                : null;
+    }
+    
+    /**
+     * Returns a copy of the request carrying the given bearer token.
+     */
+    private static Request withToken(Request request, String token) {
+        return request.newBuilder().header("Authorization", "Bearer " + token).build();
+    }
+    
+    /**
+     * Builds the OkHttp request with merged headers and a JSON body.
+     */
+    private Request buildRequest(String method, String endpoint, Object data, RequestOptions options, String etag) throws IOException {
+        Long timeout = options != null && options.getTimeout() != null ? options.getTimeout() : defaultTimeout;
+        Request.Builder requestBuilder = new Request.Builder()
+                .url(baseUrl + endpoint)
+                .headers(defaultHeaders.get())
+                .tag(RequestTag.class, new RequestTag(endpoint, routeOf(endpoint), timeout));
+        
+        // Request-specific headers override the defaults
+        if (options != null && options.getHeaders() != null) {
+            for (Map.Entry<String, String> entry : options.getHeaders().entrySet()) {
+                requestBuilder.header(entry.getKey(), entry.getValue());
+            }
+        }
+        if (etag != null) {
+            requestBuilder.header("If-None-Match", etag);
+        }
+        
+        // Set method and body
+        RequestBody body = null;
+        if (data != null && (method.equals("POST") || method.equals("PUT") || method.equals("PATCH"))) {
+            String jsonData = objectMapper.writeValueAsString(data);
+            body = RequestBody.create(jsonData, MediaType.get("application/json"));
+        }
+        
+        switch (method.toUpperCase()) {
+            case "GET":
+                requestBuilder.get();
+                break;
+            case "POST":
+                requestBuilder.post(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
+                break;
+            case "PUT":
+                requestBuilder.put(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
+                break;
+            case "PATCH":
+                requestBuilder.patch(body != null ? body : RequestBody.create("", MediaType.get("application/json")));
+                break;
+            case "DELETE":
+                requestBuilder.delete();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        
+        return requestBuilder.build();
+    }
+    
+    /**
+     * Converts an HTTP response into a {@link ConditionalResponse}.
+     * 
+     * @throws ApiError if the response status is not successful
+     */
+    private ConditionalResponse handleResponse(Response response, String etag) throws IOException {
+        if (response.code() == 304) {
+            return ConditionalResponse.notModified(response.header("ETag", etag));
+        }
+        
+        if (!response.isSuccessful()) {
+            String responseBody = response.body() != null ? response.body().string() : "";
+            ApiError apiError;
+            try {
+                apiError = objectMapper.readValue(responseBody, ApiError.class);
+            } catch (Exception e) {
+                apiError = new ApiError(responseBody.isEmpty() ? response.message() : responseBody, response.code());
+            }
+            if (apiError.getStatus() == null) {
+                apiError.setStatus(response.code());
+            }
+            apiError.setRetryAfter(retryAfter(response));
+            throw apiError;
+        }
+        
+        return ConditionalResponse.of(response.code(), response.header("ETag"), response.body());
+    }
+    
+    /**
+     * Returns the delay before retrying a failed attempt, or {@code -1} if the
+     * error is not retryable, the attempts are used up, the retry budget is
+     * exhausted or the policy gives up.
+     */
+    private long retryDelay(Exception error, int attempt, int retries) {
+        if (!retryPolicy.isRetryable(error)) {
+            return -1L;
+        }
+        retryBudget.onFailure();
+        if (attempt >= retries || !retryBudget.canRetry()) {
+            return -1L;
         }
+        return retryPolicy.delay(attempt, error);
+    }
+    
+    /**
+     * Records the outcome of an attempt with the circuit breaker, the
+     * concurrency limiter, the metrics recorder and the attempt's JFR event.
+     * Only errors the retry policy considers transient count as failures.
+     * 
+     * @param permit The circuit breaker permit the attempt was sent with
+     * @param event The attempt's JFR event, or {@code null} if it is not recorded
+     * @param response The response, or {@code null} if none was received
+     */
+    private void recordOutcome(Request request, int attempt, long permit, long start, HttpAttemptEvent event,
+                               Response response, Exception error) {
+        long nanos = System.nanoTime() - start;
+        boolean failure = error != null && retryPolicy.isRetryable(error);
+        circuitBreaker.onResult(permit, nanos, failure);
+        concurrencyLimiter.onResult(nanos, failure);
         
-        if (lastError instanceof IOException) {
-            throw (IOException) lastError;
-        } else if (lastError instanceof ApiError) {
-            throw (ApiError) lastError;
+        int status = response != null ? response.code() : 0;
+        long bytes = response != null && response.body() != null ? response.body().contentLength() : -1L;
+        metrics.recordAttempt(request.method(), routeOf(request), status, nanos, bytes);
+        if (event != null) {
+            event.report(request.method(), endpointOf(request), attempt, status, bytes);
+        }
+    }
+    
+    /**
+     * Returns the API endpoint path a request was built for.
+     */
+    private static String endpointOf(Request request) {
+        RequestTag tag = request.tag(RequestTag.class);
+        return tag != null ? tag.endpoint : request.url().encodedPath();
+    }
+    
+    /**
+     * Returns the route template a request was built for, for use as a
+     * metrics tag.
+     */
+    private static String routeOf(Request request) {
+        RequestTag tag = request.tag(RequestTag.class);
+        return tag != null ? tag.route : routeOf(request.url().encodedPath());
+    }
+    
+    /**
+     * Replaces the brand, config and key names in an endpoint path with
+     * placeholders, e.g. {@code /api/sdk/brands/MyBrand/configs/AppSettings}
+     * becomes {@code /api/sdk/brands/{brand}/configs/{config}}, so the number
+     * of distinct routes stays bounded however many configs are read.
+     */
+    static String routeOf(String endpoint) {
+        int brands = endpoint.indexOf(BRANDS_SEGMENT);
+        if (brands < 0) {
+            return endpoint;
+        }
+        String[] segments = endpoint.substring(brands + BRANDS_SEGMENT.length()).split("/", 4);
+        StringBuilder route = new StringBuilder(endpoint.length())
+                .append(endpoint, 0, brands + BRANDS_SEGMENT.length())
+                .append("{brand}");
+        if (segments.length > 1) {
+            route.append('/').append(segments[1]);
+            if (segments.length > 2) {
+                route.append('/').append(segments[1].equals("configs") ? "{config}" : segments[2]);
+                if (segments.length > 3) {
+                    route.append('/').append(segments[1].equals("configs") ? "{key}" : segments[3]);
+                }
+            }
+        }
+        return route.toString();
+    }
+    
+    private static IOException closedException() {
+        return new IOException("HttpClient is closed");
+    }
+    
+    private CircuitBreakerOpenException circuitOpen() {
+        return new CircuitBreakerOpenException("Circuit breaker is open for " + baseUrl);
+    }
+    
+    /**
+     * Parses the {@code Retry-After} header, given in seconds or as an HTTP date.
+     * 
+     * @return The delay in milliseconds, or {@code null} if absent or malformed
+     */
+    private static Long retryAfter(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(value.trim())) * 1000L;
+        } catch (NumberFormatException e) {
+            Date date = response.headers().getDate("Retry-After");
+            return date != null ? Math.max(0L, date.getTime() - System.currentTimeMillis()) : null;
+        }
+    }
+    
+    /**
+     * Maps the last error of an exhausted retry loop to the exception to throw.
+     */
+    private Exception toFailure(Exception lastError) {
+        if (lastError instanceof IOException || lastError instanceof ApiError) {
+            return lastError;
         } else if (lastError != null) {
-            throw new IOException("Request failed after all retries: " + lastError.getMessage(), lastError);
+            return new IOException("Request failed after all retries: " + lastError.getMessage(), lastError);
         } else {
-            throw new IOException("Request failed after all retries");
+            return new IOException("Request failed after all retries");
         }
     }
     
@@ -301,11 +1038,14 @@ public class HttpClient {
      * @throws IOException if the request fails
      */
     public Object get(String endpoint, RequestOptions options) throws IOException {
-        return request("GET", endpoint, null, options);
+        return get(endpoint, Object.class, options);
     }
     
     /**
-     * Makes a GET request and converts the response to the specified type.
+     * Makes a GET request and reads the response directly into the specified type.
+     * 
+     * <p>The body is streamed from the connection into {@code responseType} in a
+     * single pass, without an intermediate {@code Map} or {@code String}.
      * 
      * @param <T> The expected response type
      * @param endpoint API endpoint path
@@ -315,8 +1055,128 @@ public class HttpClient {
      * @throws IOException if the request fails
      */
     public <T> T get(String endpoint, Class<T> responseType, RequestOptions options) throws IOException {
-        Object data = request("GET", endpoint, null, options);
-        return objectMapper.convertValue(data, responseType);
+        ObjectReader reader = readerFor(responseType);
+        return coalescer.execute(coalescingKey(endpoint, responseType.getName(), null, options),
+                () -> execute("GET", endpoint, null, options, null, response -> read(response, reader, endpoint, responseType)));
+    }
+    
+    /**
+     * Makes a non-blocking GET request and returns raw response data.
+     * 
+     * <p>The returned future completes exceptionally with {@link IOException}
+     * or {@link ApiError} when the request fails.
+     * 
+     * @param endpoint API endpoint path
+     * @param options Request customization options
+     * @return Future completed with the raw response data
+     */
+    public CompletableFuture<Object> getAsync(String endpoint, RequestOptions options) {
+        return getAsync(endpoint, Object.class, options);
+    }
+    
+    /**
+     * Makes a non-blocking GET request and reads the response directly into the specified type.
+     * 
+     * <p>Concurrent identical requests share one call. Cancelling the returned
+     * future only abandons this caller's interest; the shared call is cancelled
+     * once every caller waiting for it has cancelled.
+     * 
+     * @param <T> The expected response type
+     * @param endpoint API endpoint path
+     * @param responseType The class to deserialize to
+     * @param options Request customization options
+     * @return Future completed with the response data converted to the specified type
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> responseType, RequestOptions options) {
+        ObjectReader reader = readerFor(responseType);
+        return coalescer.executeAsync(coalescingKey(endpoint, responseType.getName(), null, options),
+                () -> executeAsync("GET", endpoint, null, options, null, response -> read(response, reader, endpoint, responseType)));
+    }
+    
+    /**
+     * Reads a response body into {@code type}, reporting the mapping as a JFR event.
+     */
+    private static <T> T read(ConditionalResponse response, ObjectReader reader, String endpoint,
+                              Class<T> type) throws IOException {
+        JsonMappingEvent event = JsonMappingEvent.start();
+        T value = response.read(reader);
+        if (event != null) {
+            event.reportEndpoint(endpoint, type, response.getContentLength());
+        }
+        return value;
+    }
+    
+    /**
+     * Makes a conditional GET request, sharing the mapped result with concurrent
+     * identical requests.
+     * 
+     * <p>If {@code etag} is non-null it is sent as {@code If-None-Match}. When the
+     * server answers {@code 304 Not Modified}, {@link ConditionalResponse#isNotModified()}
+     * is true and the mapper should reuse its cached representation.
+     * 
+     * <p>While a GET for the same endpoint, mapper, entity tag, headers, timeout
+     * and retry count is in flight, further callers do not send their own request;
+     * they wait for and receive the result mapped by the first caller, or its
+     * failure.
+     * 
+     * @param <T> The mapped result type
+     * @param endpoint API endpoint path
+     * @param etag Entity tag of the cached representation, or {@code null}
+     * @param options Request customization options
+     * @param mapper Maps the open response into the shared result
+     * @return The mapped result
+     * @throws IOException if the request fails
+     */
+    public <T> T getShared(String endpoint, String etag, RequestOptions options, ResponseMapper<T> mapper) throws IOException {
+        return coalescer.execute(coalescingKey(endpoint, mapper.getClass().getName(), etag, options),
+                () -> execute("GET", endpoint, null, options, etag, mapper));
+    }
+    
+    /**
+     * Makes a non-blocking conditional GET request, sharing the mapped result with
+     * concurrent identical requests.
+     * 
+     * <p>Cancelling the returned future only abandons this caller's interest;
+     * the shared request is cancelled once every caller waiting for it has
+     * cancelled.
+     * 
+     * @param <T> The mapped result type
+     * @param endpoint API endpoint path
+     * @param etag Entity tag of the cached representation, or {@code null}
+     * @param options Request customization options
+     * @param mapper Maps the open response into the shared result
+     * @return Future completed with the mapped result
+     * @see #getShared(String, String, RequestOptions, ResponseMapper)
+     */
+    public <T> CompletableFuture<T> getSharedAsync(String endpoint, String etag, RequestOptions options, ResponseMapper<T> mapper) {
+        return coalescer.executeAsync(coalescingKey(endpoint, mapper.getClass().getName(), etag, options),
+                () -> executeAsync("GET", endpoint, null, options, etag, mapper));
+    }
+    
+    /**
+     * Method plus URL, qualified by the result kind (target type or mapper call
+     * site) so that callers mapping the same URL differently never share a result,
+     * and by the entity tag and the options that change the request, so that no
+     * caller is served under another caller's headers, timeout or retries. The
+     * mapper of the leader caches the shared result, so the caching options are
+     * part of the key as well.
+     */
+    private String coalescingKey(String endpoint, String resultKind, String etag, RequestOptions options) {
+        StringBuilder key = new StringBuilder("GET ").append(baseUrl).append(endpoint)
+                .append(' ').append(resultKind);
+        if (etag != null) {
+            key.append(" etag=").append(etag);
+        }
+        if (options != null) {
+            key.append(" timeout=").append(options.getTimeout())
+                    .append(" retries=").append(options.getRetries())
+                    .append(" cache=").append(options.getCache())
+                    .append(" ttl=").append(options.getTtl());
+            if (!options.getHeaders().isEmpty()) {
+                key.append(" headers=").append(new TreeMap<>(options.getHeaders()));
+            }
+        }
+        return key.toString();
     }
     
     /**
@@ -373,10 +1233,12 @@ public class HttpClient {
     /**
      * Updates the authentication token.
      * 
+     * <p>Requests already in flight keep the token they were built with.
+     * 
      * @param token The new JWT access token
      */
     public void setToken(String token) {
-        defaultHeaders.put("Authorization", "Bearer " + token);
+        setHeader("Authorization", "Bearer " + token);
     }
     
     /**
@@ -386,7 +1248,7 @@ public class HttpClient {
      * @param value Header value
      */
     public void setHeader(String key, String value) {
-        defaultHeaders.put(key, value);
+        defaultHeaders.updateAndGet(headers -> headers.newBuilder().set(key, value).build());
     }
     
     /**
@@ -395,6 +1257,84 @@ public class HttpClient {
      * @param key Header name to remove
      */
     public void removeHeader(String key) {
-        defaultHeaders.remove(key);
+        defaultHeaders.updateAndGet(headers -> headers.newBuilder().removeAll(key).build());
+    }
+    
+    /**
+     * Stops the threads owned by this client: the retry timer, the token
+     * renewal thread and, unless they were supplied through
+     * {@link ConnectionConfig}, the OkHttp dispatcher threads and idle
+     * connections.
+     * 
+     * <p>Requests started afterwards fail with an {@link IOException}. Calls
+     * already sent complete normally; asynchronous requests waiting for a
+     * retry fail once their backoff elapses. Closing a closed client has no
+     * effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        TokenManager manager = tokenManager;
+        if (manager != null) {
+            manager.close();
+        }
+        // Delayed retries still run and fail their requests; the thread exits after the last one
+        retryScheduler.shutdown();
+        if (ownsDispatcher) {
+            client.dispatcher().executorService().shutdown();
+        }
+        if (ownsConnectionPool) {
+            client.connectionPool().evictAll();
+        }
+    }
+    
+    /**
+     * Future of an asynchronous request that cancels its current step, such
+     * as a queued concurrency slot or a call in flight, when it is cancelled.
+     * A single cancellation hook serves every attempt of the request.
+     */
+    private static final class PendingRequest<T> extends CompletableFuture<T> {
+        private volatile Future<?> step;
+        
+        PendingRequest() {
+            whenComplete((result, error) -> {
+                Future<?> current = step;
+                if (isCancelled() && current != null) {
+                    current.cancel(false);
+                }
+            });
+        }
+        
+        /**
+         * Makes {@code current} the step cancelled with this request,
+         * cancelling it right away if the request already was.
+         */
+        void track(Future<?> current) {
+            step = current;
+            if (isCancelled()) {
+                current.cancel(false);
+            }
+        }
+    }
+    
+    /**
+     * Request tag carrying the endpoint path, its route template and the
+     * timeout of a single call in milliseconds.
+     */
+    private static final class RequestTag {
+        final String endpoint;
+        final String route;
+        final long timeoutMillis;
+        
+        RequestTag(String endpoint, String route, long timeoutMillis) {
+            this.endpoint = endpoint;
+            this.route = route;
+            this.timeoutMillis = timeoutMillis;
+        }
     }
 }
@@ -0,0 +1,273 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable point-in-time statistics of the network phases of SDK calls.
+ *
+ * <p>Every HTTP call is split into phases as reported by OkHttp: DNS lookup,
+ * TCP connect, TLS handshake, sending the request, waiting for the server and
+ * receiving the response. A call on a pooled connection skips DNS, connect and
+ * TLS, so the {@linkplain #getConnectionReuseRatio() reuse ratio} together with
+ * the connect and TLS times shows whether connection churn or the server causes
+ * slow calls.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * NetworkStats stats = dinoconfig.getNetworkStats();
+ * System.out.printf("reuse %.0f%%, TLS %.1fms, server %.1fms%n",
+ *         stats.getConnectionReuseRatio() * 100,
+ *         stats.getTls().getAverageMillis(),
+ *         stats.getServer().getAverageMillis());
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see HttpClient#getNetworkStats()
+ */
+public final class NetworkStats {
+
+    private final long failedCalls;
+    private final long connectionsAcquired;
+    private final long connectionsReused;
+    private final Phase call;
+    private final Phase dns;
+    private final Phase connect;
+    private final Phase tls;
+    private final Phase request;
+    private final Phase server;
+    private final Phase response;
+
+    /**
+     * Creates a new statistics snapshot.
+     *
+     * @param failedCalls         Number of calls that failed or were cancelled
+     * @param connectionsAcquired Number of connections acquired for calls
+     * @param connectionsReused   Number of acquired connections taken from the pool
+     * @param call                Whole calls
+     * @param dns                 DNS lookups
+     * @param connect             TCP connects, excluding TLS
+     * @param tls                 TLS handshakes
+     * @param request             Sending request headers and body
+     * @param server              Time from the end of the request to the first response byte
+     * @param response            Receiving response headers and body
+     */
+    public NetworkStats(long failedCalls, long connectionsAcquired, long connectionsReused, Phase call,
+                        Phase dns, Phase connect, Phase tls, Phase request, Phase server, Phase response) {
+        this.failedCalls = failedCalls;
+        this.connectionsAcquired = connectionsAcquired;
+        this.connectionsReused = connectionsReused;
+        this.call = call;
+        this.dns = dns;
+        this.connect = connect;
+        this.tls = tls;
+        this.request = request;
+        this.server = server;
+        this.response = response;
+    }
+
+    /**
+     * Returns the number of completed, failed and cancelled calls.
+     *
+     * @return Call count
+     */
+    public long getCalls() {
+        return call.getCount();
+    }
+
+    /**
+     * Returns the number of calls that failed or were cancelled.
+     *
+     * @return Failed call count
+     */
+    public long getFailedCalls() {
+        return failedCalls;
+    }
+
+    /**
+     * Returns the number of connections acquired for calls. A call acquires
+     * more than one connection if it is retried on another route.
+     *
+     * @return Acquired connection count
+     */
+    public long getConnectionsAcquired() {
+        return connectionsAcquired;
+    }
+
+    /**
+     * Returns the number of acquired connections that were taken from the
+     * pool rather than newly connected.
+     *
+     * @return Reused connection count
+     */
+    public long getConnectionsReused() {
+        return connectionsReused;
+    }
+
+    /**
+     * Returns the share of acquired connections that were reused.
+     *
+     * @return Reuse ratio between 0 and 1, or 0 if no connection was acquired
+     */
+    public double getConnectionReuseRatio() {
+        return connectionsAcquired > 0 ? (double) connectionsReused / connectionsAcquired : 0;
+    }
+
+    /**
+     * Returns the timings of whole calls.
+     *
+     * @return Call phase
+     */
+    public Phase getCall() {
+        return call;
+    }
+
+    /**
+     * Returns the timings of DNS lookups.
+     *
+     * @return DNS phase
+     */
+    public Phase getDns() {
+        return dns;
+    }
+
+    /**
+     * Returns the timings of TCP connects, excluding the TLS handshake.
+     *
+     * @return Connect phase
+     */
+    public Phase getConnect() {
+        return connect;
+    }
+
+    /**
+     * Returns the timings of TLS handshakes.
+     *
+     * @return TLS phase
+     */
+    public Phase getTls() {
+        return tls;
+    }
+
+    /**
+     * Returns the timings of sending request headers and bodies.
+     *
+     * @return Request phase
+     */
+    public Phase getRequest() {
+        return request;
+    }
+
+    /**
+     * Returns the time from the end of each request to the first byte of its
+     * response, which is dominated by server processing.
+     *
+     * @return Server phase
+     */
+    public Phase getServer() {
+        return server;
+    }
+
+    /**
+     * Returns the timings of receiving response headers and bodies.
+     *
+     * @return Response phase
+     */
+    public Phase getResponse() {
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkStats{" +
+                "calls=" + getCalls() +
+                ", failedCalls=" + failedCalls +
+                ", connectionReuseRatio=" + getConnectionReuseRatio() +
+                ", call=" + call +
+                ", dns=" + dns +
+                ", connect=" + connect +
+                ", tls=" + tls +
+                ", request=" + request +
+                ", server=" + server +
+                ", response=" + response +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Phase
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Accumulated timings of one network phase.
+     */
+    public static final class Phase {
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        /**
+         * Creates new phase timings.
+         *
+         * @param count      Number of times the phase occurred
+         * @param totalNanos Total duration in nanoseconds
+         * @param maxNanos   Longest duration in nanoseconds
+         */
+        public Phase(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of times the phase occurred.
+         *
+         * @return Occurrence count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the total duration of the phase.
+         *
+         * @return Duration in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the longest duration of the phase.
+         *
+         * @return Duration in nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the average duration of the phase.
+         *
+         * @return Duration in milliseconds, or 0 if the phase never occurred
+         */
+        public double getAverageMillis() {
+            return count > 0 ? (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Phase{" +
+                    "count=" + count +
+                    ", averageMillis=" + getAverageMillis() +
+                    ", maxMillis=" + (double) maxNanos / TimeUnit.MILLISECONDS.toNanos(1) +
+                    '}';
+        }
+    }
+}
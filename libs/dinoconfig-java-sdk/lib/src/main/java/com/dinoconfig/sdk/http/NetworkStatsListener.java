@@ -0,0 +1,326 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OkHttp event listener factory that times the network phases of every call
+ * and counts how often pooled connections are reused.
+ *
+ * <p>Each call gets its own listener holding the start times of its phases;
+ * OkHttp reports the events of one call in order, so these need no
+ * synchronization. Finished phases are added to shared accumulators that
+ * never block, and {@link #getStats()} reads them into a {@link NetworkStats}
+ * snapshot.
+ *
+ * <p>Events are forwarded to the listener of a shared {@link okhttp3.OkHttpClient},
+ * so an application's own listener keeps working.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see NetworkStats
+ */
+final class NetworkStatsListener implements EventListener.Factory {
+
+    private final EventListener.Factory delegate;
+
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder connectionsAcquired = new LongAdder();
+    private final LongAdder connectionsReused = new LongAdder();
+    private final PhaseTimings call = new PhaseTimings();
+    private final PhaseTimings dns = new PhaseTimings();
+    private final PhaseTimings connect = new PhaseTimings();
+    private final PhaseTimings tls = new PhaseTimings();
+    private final PhaseTimings request = new PhaseTimings();
+    private final PhaseTimings server = new PhaseTimings();
+    private final PhaseTimings response = new PhaseTimings();
+
+    /**
+     * Creates a listener factory.
+     *
+     * @param delegate Factory of the listeners to forward events to, or {@code null}
+     */
+    NetworkStatsListener(EventListener.Factory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public EventListener create(Call call) {
+        return new CallListener(delegate != null ? delegate.create(call) : EventListener.NONE);
+    }
+
+    /**
+     * Returns the statistics accumulated so far.
+     *
+     * @return Statistics snapshot
+     */
+    NetworkStats getStats() {
+        return new NetworkStats(failedCalls.sum(), connectionsAcquired.sum(), connectionsReused.sum(),
+                call.snapshot(), dns.snapshot(), connect.snapshot(), tls.snapshot(),
+                request.snapshot(), server.snapshot(), response.snapshot());
+    }
+
+    /**
+     * Count, total and maximum duration of one phase.
+     */
+    private static final class PhaseTimings {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        NetworkStats.Phase snapshot() {
+            return new NetworkStats.Phase(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Per-call listener
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Times the phases of one call. A start time of {@code 0} means the phase
+     * is not running.
+     */
+    private final class CallListener extends EventListener {
+
+        private final EventListener next;
+
+        private long callStart;
+        private long dnsStart;
+        private long connectStart;
+        private long tlsStart;
+        private long requestStart;
+        private long requestEnd;
+        private long responseStart;
+
+        /** Whether a connection was opened since the last acquisition */
+        private boolean connected;
+
+        CallListener(EventListener next) {
+            this.next = next;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+            next.callStart(call);
+        }
+
+        @Override
+        public void proxySelectStart(Call call, HttpUrl url) {
+            next.proxySelectStart(call, url);
+        }
+
+        @Override
+        public void proxySelectEnd(Call call, HttpUrl url, List<Proxy> proxies) {
+            next.proxySelectEnd(call, url, proxies);
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+            next.dnsStart(call, domainName);
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            dnsStart = end(dns, dnsStart);
+            next.dnsEnd(call, domainName, inetAddressList);
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStart = System.nanoTime();
+            connected = true;
+            next.connectStart(call, inetSocketAddress, proxy);
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            // The TCP connect ends where the handshake begins
+            connectStart = end(connect, connectStart);
+            tlsStart = System.nanoTime();
+            next.secureConnectStart(call);
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            tlsStart = end(tls, tlsStart);
+            next.secureConnectEnd(call, handshake);
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            connectStart = end(connect, connectStart);
+            next.connectEnd(call, inetSocketAddress, proxy, protocol);
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                                  Protocol protocol, IOException ioe) {
+            connectStart = end(connect, connectStart);
+            tlsStart = end(tls, tlsStart);
+            next.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            connectionsAcquired.increment();
+            if (!connected) {
+                connectionsReused.increment();
+            }
+            connected = false;
+            next.connectionAcquired(call, connection);
+        }
+
+        @Override
+        public void connectionReleased(Call call, Connection connection) {
+            next.connectionReleased(call, connection);
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            requestStart = System.nanoTime();
+            requestEnd = 0L;
+            next.requestHeadersStart(call);
+        }
+
+        @Override
+        public void requestHeadersEnd(Call call, Request request) {
+            requestEnd = System.nanoTime();
+            next.requestHeadersEnd(call, request);
+        }
+
+        @Override
+        public void requestBodyStart(Call call) {
+            next.requestBodyStart(call);
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            requestEnd = System.nanoTime();
+            next.requestBodyEnd(call, byteCount);
+        }
+
+        @Override
+        public void requestFailed(Call call, IOException ioe) {
+            requestStart = end(request, requestStart);
+            requestEnd = 0L;
+            next.requestFailed(call, ioe);
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            // The request may still be sending its body, e.g. after an early response
+            long now = System.nanoTime();
+            if (requestStart != 0L && requestEnd != 0L) {
+                request.record(requestEnd - requestStart);
+                server.record(now - requestEnd);
+            }
+            requestStart = 0L;
+            requestEnd = 0L;
+            responseStart = now;
+            next.responseHeadersStart(call);
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            next.responseHeadersEnd(call, response);
+        }
+
+        @Override
+        public void responseBodyStart(Call call) {
+            next.responseBodyStart(call);
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            responseStart = end(response, responseStart);
+            next.responseBodyEnd(call, byteCount);
+        }
+
+        @Override
+        public void responseFailed(Call call, IOException ioe) {
+            responseStart = end(response, responseStart);
+            next.responseFailed(call, ioe);
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            callStart = end(NetworkStatsListener.this.call, callStart);
+            next.callEnd(call);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            failedCalls.increment();
+            callStart = end(NetworkStatsListener.this.call, callStart);
+            next.callFailed(call, ioe);
+        }
+
+        @Override
+        public void canceled(Call call) {
+            next.canceled(call);
+        }
+
+        @Override
+        public void satisfactionFailure(Call call, Response response) {
+            next.satisfactionFailure(call, response);
+        }
+
+        @Override
+        public void cacheHit(Call call, Response response) {
+            next.cacheHit(call, response);
+        }
+
+        @Override
+        public void cacheMiss(Call call) {
+            next.cacheMiss(call);
+        }
+
+        @Override
+        public void cacheConditionalHit(Call call, Response cachedResponse) {
+            next.cacheConditionalHit(call, cachedResponse);
+        }
+
+        /**
+         * Records a running phase.
+         *
+         * @return {@code 0}, the start time of a phase that is not running
+         */
+        private long end(PhaseTimings phase, long start) {
+            if (start != 0L) {
+                phase.record(System.nanoTime() - start);
+            }
+            return 0L;
+        }
+    }
+}
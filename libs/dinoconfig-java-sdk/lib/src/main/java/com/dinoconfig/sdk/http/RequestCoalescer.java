@@ -0,0 +1,211 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of concurrent identical requests.
+ *
+ * <p>The first caller for a key (the leader) performs the work; callers that
+ * arrive with the same key while it is in flight wait for and share the
+ * leader's result or failure instead of issuing their own request. The key is
+ * released as soon as the leader finishes, so later callers start a new flight.
+ * The key must therefore capture everything that changes the request.
+ *
+ * <p>Asynchronous callers are counted: the shared call is cancelled, and the
+ * key released, once every caller waiting for it has cancelled its future.
+ * A blocking caller never cancels, so it keeps the shared call alive.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code call} unless an identical call is already in flight, blocking
+     * until the shared result is available.
+     *
+     * @param <T>  The result type
+     * @param key  Coalescing key, e.g. {@code "GET " + url}
+     * @param call The work to perform as leader
+     * @return The leader's result
+     * @throws IOException if the shared call failed with an I/O error
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> call) throws IOException {
+        Flight created = new Flight();
+        Flight promise = join(key, created);
+        if (promise != created) {
+            return (T) await(promise);
+        }
+
+        try {
+            T result = call.call();
+            inFlight.remove(key, promise);
+            promise.complete(result);
+            return result;
+        } catch (Exception e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Starts {@code call} unless an identical call is already in flight.
+     *
+     * <p>Each caller receives its own dependent future, so cancelling one does
+     * not affect the others. Once every caller waiting for the shared call has
+     * cancelled, the future returned by {@code call} is cancelled as well.
+     *
+     * @param <T>  The result type
+     * @param key  Coalescing key, e.g. {@code "GET " + url}
+     * @param call Starts the work as leader
+     * @return Future completed with the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        Flight created = new Flight();
+        Flight promise = join(key, created);
+        CompletableFuture<Object> waiter = promise.copy();
+        waiter.whenComplete((result, error) -> {
+            if (waiter.isCancelled() && promise.leave()) {
+                inFlight.remove(key, promise);
+                promise.cancelCall();
+            }
+        });
+        if (promise != created) {
+            return (CompletableFuture<T>) waiter;
+        }
+
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        promise.setCall(started);
+        started.whenComplete((result, error) -> {
+            inFlight.remove(key, promise);
+            if (error != null) {
+                promise.completeExceptionally(unwrap(error));
+            } else {
+                promise.complete(result);
+            }
+        });
+        return (CompletableFuture<T>) waiter;
+    }
+
+    /**
+     * Returns the number of distinct requests currently in flight.
+     *
+     * @return In-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Joins the flight in progress for {@code key}, or registers {@code created}
+     * if there is none or every caller of the current one has cancelled.
+     *
+     * @return The joined flight, or {@code created} if the caller is the leader
+     */
+    private Flight join(String key, Flight created) {
+        return inFlight.compute(key, (k, existing) -> existing != null && existing.tryJoin() ? existing : created);
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted", e);
+        } catch (ExecutionException e) {
+            throw rethrow(unwrap(e.getCause()));
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static IOException rethrow(Throwable error) {
+        if (error instanceof IOException) {
+            return (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new IOException("Request failed: " + error.getMessage(), error);
+    }
+
+    /**
+     * The shared result of one flight, with the number of callers waiting for it.
+     */
+    private static final class Flight extends CompletableFuture<Object> {
+
+        /** Waiting callers; once it drops to zero the flight cannot be joined */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile Future<?> call;
+
+        boolean tryJoin() {
+            int count;
+            do {
+                count = waiters.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!waiters.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /**
+         * Removes a caller that cancelled.
+         *
+         * @return true if it was the last one
+         */
+        boolean leave() {
+            return waiters.decrementAndGet() == 0;
+        }
+
+        void setCall(Future<?> started) {
+            call = started;
+            // Every caller may have cancelled while the call was being started
+            if (waiters.get() == 0) {
+                started.cancel(false);
+            }
+        }
+
+        void cancelCall() {
+            Future<?> started = call;
+            if (started != null) {
+                started.cancel(false);
+            }
+        }
+    }
+}
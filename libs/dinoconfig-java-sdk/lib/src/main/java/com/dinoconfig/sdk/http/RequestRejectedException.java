@@ -0,0 +1,36 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the SDK rejects a request without sending it, to protect the
+ * DinoConfig API and the calling application.
+ *
+ * <p>Lookups of configurations that are cached, even expired, are answered
+ * from the cache instead of failing with this exception. Rejections are never
+ * retried.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see CircuitBreakerOpenException
+ * @see ConcurrencyLimitExceededException
+ */
+public class RequestRejectedException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message Description of the rejection
+     */
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
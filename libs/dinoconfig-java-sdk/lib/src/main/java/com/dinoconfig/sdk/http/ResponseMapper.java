@@ -0,0 +1,38 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.io.IOException;
+
+/**
+ * Maps an open {@link ConditionalResponse} into a result object.
+ *
+ * <p>The mapper runs while the connection is open and reads the body straight
+ * from it; the response must not be retained after {@link #map} returns.
+ *
+ * <p>Used with {@link HttpClient#getShared(String, String, com.dinoconfig.sdk.model.RequestOptions, ResponseMapper)}
+ * so that the mapped result, rather than the raw body, is shared between
+ * coalesced callers.
+ *
+ * <p><b>Note:</b> This interface is intended for internal use by the SDK.
+ *
+ * @param <T> The mapped result type
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface ResponseMapper<T> {
+
+    /**
+     * Maps the response.
+     *
+     * @param response The open response
+     * @return The mapped result
+     * @throws IOException if the body cannot be parsed
+     */
+    T map(ConditionalResponse response) throws IOException;
+}
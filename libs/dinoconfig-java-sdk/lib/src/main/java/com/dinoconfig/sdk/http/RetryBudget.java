@@ -0,0 +1,193 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting retries across all requests.
+ *
+ * <p>The bucket starts full with {@code maxTokens} tokens. Every retryable
+ * failure removes one token and every successful response adds
+ * {@code tokenRatio} tokens, up to {@code maxTokens}. Retries are only
+ * allowed while more than half of the tokens are left, so during an outage
+ * clients stop retrying after a few failures and fall back to single attempts
+ * until successes refill the bucket. A ratio of {@code 0.1} allows roughly one
+ * retry per ten successful requests in steady state.
+ *
+ * <p>Each SDK instance has its own budget by default. Passing the same instance
+ * to several SDKs makes them share one process-wide budget.
+ *
+ * <p><b>Default Values:</b>
+ * <ul>
+ *   <li>{@code maxTokens}: {@code 100}</li>
+ *   <li>{@code tokenRatio}: {@code 0.1}</li>
+ * </ul>
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see RetryPolicy
+ */
+public final class RetryBudget {
+
+    /** Default capacity of the bucket */
+    public static final int DEFAULT_MAX_TOKENS = 100;
+
+    /** Default number of tokens returned by a successful response */
+    public static final double DEFAULT_TOKEN_RATIO = 0.1;
+
+    /** Tokens are counted in thousandths to keep fractional ratios exact */
+    private static final long SCALE = 1000L;
+
+    private final int maxTokens;
+    private final double tokenRatio;
+    private final long capacity;
+    private final long refill;
+    private final AtomicLong tokens;
+
+    private RetryBudget(Builder builder) {
+        this.maxTokens = builder.maxTokens;
+        this.tokenRatio = builder.tokenRatio;
+        this.capacity = maxTokens * SCALE;
+        this.refill = Math.round(tokenRatio * SCALE);
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    /**
+     * Creates a new builder for fluent construction.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a budget with the default settings.
+     *
+     * @return New default budget
+     */
+    public static RetryBudget defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns whether a retry may be attempted now.
+     *
+     * @return true if more than half of the tokens are left
+     */
+    public boolean canRetry() {
+        return tokens.get() > capacity / 2;
+    }
+
+    /**
+     * Records a successful response.
+     */
+    public void onSuccess() {
+        if (tokens.get() < capacity) {
+            tokens.updateAndGet(current -> Math.min(capacity, current + refill));
+        }
+    }
+
+    /**
+     * Records a retryable failure.
+     */
+    public void onFailure() {
+        tokens.updateAndGet(current -> Math.max(0L, current - SCALE));
+    }
+
+    /**
+     * Returns the number of tokens currently left.
+     *
+     * @return Remaining tokens
+     */
+    public double getTokens() {
+        return tokens.get() / (double) SCALE;
+    }
+
+    /**
+     * Returns the capacity of the bucket.
+     *
+     * @return Maximum number of tokens
+     */
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * Returns the number of tokens a successful response adds.
+     *
+     * @return Token ratio
+     */
+    public double getTokenRatio() {
+        return tokenRatio;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{" +
+                "maxTokens=" + maxTokens +
+                ", tokenRatio=" + tokenRatio +
+                ", tokens=" + getTokens() +
+                '}';
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────────
+    // Builder
+    // ─────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for creating RetryBudget instances.
+     */
+    public static final class Builder {
+        private int maxTokens = DEFAULT_MAX_TOKENS;
+        private double tokenRatio = DEFAULT_TOKEN_RATIO;
+
+        private Builder() {}
+
+        /**
+         * Sets the capacity of the bucket.
+         *
+         * @param maxTokens Maximum number of tokens
+         * @return This builder
+         */
+        public Builder maxTokens(int maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * Sets the number of tokens a successful response adds.
+         *
+         * @param tokenRatio Token ratio
+         * @return This builder
+         */
+        public Builder tokenRatio(double tokenRatio) {
+            this.tokenRatio = tokenRatio;
+            return this;
+        }
+
+        /**
+         * Builds the RetryBudget instance.
+         *
+         * @return New RetryBudget instance
+         * @throws IllegalArgumentException if maxTokens is not positive or
+         *         tokenRatio is outside (0, maxTokens]
+         */
+        public RetryBudget build() {
+            if (maxTokens <= 0) {
+                throw new IllegalArgumentException("Max tokens must be positive");
+            }
+            if (!(tokenRatio > 0 && tokenRatio <= maxTokens)) {
+                throw new IllegalArgumentException("Token ratio must be in (0, maxTokens]");
+            }
+            return new RetryBudget(this);
+        }
+    }
+}
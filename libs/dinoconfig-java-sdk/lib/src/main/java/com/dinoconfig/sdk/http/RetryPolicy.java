@@ -0,0 +1,64 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+/**
+ * Decides whether and when a failed request is retried.
+ *
+ * <p>The number of attempts is set per request through
+ * {@link com.dinoconfig.sdk.model.RequestOptions#getRetries()}; the policy
+ * classifies errors and computes the delay before each retry. Retries are
+ * additionally limited by the {@link RetryBudget} shared by all requests.
+ *
+ * <p>The default policy is {@link BackoffRetryPolicy} with its default settings.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .retryPolicy(BackoffRetryPolicy.builder()
+ *         .baseDelay(200L)
+ *         .maxDelay(10000L)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> Implementations must be thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see BackoffRetryPolicy
+ * @see RetryBudget
+ */
+public interface RetryPolicy {
+
+    /**
+     * Returns whether a request that failed with {@code error} may be retried.
+     *
+     * @param error The failure of the last attempt
+     * @return true if the request may be retried
+     */
+    boolean isRetryable(Exception error);
+
+    /**
+     * Returns the delay before the next attempt.
+     *
+     * @param attempt The number of the failed attempt, starting at {@code 0}
+     * @param error   The retryable failure of that attempt
+     * @return Delay in milliseconds, or a negative value to stop retrying
+     */
+    long delay(int attempt, Exception error);
+
+    /**
+     * Returns the default policy.
+     *
+     * @return A {@link BackoffRetryPolicy} with default settings
+     */
+    static RetryPolicy defaults() {
+        return BackoffRetryPolicy.builder().build();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.model.TokenExchangeResponse;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the SDK access token valid for the lifetime of the client.
+ *
+ * <p>After each exchange the token is renewed in the background once
+ * {@link #REFRESH_AHEAD_RATIO} of its {@code expires_in} lifetime has passed,
+ * so request threads never wait for an exchange. A failed background renewal
+ * keeps the current token and is retried with exponential backoff, starting at
+ * one second and capped at {@link #MAX_BACKOFF}. An exchange failing with
+ * {@link AuthenticationException} is not retried in the background, since the
+ * API key itself was rejected.
+ *
+ * <p>A token the server rejects anyway is renewed through {@link #renew(String)}.
+ * All callers that report the same rejected token share a single exchange;
+ * callers reporting a token that was already replaced receive the current one
+ * without a new exchange.
+ *
+ * <p>{@link #close()} stops background renewal and the renewal thread. A
+ * manager that was closed no longer publishes tokens, so an exchange still
+ * running when it is replaced cannot overwrite the token of its successor.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class TokenManager implements AutoCloseable {
+
+    /** Fraction of the token lifetime after which it is renewed */
+    public static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    /** Upper bound for the delay between failed renewals in milliseconds */
+    public static final long MAX_BACKOFF = 60000L;
+
+    private static final long INITIAL_BACKOFF = 1000L;
+
+    /**
+     * Performs the API key to access token exchange.
+     */
+    @FunctionalInterface
+    public interface TokenExchange {
+        /**
+         * Exchanges the API key for a new access token.
+         *
+         * @return The exchange response
+         * @throws IOException if the exchange fails
+         */
+        TokenExchangeResponse exchange() throws IOException;
+    }
+
+    private final TokenExchange exchange;
+    private final Consumer<String> onToken;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile String token;
+    private final CompletableFuture<String> firstToken = new CompletableFuture<>();
+    private CompletableFuture<String> renewal;
+    private ScheduledFuture<?> nextRefresh;
+    private int failures;
+    private boolean closed;
+
+    /**
+     * Creates a new token manager.
+     *
+     * @param exchange Performs the token exchange
+     * @param onToken  Receives every new access token
+     */
+    public TokenManager(TokenExchange exchange, Consumer<String> onToken) {
+        this.exchange = Objects.requireNonNull(exchange, "TokenExchange cannot be null");
+        this.onToken = Objects.requireNonNull(onToken, "Token consumer cannot be null");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dinoconfig-token");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Performs the initial exchange on the calling thread and starts
+     * background renewal.
+     *
+     * @return The access token
+     * @throws IOException if the exchange fails
+     */
+    public String start() throws IOException {
+        accept(exchange.exchange());
+        return token;
+    }
+
+    /**
+     * Performs the initial exchange on the background thread and starts
+     * background renewal. An exchange that failed transiently is retried with
+     * backoff; requests rejected in the meantime join the next attempt through
+     * {@link #renew(String)}.
+     *
+     * @return Future completed with the first access token, however many
+     *         attempts that takes, or completed exceptionally with
+     *         {@link AuthenticationException} once the API key is rejected
+     */
+    public synchronized CompletableFuture<String> startAsync() {
+        if (token == null && renewal == null) {
+            startRenewal();
+        }
+        return firstToken.thenApply(first -> first);
+    }
+
+    /**
+     * Returns the current access token.
+     *
+     * @return The access token, or {@code null} before {@link #start()}
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Renews a token rejected by the server, blocking until a valid one is available.
+     *
+     * @param rejectedToken The token the server rejected
+     * @return The token to retry with
+     * @throws IOException if the exchange fails
+     * @see #renewAsync(String)
+     */
+    public String renew(String rejectedToken) throws IOException {
+        try {
+            return renewAsync(rejectedToken).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Token renewal interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Token renewal failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Renews a token rejected by the server.
+     *
+     * <p>If {@code rejectedToken} is no longer current, the current token is
+     * returned immediately. Otherwise the caller joins the running exchange or
+     * starts one on the background thread. Each caller receives its own
+     * dependent future, so cancelling one does not abort the shared exchange.
+     *
+     * @param rejectedToken The token the server rejected
+     * @return Future completed with the token to retry with
+     */
+    public synchronized CompletableFuture<String> renewAsync(String rejectedToken) {
+        if (renewal != null) {
+            return renewal.thenApply(renewed -> renewed);
+        }
+        if (token != null && !token.equals(rejectedToken)) {
+            return CompletableFuture.completedFuture(token);
+        }
+        return startRenewal().thenApply(renewed -> renewed);
+    }
+
+    /**
+     * Starts a shared exchange on the background thread. Must hold the monitor.
+     */
+    private CompletableFuture<String> startRenewal() {
+        CompletableFuture<String> shared = new CompletableFuture<>();
+        if (closed) {
+            shared.completeExceptionally(closedException());
+            return shared;
+        }
+        renewal = shared;
+        scheduler.execute(() -> {
+            try {
+                accept(exchange.exchange());
+                synchronized (this) {
+                    renewal = null;
+                }
+                shared.complete(token);
+            } catch (IOException | RuntimeException e) {
+                boolean rejected = e instanceof AuthenticationException;
+                synchronized (this) {
+                    renewal = null;
+                    if (!rejected && !closed) {
+                        failures++;
+                        scheduleRefresh(backoffDelay());
+                    }
+                }
+                if (rejected) {
+                    firstToken.completeExceptionally(e);
+                }
+                shared.completeExceptionally(e);
+            }
+        });
+        return shared;
+    }
+
+    /**
+     * Publishes a new token and schedules its renewal.
+     */
+    private void accept(TokenExchangeResponse response) throws IOException {
+        String accessToken = response.getAccessToken();
+        if (accessToken == null || accessToken.isEmpty()) {
+            throw new IOException("Token exchange returned no access token");
+        }
+        synchronized (this) {
+            if (closed) {
+                throw closedException();
+            }
+            onToken.accept(accessToken);
+            token = accessToken;
+            failures = 0;
+            response.getExpiresIn()
+                    .filter(expiresIn -> expiresIn > 0)
+                    .ifPresent(expiresIn -> scheduleRefresh((long) (expiresIn * 1000L * REFRESH_AHEAD_RATIO)));
+        }
+        firstToken.complete(accessToken);
+    }
+
+    /**
+     * Replaces the pending background renewal. Must hold the monitor.
+     */
+    private void scheduleRefresh(long delay) {
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+        nextRefresh = scheduler.schedule(this::refresh, Math.max(1L, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops background renewal and releases the renewal thread. Callers still
+     * waiting for a token fail with an {@link IOException}. Closing a closed
+     * manager has no effect.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<String> pending;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (nextRefresh != null) {
+                nextRefresh.cancel(false);
+                nextRefresh = null;
+            }
+            pending = renewal;
+            renewal = null;
+        }
+        scheduler.shutdownNow();
+        IOException e = closedException();
+        firstToken.completeExceptionally(e);
+        if (pending != null) {
+            pending.completeExceptionally(e);
+        }
+    }
+
+    private static IOException closedException() {
+        return new IOException("Token manager is closed");
+    }
+
+    private synchronized void refresh() {
+        nextRefresh = null;
+        if (renewal == null) {
+            startRenewal();
+        }
+    }
+
+    private long backoffDelay() {
+        int exponent = Math.min(failures - 1, 30);
+        return Math.min(MAX_BACKOFF, INITIAL_BACKOFF << exponent);
+    }
+}
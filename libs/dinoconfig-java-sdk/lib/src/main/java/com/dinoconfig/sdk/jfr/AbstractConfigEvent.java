@@ -0,0 +1,49 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base class of the SDK's JFR events, carrying the brand, config and key the
+ * event concerns so recordings can be grouped by configuration.
+ *
+ * <p>The SDK obtains begun events from the event's static {@code start}
+ * method, which returns {@code null} unless a recording has the event
+ * enabled, and later calls the event's {@code report} method. No event is
+ * allocated while no recording is running, and {@code report} fills in the
+ * fields only if the event will be committed.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public abstract class AbstractConfigEvent extends Event {
+
+    // Package-private: JFR does not record private fields of a base class
+
+    @Label("Brand")
+    String brand;
+
+    @Label("Config")
+    String config;
+
+    @Label("Key")
+    String key;
+
+    AbstractConfigEvent() {}
+
+    void setNames(String brand, String config, String key) {
+        this.brand = brand;
+        this.config = config;
+        this.key = key;
+    }
+
+    void setNames(String[] names) {
+        setNames(names[0], names[1], names[2]);
+    }
+}
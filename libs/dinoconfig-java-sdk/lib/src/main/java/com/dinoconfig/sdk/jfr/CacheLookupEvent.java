@@ -0,0 +1,66 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a lookup in the SDK's in-memory cache.
+ *
+ * <p>Cache lookups are frequent and fast, so this event is disabled by default.
+ * Enable it in the recording settings, e.g.
+ * {@code jfr configure com.dinoconfig.CacheLookup#enabled=true}, or
+ * {@code -XX:StartFlightRecording:com.dinoconfig.CacheLookup#enabled=true}.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@Name("com.dinoconfig.CacheLookup")
+@Label("DinoConfig Cache Lookup")
+@Category({"DinoConfig", "Cache"})
+@Enabled(false)
+@StackTrace(false)
+public final class CacheLookupEvent extends AbstractConfigEvent {
+
+    private static final EventGate GATE = new EventGate(CacheLookupEvent.class);
+
+    @Label("Hit")
+    private boolean hit;
+
+    /**
+     * Records a lookup if a recording has this event enabled. Allocates
+     * nothing otherwise, so it is cheap enough for every cache lookup.
+     *
+     * @param cacheKey The cache key that was looked up
+     * @param hit      true if a valid entry was found
+     */
+    public static void record(String cacheKey, boolean hit) {
+        if (GATE.isOpen()) {
+            new CacheLookupEvent().report(cacheKey, hit);
+        }
+    }
+
+    /**
+     * Fills in the fields and commits the event if it is enabled and passes
+     * its threshold.
+     *
+     * @param cacheKey The cache key that was looked up
+     * @param hit      true if a valid entry was found
+     */
+    public void report(String cacheKey, boolean hit) {
+        if (!shouldCommit()) {
+            return;
+        }
+        setNames(EventNames.fromCacheKey(cacheKey));
+        this.hit = hit;
+        commit();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Tells whether an event type is enabled in a running recording, so that the
+ * SDK allocates events only when they can be committed.
+ *
+ * <p>The event type is resolved on the first check after Flight Recorder was
+ * initialized; resolving it earlier would initialize Flight Recorder in every
+ * process, including those that never record. Until then each check is a
+ * single volatile read.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+final class EventGate {
+
+    private final Class<? extends Event> eventClass;
+    private volatile EventType type;
+
+    EventGate(Class<? extends Event> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * Returns whether the event is enabled and a recording is running.
+     *
+     * @return true if an event of this type may be committed
+     */
+    boolean isOpen() {
+        if (!FlightRecorder.isInitialized()) {
+            return false;
+        }
+        EventType resolved = type;
+        if (resolved == null) {
+            resolved = EventType.getEventType(eventClass);
+            type = resolved;
+        }
+        return resolved.isEnabled();
+    }
+}
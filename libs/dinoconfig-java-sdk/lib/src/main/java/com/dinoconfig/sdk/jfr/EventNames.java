@@ -0,0 +1,71 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Extracts brand, config and key names from endpoints and cache keys. Only
+ * called for events that are committed, so lookups stay allocation-free.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+final class EventNames {
+
+    private static final String BRANDS = "/brands/";
+    private static final String CONFIGS = "/configs/";
+    private static final String CONFIG_PREFIX = "config:";
+
+    private EventNames() {}
+
+    /**
+     * Splits {@code .../brands/{brand}[/configs/{config}[/{key}]]} into its
+     * decoded names.
+     *
+     * @return Brand, config and key; absent names are {@code null}
+     */
+    static String[] fromEndpoint(String endpoint) {
+        String[] names = new String[3];
+        if (endpoint == null) {
+            return names;
+        }
+        int brand = endpoint.indexOf(BRANDS);
+        if (brand < 0) {
+            return names;
+        }
+        String[] segments = endpoint.substring(brand + BRANDS.length()).split("/", 4);
+        names[0] = decode(segments[0]);
+        if (segments.length > 2 && segments[1].equals("configs")) {
+            names[1] = decode(segments[2]);
+            if (segments.length > 3) {
+                names[2] = decode(segments[3]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Splits a cache key {@code config:{brand}:{config}[:{key}]} into its names.
+     *
+     * @return Brand, config and key; absent names are {@code null}
+     */
+    static String[] fromCacheKey(String cacheKey) {
+        String[] names = new String[3];
+        if (cacheKey == null || !cacheKey.startsWith(CONFIG_PREFIX)) {
+            return names;
+        }
+        String[] parts = cacheKey.substring(CONFIG_PREFIX.length()).split(":", 3);
+        System.arraycopy(parts, 0, names, 0, parts.length);
+        return names;
+    }
+
+    private static String decode(String segment) {
+        return URLDecoder.decode(segment, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one attempt of a DinoConfig API request, from sending it
+ * until its response is handled.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@Name("com.dinoconfig.HttpAttempt")
+@Label("DinoConfig HTTP Attempt")
+@Category({"DinoConfig", "HTTP"})
+@Description("One attempt of a request to the DinoConfig API")
+@StackTrace(false)
+public final class HttpAttemptEvent extends AbstractConfigEvent {
+
+    private static final EventGate GATE = new EventGate(HttpAttemptEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Attempt")
+    @Description("Number of the attempt, starting at 0")
+    private int attempt;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 if no response was received")
+    private int status;
+
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+
+    /**
+     * Creates and begins an event if a recording has it enabled.
+     *
+     * @return The begun event, or {@code null} if it would not be recorded
+     */
+    public static HttpAttemptEvent start() {
+        if (!GATE.isOpen()) {
+            return null;
+        }
+        HttpAttemptEvent event = new HttpAttemptEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the fields and commits the event if it is enabled and passes
+     * its threshold.
+     *
+     * @param method        HTTP method
+     * @param endpoint      API endpoint path
+     * @param attempt       Number of the attempt, starting at {@code 0}
+     * @param status        HTTP status code, or {@code 0} if no response was received
+     * @param responseBytes Size of the response body, or {@code -1} if unknown
+     */
+    public void report(String method, String endpoint, int attempt, int status, long responseBytes) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.method = method;
+        this.endpoint = endpoint;
+        this.attempt = attempt;
+        this.status = status;
+        this.responseBytes = responseBytes;
+        setNames(EventNames.fromEndpoint(endpoint));
+        commit();
+    }
+}
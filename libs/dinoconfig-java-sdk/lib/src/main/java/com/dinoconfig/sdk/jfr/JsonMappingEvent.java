@@ -0,0 +1,92 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the mapping of JSON into a Java type, either while
+ * reading a response body or when converting a parsed value to a model.
+ *
+ * <p>The event records its stack trace, so allocation samples taken while it
+ * is open can be attributed to the calling code.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@Name("com.dinoconfig.JsonMapping")
+@Label("DinoConfig JSON Mapping")
+@Category({"DinoConfig", "JSON"})
+@Description("Mapping of a DinoConfig API response or value into a Java type")
+public final class JsonMappingEvent extends AbstractConfigEvent {
+
+    private static final EventGate GATE = new EventGate(JsonMappingEvent.class);
+
+    @Label("Type")
+    private Class<?> type;
+
+    @Label("Size")
+    @Description("Size of the JSON input, -1 when converting an already parsed value")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Creates and begins an event if a recording has it enabled.
+     *
+     * @return The begun event, or {@code null} if it would not be recorded
+     */
+    public static JsonMappingEvent start() {
+        if (!GATE.isOpen()) {
+            return null;
+        }
+        JsonMappingEvent event = new JsonMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the fields and commits the event if it is enabled and passes
+     * its threshold.
+     *
+     * @param brand  Brand name, or {@code null}
+     * @param config Config name, or {@code null}
+     * @param key    Key name, or {@code null}
+     * @param type   Target type
+     * @param bytes  Size of the JSON input, or {@code -1} if unknown
+     */
+    public void report(String brand, String config, String key, Class<?> type, long bytes) {
+        if (!shouldCommit()) {
+            return;
+        }
+        setNames(brand, config, key);
+        this.type = type;
+        this.bytes = bytes;
+        commit();
+    }
+
+    /**
+     * Like {@link #report(String, String, String, Class, long)}, taking the
+     * names from the API endpoint path that was read.
+     *
+     * @param endpoint API endpoint path
+     * @param type     Target type
+     * @param bytes    Size of the JSON input, or {@code -1} if unknown
+     */
+    public void reportEndpoint(String endpoint, Class<?> type, long bytes) {
+        if (!shouldCommit()) {
+            return;
+        }
+        setNames(EventNames.fromEndpoint(endpoint));
+        this.type = type;
+        this.bytes = bytes;
+        commit();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the backoff before a DinoConfig API request is retried.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@Name("com.dinoconfig.RetryBackoff")
+@Label("DinoConfig Retry Backoff")
+@Category({"DinoConfig", "HTTP"})
+@Description("Wait before retrying a failed request to the DinoConfig API")
+@StackTrace(false)
+public final class RetryBackoffEvent extends AbstractConfigEvent {
+
+    private static final EventGate GATE = new EventGate(RetryBackoffEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Attempt")
+    @Description("Number of the attempt that follows the backoff")
+    private int attempt;
+
+    @Label("Cause")
+    @Description("Failure of the previous attempt")
+    private String cause;
+
+    /**
+     * Creates and begins an event if a recording has it enabled.
+     *
+     * @return The begun event, or {@code null} if it would not be recorded
+     */
+    public static RetryBackoffEvent start() {
+        if (!GATE.isOpen()) {
+            return null;
+        }
+        RetryBackoffEvent event = new RetryBackoffEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the fields and commits the event if it is enabled and passes
+     * its threshold.
+     *
+     * @param method   HTTP method
+     * @param endpoint API endpoint path
+     * @param attempt  Number of the attempt that follows the backoff
+     * @param cause    Failure of the previous attempt
+     */
+    public void report(String method, String endpoint, int attempt, Exception cause) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.method = method;
+        this.endpoint = endpoint;
+        this.attempt = attempt;
+        this.cause = String.valueOf(cause);
+        setNames(EventNames.fromEndpoint(endpoint));
+        commit();
+    }
+}
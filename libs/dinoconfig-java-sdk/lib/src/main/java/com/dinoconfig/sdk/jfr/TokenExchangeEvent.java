@@ -0,0 +1,66 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one exchange of the API key for an access token.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+@Name("com.dinoconfig.TokenExchange")
+@Label("DinoConfig Token Exchange")
+@Category({"DinoConfig", "HTTP"})
+@StackTrace(false)
+public final class TokenExchangeEvent extends Event {
+
+    private static final EventGate GATE = new EventGate(TokenExchangeEvent.class);
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+
+    /**
+     * Creates and begins an event if a recording has it enabled.
+     *
+     * @return The begun event, or {@code null} if it would not be recorded
+     */
+    public static TokenExchangeEvent start() {
+        if (!GATE.isOpen()) {
+            return null;
+        }
+        TokenExchangeEvent event = new TokenExchangeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in the fields and commits the event if it is enabled and passes
+     * its threshold.
+     *
+     * @param success       true if a token was obtained
+     * @param responseBytes Size of the response body, or {@code -1} if unknown
+     */
+    public void report(boolean success, long responseBytes) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.success = success;
+        this.responseBytes = responseBytes;
+        commit();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.metrics;
+
+/**
+ * Receives measurements from the SDK, for export to a metrics library such as
+ * Micrometer or OpenTelemetry.
+ *
+ * <p>Every method has an empty default implementation, so a recorder only
+ * overrides what it needs. The SDK calls the recorder on request and cache
+ * lookup threads, passing only primitives and strings it already holds, so
+ * the calls allocate nothing. Implementations should likewise record without
+ * locking, for example into pre-registered timers and {@code LongAdder}s, and
+ * must not throw.
+ *
+ * <p>Requests are identified by their route template, such as
+ * {@code /api/sdk/brands/{brand}/configs/{config}}, rather than the concrete
+ * path, so routes can be used as metric tags without one time series per
+ * config.
+ *
+ * <p>The default recorder, {@link #noop()}, discards all measurements.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * MetricsRecorder metrics = new MetricsRecorder() {
+ *     @Override
+ *     public void recordAttempt(String method, String route, int status, long nanos, long responseBytes) {
+ *         registry.timer("dinoconfig.requests", "route", route, "status", String.valueOf(status))
+ *                 .record(nanos, TimeUnit.NANOSECONDS);
+ *     }
+ * };
+ *
+ * DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+ *     .apiKey("dino_your-api-key")
+ *     .metricsRecorder(metrics)
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> Implementations must be thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Called after each attempt of an API request, including retries and
+     * requests answered with an error status.
+     *
+     * @param method        HTTP method, e.g. {@code "GET"}
+     * @param route         API route template, e.g. {@code "/api/sdk/brands/{brand}/configs/{config}"}
+     * @param status        HTTP status code, or {@code 0} if no response was received
+     * @param nanos         Duration of the attempt in nanoseconds, including reading the response
+     * @param responseBytes Size of the response body, or {@code -1} if unknown
+     */
+    default void recordAttempt(String method, String route, int status, long nanos, long responseBytes) {
+    }
+
+    /**
+     * Called when a failed attempt is about to be retried.
+     *
+     * @param method   HTTP method
+     * @param route    API route template
+     * @param attempt  Number of the upcoming attempt, starting at {@code 1} for the first retry
+     */
+    default void recordRetry(String method, String route, int attempt) {
+    }
+
+    /**
+     * Called when a lookup is answered from the cache.
+     */
+    default void recordCacheHit() {
+    }
+
+    /**
+     * Called when a lookup finds no valid cache entry.
+     */
+    default void recordCacheMiss() {
+    }
+
+    /**
+     * Called after each exchange of the API key for an access token, both on
+     * startup and on renewal.
+     *
+     * @param success true if a token was obtained
+     * @param nanos   Duration of the exchange in nanoseconds
+     */
+    default void recordTokenRefresh(boolean success, long nanos) {
+    }
+
+    /**
+     * Returns the recorder that discards all measurements.
+     *
+     * @return The no-op recorder
+     */
+    static MetricsRecorder noop() {
+        return NoopMetricsRecorder.INSTANCE;
+    }
+}
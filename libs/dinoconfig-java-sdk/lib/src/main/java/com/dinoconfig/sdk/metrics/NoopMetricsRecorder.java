@@ -0,0 +1,26 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.metrics;
+
+/**
+ * Recorder that discards all measurements.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see MetricsRecorder#noop()
+ */
+final class NoopMetricsRecorder implements MetricsRecorder {
+
+    static final NoopMetricsRecorder INSTANCE = new NoopMetricsRecorder();
+
+    private NoopMetricsRecorder() {}
+
+    @Override
+    public String toString() {
+        return "NoopMetricsRecorder";
+    }
+}
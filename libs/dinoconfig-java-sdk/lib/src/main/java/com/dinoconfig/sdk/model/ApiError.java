@@ -5,6 +5,7 @@
  */
 package com.dinoconfig.sdk.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -92,6 +93,12 @@ public class ApiError extends RuntimeException {
     @JsonProperty("code")
     private String code;
     
+    /**
+     * Delay requested by the server's {@code Retry-After} header in milliseconds.
+     */
+    @JsonIgnore
+    private Long retryAfter;
+    
     /**
      * Default constructor for Jackson deserialization.
      */
@@ -193,6 +200,25 @@ public class ApiError extends RuntimeException {
         this.code = code;
     }
     
+    /**
+     * Returns the delay the server asked for before retrying, taken from the
+     * {@code Retry-After} header of the error response.
+     * 
+     * @return Delay in milliseconds, or {@code null} if the response had none
+     */
+    public Long getRetryAfter() {
+        return retryAfter;
+    }
+    
+    /**
+     * Sets the delay the server asked for before retrying.
+     * 
+     * @param retryAfter Delay in milliseconds, or {@code null} if none
+     */
+    public void setRetryAfter(Long retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+    
     /**
      * Checks if this is a client error (4xx status code).
      * 
@@ -0,0 +1,123 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.model;
+
+import java.util.Objects;
+
+/**
+ * Reference to a configuration by brand and configuration name.
+ *
+ * <p>Used to request several configurations in one call.
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * Map<String, ConfigData> configs = configAPI.getAll(List.of(
+ *     ConfigRef.of("MyBrand", "AppSettings"),
+ *     ConfigRef.parse("MyBrand.FeatureFlags")
+ * ));
+ * ConfigData flags = configs.get("MyBrand.FeatureFlags");
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class ConfigRef {
+
+    private final String brandName;
+    private final String configName;
+
+    private ConfigRef(String brandName, String configName) {
+        this.brandName = brandName;
+        this.configName = configName;
+    }
+
+    /**
+     * Creates a reference from brand and configuration name.
+     *
+     * @param brandName  The brand name. Must not be {@code null} or empty.
+     * @param configName The configuration name. Must not be {@code null} or empty.
+     * @return New reference
+     * @throws IllegalArgumentException if either name is null or empty
+     */
+    public static ConfigRef of(String brandName, String configName) {
+        if (brandName == null || brandName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Brand name cannot be null or empty");
+        }
+        if (configName == null || configName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Config name cannot be null or empty");
+        }
+        return new ConfigRef(brandName, configName);
+    }
+
+    /**
+     * Creates a reference from a path in format {@code "brandName.configName"}.
+     *
+     * @param path The dot-separated path
+     * @return New reference
+     * @throws IllegalArgumentException if the path format is invalid
+     */
+    public static ConfigRef parse(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty");
+        }
+        String[] parts = path.split("\\.", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid config path format '%s'. Expected 'brandName.configName'", path)
+            );
+        }
+        return of(parts[0], parts[1]);
+    }
+
+    /**
+     * Returns the brand name.
+     *
+     * @return The brand name
+     */
+    public String getBrandName() {
+        return brandName;
+    }
+
+    /**
+     * Returns the configuration name.
+     *
+     * @return The configuration name
+     */
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * Returns the path of this reference, used as key in batch results.
+     *
+     * @return The path in format {@code "brandName.configName"}
+     */
+    public String getPath() {
+        return brandName + "." + configName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConfigRef that = (ConfigRef) o;
+        return brandName.equals(that.brandName) && configName.equals(that.configName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(brandName, configName);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigRef{" +
+                "brandName='" + brandName + '\'' +
+                ", configName='" + configName + '\'' +
+                '}';
+    }
+}
@@ -5,9 +5,18 @@
  */
 package com.dinoconfig.sdk.model;
 
+import com.dinoconfig.sdk.cache.CacheConfig;
+import com.dinoconfig.sdk.http.CircuitBreakerConfig;
+import com.dinoconfig.sdk.http.ConcurrencyLimitConfig;
+import com.dinoconfig.sdk.http.ConnectionConfig;
+import com.dinoconfig.sdk.http.HedgingConfig;
+import com.dinoconfig.sdk.http.RetryBudget;
+import com.dinoconfig.sdk.http.RetryPolicy;
+import com.dinoconfig.sdk.metrics.MetricsRecorder;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration class for initializing the DinoConfig SDK.
@@ -38,6 +47,16 @@ import java.util.Objects;
  * <ul>
  *   <li>{@code baseUrl}: {@code "https://api.dinoconfig.com"}</li>
  *   <li>{@code timeout}: {@code 10000} milliseconds (10 seconds)</li>
+ *   <li>{@code cache}: disabled (see {@link CacheConfig})</li>
+ *   <li>{@code watchInterval}: {@code 1000} milliseconds (1 second)</li>
+ *   <li>{@code connection}: OkHttp defaults (see {@link ConnectionConfig})</li>
+ *   <li>{@code retryPolicy}: {@link RetryPolicy#defaults()} (full-jitter exponential backoff)</li>
+ *   <li>{@code retryBudget}: a new {@link RetryBudget#defaults()} per SDK instance</li>
+ *   <li>{@code circuitBreaker}: disabled (see {@link CircuitBreakerConfig})</li>
+ *   <li>{@code hedging}: disabled (see {@link HedgingConfig})</li>
+ *   <li>{@code concurrencyLimit}: disabled (see {@link ConcurrencyLimitConfig})</li>
+ *   <li>{@code metricsRecorder}: {@link MetricsRecorder#noop()}</li>
+ *   <li>{@code listenerExecutor}: none (change listeners run on the SDK's snapshot thread)</li>
  * </ul>
  *
  * @author DinoConfig Team
@@ -53,6 +72,9 @@ public final class DinoConfigSDKConfig {
     /** Default timeout in milliseconds */
     public static final long DEFAULT_TIMEOUT = 10000L;
 
+    /** Default delay between watch cycles in milliseconds */
+    public static final long DEFAULT_WATCH_INTERVAL = 1000L;
+
     @JsonProperty("apiKey")
     private String apiKey;
 
@@ -62,6 +84,26 @@ public final class DinoConfigSDKConfig {
     @JsonProperty("timeout")
     private Long timeout;
 
+    private CacheConfig cache;
+
+    private Long watchInterval;
+
+    private ConnectionConfig connection;
+
+    private RetryPolicy retryPolicy;
+
+    private RetryBudget retryBudget;
+
+    private CircuitBreakerConfig circuitBreaker;
+
+    private HedgingConfig hedging;
+
+    private ConcurrencyLimitConfig concurrencyLimit;
+
+    private MetricsRecorder metricsRecorder;
+
+    private Executor listenerExecutor;
+
     /**
      * Default constructor with default values.
      *
@@ -75,6 +117,14 @@ public final class DinoConfigSDKConfig {
     public DinoConfigSDKConfig() {
         this.baseUrl = DEFAULT_BASE_URL;
         this.timeout = DEFAULT_TIMEOUT;
+        this.cache = CacheConfig.disabled();
+        this.watchInterval = DEFAULT_WATCH_INTERVAL;
+        this.connection = ConnectionConfig.defaults();
+        this.retryPolicy = RetryPolicy.defaults();
+        this.circuitBreaker = CircuitBreakerConfig.disabled();
+        this.hedging = HedgingConfig.disabled();
+        this.concurrencyLimit = ConcurrencyLimitConfig.disabled();
+        this.metricsRecorder = MetricsRecorder.noop();
     }
 
     /**
@@ -101,6 +151,14 @@ public final class DinoConfigSDKConfig {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl != null ? baseUrl : DEFAULT_BASE_URL;
         this.timeout = timeout != null ? timeout : DEFAULT_TIMEOUT;
+        this.cache = CacheConfig.disabled();
+        this.watchInterval = DEFAULT_WATCH_INTERVAL;
+        this.connection = ConnectionConfig.defaults();
+        this.retryPolicy = RetryPolicy.defaults();
+        this.circuitBreaker = CircuitBreakerConfig.disabled();
+        this.hedging = HedgingConfig.disabled();
+        this.concurrencyLimit = ConcurrencyLimitConfig.disabled();
+        this.metricsRecorder = MetricsRecorder.noop();
     }
 
     /**
@@ -110,6 +168,17 @@ public final class DinoConfigSDKConfig {
         this.apiKey = builder.apiKey;
         this.baseUrl = builder.baseUrl != null ? builder.baseUrl : DEFAULT_BASE_URL;
         this.timeout = builder.timeout != null ? builder.timeout : DEFAULT_TIMEOUT;
+        this.cache = builder.cache != null ? builder.cache : CacheConfig.disabled();
+        this.watchInterval = builder.watchInterval != null ? builder.watchInterval : DEFAULT_WATCH_INTERVAL;
+        this.connection = builder.connection != null ? builder.connection : ConnectionConfig.defaults();
+        this.retryPolicy = builder.retryPolicy != null ? builder.retryPolicy : RetryPolicy.defaults();
+        this.retryBudget = builder.retryBudget;
+        this.circuitBreaker = builder.circuitBreaker != null ? builder.circuitBreaker : CircuitBreakerConfig.disabled();
+        this.hedging = builder.hedging != null ? builder.hedging : HedgingConfig.disabled();
+        this.concurrencyLimit = builder.concurrencyLimit != null
+                ? builder.concurrencyLimit : ConcurrencyLimitConfig.disabled();
+        this.metricsRecorder = builder.metricsRecorder != null ? builder.metricsRecorder : MetricsRecorder.noop();
+        this.listenerExecutor = builder.listenerExecutor;
     }
 
     /**
@@ -171,6 +240,97 @@ public final class DinoConfigSDKConfig {
         return timeout;
     }
 
+    /**
+     * Returns the cache configuration.
+     *
+     * @return The cache configuration, disabled by default
+     */
+    public CacheConfig getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the delay between checks for changes of watched configurations.
+     *
+     * @return The watch interval in milliseconds, defaults to {@code 1000}
+     */
+    public Long getWatchInterval() {
+        return watchInterval;
+    }
+
+    /**
+     * Returns the connection pool, dispatcher and protocol settings.
+     *
+     * @return The connection configuration, OkHttp defaults by default
+     */
+    public ConnectionConfig getConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns the policy that classifies failures and computes retry delays.
+     *
+     * @return The retry policy, {@link RetryPolicy#defaults()} by default
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns the budget limiting retries across all requests.
+     *
+     * @return The shared retry budget, or {@code null} to give the SDK its own
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Returns the circuit breaker configuration.
+     *
+     * @return The circuit breaker configuration, disabled by default
+     */
+    public CircuitBreakerConfig getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the hedging configuration for GET requests.
+     *
+     * @return The hedging configuration, disabled by default
+     */
+    public HedgingConfig getHedging() {
+        return hedging;
+    }
+
+    /**
+     * Returns the configuration of the limit on concurrent requests.
+     *
+     * @return The concurrency limit configuration, disabled by default
+     */
+    public ConcurrencyLimitConfig getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Returns the recorder receiving request, cache and token metrics.
+     *
+     * @return The metrics recorder, {@link MetricsRecorder#noop()} by default
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Returns the executor running change listeners registered with
+     * {@link com.dinoconfig.sdk.api.ConfigAPI#onChange(String, Class, com.dinoconfig.sdk.watch.ValueChangeListener)}.
+     *
+     * @return The listener executor, or {@code null} to run listeners on the SDK's snapshot thread
+     */
+    public Executor getListenerExecutor() {
+        return listenerExecutor;
+    }
+
     // ─────────────────────────────────────────────────────────────────────────────
     // Fluent Setters
     // ─────────────────────────────────────────────────────────────────────────────
@@ -212,6 +372,116 @@ public final class DinoConfigSDKConfig {
         return this;
     }
 
+    /**
+     * Sets the cache configuration.
+     *
+     * @param cache The cache configuration, or {@code null} to disable caching
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setCache(CacheConfig cache) {
+        this.cache = cache != null ? cache : CacheConfig.disabled();
+        return this;
+    }
+
+    /**
+     * Sets the delay between checks for changes of watched configurations.
+     *
+     * @param watchInterval The interval in milliseconds, or {@code null} for the default
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setWatchInterval(Long watchInterval) {
+        this.watchInterval = watchInterval != null ? watchInterval : DEFAULT_WATCH_INTERVAL;
+        return this;
+    }
+
+    /**
+     * Sets the connection pool, dispatcher and protocol settings.
+     *
+     * @param connection The connection configuration, or {@code null} for the defaults
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setConnection(ConnectionConfig connection) {
+        this.connection = connection != null ? connection : ConnectionConfig.defaults();
+        return this;
+    }
+
+    /**
+     * Sets the policy that classifies failures and computes retry delays.
+     *
+     * @param retryPolicy The retry policy, or {@code null} for the default
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.defaults();
+        return this;
+    }
+
+    /**
+     * Sets the budget limiting retries across all requests.
+     *
+     * @param retryBudget The shared retry budget, or {@code null} to give the SDK its own
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker configuration.
+     *
+     * @param circuitBreaker The circuit breaker configuration, or {@code null} to disable it
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setCircuitBreaker(CircuitBreakerConfig circuitBreaker) {
+        this.circuitBreaker = circuitBreaker != null ? circuitBreaker : CircuitBreakerConfig.disabled();
+        return this;
+    }
+
+    /**
+     * Sets the hedging configuration for GET requests.
+     *
+     * @param hedging The hedging configuration, or {@code null} to disable hedging
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setHedging(HedgingConfig hedging) {
+        this.hedging = hedging != null ? hedging : HedgingConfig.disabled();
+        return this;
+    }
+
+    /**
+     * Sets the configuration of the limit on concurrent requests.
+     *
+     * @param concurrencyLimit The concurrency limit configuration, or {@code null} to disable it
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setConcurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit != null ? concurrencyLimit : ConcurrencyLimitConfig.disabled();
+        return this;
+    }
+
+    /**
+     * Sets the recorder receiving request, cache and token metrics.
+     *
+     * @param metricsRecorder The metrics recorder, or {@code null} to discard metrics
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : MetricsRecorder.noop();
+        return this;
+    }
+
+    /**
+     * Sets the executor running change listeners.
+     *
+     * @param listenerExecutor The listener executor, or {@code null} to run listeners on the SDK's snapshot thread
+     * @return This configuration instance for method chaining
+     */
+    public DinoConfigSDKConfig setListenerExecutor(Executor listenerExecutor) {
+        this.listenerExecutor = listenerExecutor;
+        return this;
+    }
+
     /**
      * Validates this configuration.
      *
@@ -230,12 +500,23 @@ public final class DinoConfigSDKConfig {
         DinoConfigSDKConfig that = (DinoConfigSDKConfig) o;
         return Objects.equals(apiKey, that.apiKey)
                 && Objects.equals(baseUrl, that.baseUrl)
-                && Objects.equals(timeout, that.timeout);
+                && Objects.equals(timeout, that.timeout)
+                && Objects.equals(cache, that.cache)
+                && Objects.equals(watchInterval, that.watchInterval)
+                && Objects.equals(connection, that.connection)
+                && Objects.equals(retryPolicy, that.retryPolicy)
+                && Objects.equals(retryBudget, that.retryBudget)
+                && Objects.equals(circuitBreaker, that.circuitBreaker)
+                && Objects.equals(hedging, that.hedging)
+                && Objects.equals(concurrencyLimit, that.concurrencyLimit)
+                && Objects.equals(metricsRecorder, that.metricsRecorder)
+                && Objects.equals(listenerExecutor, that.listenerExecutor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(apiKey, baseUrl, timeout);
+        return Objects.hash(apiKey, baseUrl, timeout, cache, watchInterval, connection, retryPolicy, retryBudget,
+                circuitBreaker, hedging, concurrencyLimit, metricsRecorder, listenerExecutor);
     }
 
     @Override
@@ -244,6 +525,16 @@ public final class DinoConfigSDKConfig {
                 "apiKey='" + (apiKey != null ? "****" : "null") + '\'' +
                 ", baseUrl='" + baseUrl + '\'' +
                 ", timeout=" + timeout +
+                ", cache=" + cache +
+                ", watchInterval=" + watchInterval +
+                ", connection=" + connection +
+                ", retryPolicy=" + retryPolicy +
+                ", retryBudget=" + retryBudget +
+                ", circuitBreaker=" + circuitBreaker +
+                ", hedging=" + hedging +
+                ", concurrencyLimit=" + concurrencyLimit +
+                ", metricsRecorder=" + metricsRecorder +
+                ", listenerExecutor=" + listenerExecutor +
                 '}';
     }
 
@@ -267,6 +558,16 @@ public final class DinoConfigSDKConfig {
         private String apiKey;
         private String baseUrl;
         private Long timeout;
+        private CacheConfig cache;
+        private Long watchInterval;
+        private ConnectionConfig connection;
+        private RetryPolicy retryPolicy;
+        private RetryBudget retryBudget;
+        private CircuitBreakerConfig circuitBreaker;
+        private HedgingConfig hedging;
+        private ConcurrencyLimitConfig concurrencyLimit;
+        private MetricsRecorder metricsRecorder;
+        private Executor listenerExecutor;
 
         private Builder() {}
 
@@ -303,6 +604,118 @@ public final class DinoConfigSDKConfig {
             return this;
         }
 
+        /**
+         * Sets the cache configuration.
+         *
+         * @param cache The cache configuration
+         * @return This builder
+         */
+        public Builder cache(CacheConfig cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the delay between checks for changes of watched configurations.
+         *
+         * @param watchInterval The interval in milliseconds
+         * @return This builder
+         */
+        public Builder watchInterval(long watchInterval) {
+            this.watchInterval = watchInterval;
+            return this;
+        }
+
+        /**
+         * Sets the connection pool, dispatcher and protocol settings, including
+         * a shared {@code OkHttpClient} or executor.
+         *
+         * @param connection The connection configuration
+         * @return This builder
+         */
+        public Builder connection(ConnectionConfig connection) {
+            this.connection = connection;
+            return this;
+        }
+
+        /**
+         * Sets the policy that classifies failures and computes retry delays.
+         *
+         * @param retryPolicy The retry policy
+         * @return This builder
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Sets a retry budget, for example one shared by several SDK instances.
+         *
+         * @param retryBudget The retry budget
+         * @return This builder
+         */
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        /**
+         * Sets the circuit breaker configuration.
+         *
+         * @param circuitBreaker The circuit breaker configuration
+         * @return This builder
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Sets the hedging configuration for GET requests.
+         *
+         * @param hedging The hedging configuration
+         * @return This builder
+         */
+        public Builder hedging(HedgingConfig hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Sets the configuration of the limit on concurrent requests.
+         *
+         * @param concurrencyLimit The concurrency limit configuration
+         * @return This builder
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets the recorder receiving request, cache and token metrics.
+         *
+         * @param metricsRecorder The metrics recorder
+         * @return This builder
+         */
+        public Builder metricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        /**
+         * Sets the executor running change listeners, for listeners that
+         * reconfigure expensive resources.
+         *
+         * @param listenerExecutor The listener executor
+         * @return This builder
+         */
+        public Builder listenerExecutor(Executor listenerExecutor) {
+            this.listenerExecutor = listenerExecutor;
+            return this;
+        }
+
         /**
          * Builds the DinoConfigSDKConfig instance.
          *
@@ -40,9 +40,18 @@ import java.util.Objects;
  *
  * <p><b>Retry Behavior:</b>
  * <ul>
- *   <li>Only server errors (5xx) and network errors are retried</li>
- *   <li>Client errors (4xx) are NOT retried (except 429 rate limiting)</li>
- *   <li>Retries use exponential backoff: 1s, 2s, 4s, 8s, etc.</li>
+ *   <li>Only server errors (5xx), rate limiting (429) and network errors are retried</li>
+ *   <li>Other client errors (4xx) and malformed responses are NOT retried</li>
+ *   <li>Retries wait a random delay of up to 1s, 2s, 4s, 8s, etc., capped at 30s,
+ *       or as long as the server's {@code Retry-After} header asks</li>
+ *   <li>Retries stop early while the SDK's {@link com.dinoconfig.sdk.http.RetryBudget} is exhausted</li>
+ * </ul>
+ *
+ * <p><b>Cache Behavior:</b>
+ * <ul>
+ *   <li>{@code cache} overrides {@link com.dinoconfig.sdk.cache.CacheConfig#isEnabled()} for this request</li>
+ *   <li>{@code forceRefresh} skips the cache lookup but still stores the fresh response</li>
+ *   <li>{@code ttl} overrides the default cache time-to-live for the stored response</li>
  * </ul>
  *
  * @author DinoConfig Team
@@ -56,6 +65,7 @@ public final class RequestOptions {
     private Integer retries;
     private Boolean cache;
     private Boolean forceRefresh;
+    private Long ttl;
 
     /**
      * Default constructor.
@@ -75,6 +85,7 @@ public final class RequestOptions {
         this.retries = builder.retries;
         this.cache = builder.cache;
         this.forceRefresh = builder.forceRefresh;
+        this.ttl = builder.ttl;
     }
 
     /**
@@ -131,6 +142,9 @@ public final class RequestOptions {
     /**
      * Returns the request timeout.
      *
+     * <p>The timeout bounds each attempt as a whole, from connecting to reading
+     * the last byte of the response; retries get a fresh deadline.
+     *
      * @return Timeout in milliseconds, or {@code null} to use SDK default
      */
     public Long getTimeout() {
@@ -164,6 +178,15 @@ public final class RequestOptions {
         return forceRefresh;
     }
 
+    /**
+     * Returns the cache time-to-live for this request.
+     *
+     * @return TTL in milliseconds, or {@code null} to use the cache default
+     */
+    public Long getTtl() {
+        return ttl;
+    }
+
     // ─────────────────────────────────────────────────────────────────────────────
     // Fluent Setters (for backward compatibility and chaining)
     // ─────────────────────────────────────────────────────────────────────────────
@@ -236,6 +259,17 @@ public final class RequestOptions {
         return this;
     }
 
+    /**
+     * Sets the cache time-to-live for this request.
+     *
+     * @param ttl TTL in milliseconds, overrides the cache default
+     * @return This RequestOptions instance for method chaining
+     */
+    public RequestOptions setTtl(Long ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -245,12 +279,13 @@ public final class RequestOptions {
                 && Objects.equals(timeout, that.timeout)
                 && Objects.equals(retries, that.retries)
                 && Objects.equals(cache, that.cache)
-                && Objects.equals(forceRefresh, that.forceRefresh);
+                && Objects.equals(forceRefresh, that.forceRefresh)
+                && Objects.equals(ttl, that.ttl);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(headers, timeout, retries, cache, forceRefresh);
+        return Objects.hash(headers, timeout, retries, cache, forceRefresh, ttl);
     }
 
     @Override
@@ -261,6 +296,7 @@ public final class RequestOptions {
                 ", retries=" + retries +
                 ", cache=" + cache +
                 ", forceRefresh=" + forceRefresh +
+                ", ttl=" + ttl +
                 '}';
     }
 
@@ -288,6 +324,7 @@ public final class RequestOptions {
         private Integer retries;
         private Boolean cache;
         private Boolean forceRefresh;
+        private Long ttl;
 
         private Builder() {}
 
@@ -370,6 +407,17 @@ public final class RequestOptions {
             return this;
         }
 
+        /**
+         * Sets the cache time-to-live for this request.
+         *
+         * @param ttl TTL in milliseconds
+         * @return This builder
+         */
+        public Builder ttl(long ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
         /**
          * Builds the RequestOptions instance.
          *
@@ -0,0 +1,159 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Turns snapshot swaps into calls of per-configuration and per-key change
+ * listeners.
+ *
+ * <p>On every swap, each subscription of a changed configuration extracts its
+ * value from the new version, decoding it to the requested type, and is queued
+ * if that value differs from the previous one. Queued subscriptions are
+ * delivered in one batch on the listener executor, one batch at a time, so
+ * listeners never run concurrently with themselves. A subscription changed
+ * again before its batch ran is delivered once, with the latest value.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ * Use {@link com.dinoconfig.sdk.api.ConfigAPI#onChange(String, Class, ValueChangeListener)}.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class ChangeNotifier implements SnapshotListener {
+
+    private final SnapshotPublisher publisher;
+    private final Executor executor;
+    private final Map<ConfigRef, List<ChangeSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Queue<ChangeSubscription> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Creates a notifier. Register it with {@link SnapshotPublisher#addListener(SnapshotListener)}
+     * to receive swaps.
+     *
+     * @param publisher The publisher whose current snapshot provides baselines
+     * @param executor  The executor running listeners, or {@code null} to run
+     *                  them on the snapshot thread
+     */
+    public ChangeNotifier(SnapshotPublisher publisher, Executor executor) {
+        this.publisher = publisher;
+        this.executor = executor != null ? executor : Runnable::run;
+    }
+
+    /**
+     * Registers a listener for the changes of one value.
+     *
+     * @param ref       The configuration reference
+     * @param keyName   The key, or {@code null} to watch the whole configuration
+     * @param extractor Extracts the watched value from a configuration;
+     *                  a {@link RuntimeException} skips that version
+     * @param listener  The listener to notify
+     * @return Subscription handle used to stop listening
+     */
+    public ChangeSubscription subscribe(ConfigRef ref, String keyName, Function<ConfigData, Object> extractor,
+                                       Consumer<Object> listener) {
+        ChangeSubscription subscription = new ChangeSubscription(this, ref, keyName, extractor, listener);
+        subscriptions.compute(ref, (key, list) -> {
+            List<ChangeSubscription> watching = list != null ? list : new CopyOnWriteArrayList<>();
+            watching.add(subscription);
+            return watching;
+        });
+        // After registering, so that a concurrent swap is either the baseline or reported
+        subscription.initialize(publisher.getSnapshot());
+        return subscription;
+    }
+
+    /**
+     * Returns the number of active subscriptions.
+     *
+     * @return Active subscription count
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.values().stream().mapToInt(List::size).sum();
+    }
+
+    void unsubscribe(ChangeSubscription subscription) {
+        subscriptions.computeIfPresent(subscription.getRef(), (ref, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @Override
+    public void onSnapshot(ConfigSnapshot snapshot, List<ConfigDiff> diffs) {
+        boolean queued = false;
+        for (ConfigDiff diff : diffs) {
+            List<ChangeSubscription> watching = subscriptions.get(diff.getRef());
+            if (watching == null) {
+                continue;
+            }
+            for (ChangeSubscription subscription : watching) {
+                if (subscription.offer(diff)) {
+                    queue.add(subscription);
+                    queued = true;
+                }
+            }
+        }
+        if (queued) {
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            ChangeSubscription subscription;
+            while ((subscription = queue.poll()) != null) {
+                subscription.unqueue();
+            }
+            draining.set(false);
+        }
+    }
+
+    /**
+     * Delivers every queued subscription as one batch.
+     */
+    private void drain() {
+        try {
+            ChangeSubscription subscription;
+            while ((subscription = queue.poll()) != null) {
+                try {
+                    subscription.deliver();
+                } catch (RuntimeException ignored) {
+                    // A failing listener must not affect other listeners
+                }
+            }
+        } finally {
+            draining.set(false);
+            // Subscriptions queued after the last poll but before the flag was cleared
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Handle for a change listener registered with
+ * {@link com.dinoconfig.sdk.api.ConfigAPI#onChange(String, Class, ValueChangeListener)}
+ * or {@link com.dinoconfig.sdk.api.ConfigAPI#onChange(String, ConfigChangeListener)}.
+ *
+ * <pre>{@code
+ * try (ChangeSubscription subscription = configAPI.onChange("MyBrand.Limits.rateLimit",
+ *         Integer.class, limiter::setRate)) {
+ *     // receive changes
+ * }
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class ChangeSubscription implements AutoCloseable {
+
+    /** Marks a value that was never seen */
+    private static final Object UNSET = new Object();
+
+    private final ChangeNotifier notifier;
+    private final ConfigRef ref;
+    private final String keyName;
+    private final Function<ConfigData, Object> extractor;
+    private final Consumer<Object> listener;
+    private volatile boolean active = true;
+
+    /** Value of the latest snapshot and value last passed to the listener */
+    private Object latest = UNSET;
+    private Object delivered = UNSET;
+    private boolean queued;
+
+    ChangeSubscription(ChangeNotifier notifier, ConfigRef ref, String keyName,
+                       Function<ConfigData, Object> extractor, Consumer<Object> listener) {
+        this.notifier = notifier;
+        this.ref = ref;
+        this.keyName = keyName;
+        this.extractor = extractor;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the watched configuration.
+     *
+     * @return The configuration reference
+     */
+    public ConfigRef getRef() {
+        return ref;
+    }
+
+    /**
+     * Returns the watched key.
+     *
+     * @return The key name, or {@code null} if the whole configuration is watched
+     */
+    public String getKeyName() {
+        return keyName;
+    }
+
+    /**
+     * Returns whether changes are still delivered to the listener.
+     *
+     * @return true until {@link #cancel()} is called
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Stops delivering changes to the listener. Calling this more than once has no effect.
+     */
+    public void cancel() {
+        if (active) {
+            active = false;
+            notifier.unsubscribe(this);
+        }
+    }
+
+    /**
+     * Same as {@link #cancel()}.
+     */
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    /**
+     * Takes the value in a snapshot as the baseline, unless a swap already set one.
+     */
+    synchronized void initialize(ConfigSnapshot snapshot) {
+        ConfigData config = snapshot.get(ref);
+        if (latest == UNSET && config != null) {
+            try {
+                latest = delivered = extractor.apply(config);
+            } catch (RuntimeException ignored) {
+                // Not decodable as the requested type; the next decodable version is the baseline
+            }
+        }
+    }
+
+    /**
+     * Records the value of a changed configuration. Runs on the snapshot thread.
+     *
+     * @return true if the subscription must be queued for delivery
+     */
+    synchronized boolean offer(ConfigDiff diff) {
+        if (keyName != null && latest != UNSET && !diff.hasChanged(keyName)) {
+            return false;
+        }
+        Object value;
+        try {
+            value = extractor.apply(diff.getCurrent());
+        } catch (RuntimeException e) {
+            // Keep the last value rather than passing the listener one it cannot use
+            return false;
+        }
+        if (latest == UNSET) {
+            latest = delivered = value;
+            return false;
+        }
+        if (same(latest, value)) {
+            return false;
+        }
+        latest = value;
+        if (queued) {
+            return false;
+        }
+        queued = true;
+        return true;
+    }
+
+    /**
+     * Passes the latest value to the listener unless it equals the one
+     * delivered last, as when a value changed and changed back before
+     * delivery. Runs on the listener executor.
+     */
+    void deliver() {
+        Object value;
+        synchronized (this) {
+            queued = false;
+            if (same(delivered, latest)) {
+                return;
+            }
+            value = delivered = latest;
+        }
+        if (active) {
+            listener.accept(value);
+        }
+    }
+
+    /**
+     * Drops a queued delivery that could not be scheduled; the value is
+     * delivered with the next change.
+     */
+    synchronized void unqueue() {
+        queued = false;
+    }
+
+    private boolean same(Object a, Object b) {
+        if (keyName == null && a instanceof ConfigData && b instanceof ConfigData) {
+            return ((ConfigData) a).getValues().equals(((ConfigData) b).getValues());
+        }
+        return Objects.equals(a, b);
+    }
+}
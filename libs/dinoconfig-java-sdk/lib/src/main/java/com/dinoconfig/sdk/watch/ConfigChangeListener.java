@@ -0,0 +1,37 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+
+/**
+ * Receives new versions of a watched configuration.
+ *
+ * <p>Listeners are invoked on the SDK's watch thread and should return quickly;
+ * hand off expensive work to another executor. Exceptions thrown by a listener
+ * are ignored and do not affect other listeners.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * configAPI.watch("MyBrand", "FeatureFlags", config ->
+ *     flags.set(config.getValue("darkMode", Boolean.class)));
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see com.dinoconfig.sdk.api.ConfigAPI#watch(String, String, ConfigChangeListener)
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called when a new version of the watched configuration is available.
+     *
+     * @param config The new configuration
+     */
+    void onChange(ConfigData config);
+}
@@ -0,0 +1,173 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Key-level difference between two versions of a configuration.
+ *
+ * <p>Computed once when a new version enters the {@link ConfigSnapshot}, so
+ * listeners can react to exactly the keys that changed instead of comparing
+ * whole configurations themselves. Values are compared with
+ * {@link Object#equals(Object)}, which compares nested maps and lists by content.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * configAPI.addSnapshotListener((snapshot, diffs) -> {
+ *     for (ConfigDiff diff : diffs) {
+ *         if (diff.hasChanged("rateLimit")) {
+ *             limiter.setRate(diff.getCurrent().getValue("rateLimit", Integer.class));
+ *         }
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see SnapshotListener
+ */
+public final class ConfigDiff {
+
+    private final ConfigRef ref;
+    private final ConfigData previous;
+    private final ConfigData current;
+    private final Set<String> addedKeys;
+    private final Set<String> removedKeys;
+    private final Set<String> changedKeys;
+
+    private ConfigDiff(ConfigRef ref, ConfigData previous, ConfigData current,
+                       Set<String> addedKeys, Set<String> removedKeys, Set<String> changedKeys) {
+        this.ref = ref;
+        this.previous = previous;
+        this.current = current;
+        this.addedKeys = Collections.unmodifiableSet(addedKeys);
+        this.removedKeys = Collections.unmodifiableSet(removedKeys);
+        this.changedKeys = Collections.unmodifiableSet(changedKeys);
+    }
+
+    /**
+     * Compares two versions of a configuration.
+     *
+     * @param ref      The configuration reference
+     * @param previous The previous version, or {@code null} if the configuration is new
+     * @param current  The current version
+     * @return The difference
+     */
+    static ConfigDiff between(ConfigRef ref, ConfigData previous, ConfigData current) {
+        Map<String, Object> before = previous != null ? previous.getValues() : Collections.emptyMap();
+        Map<String, Object> after = current.getValues();
+        Set<String> added = new LinkedHashSet<>();
+        Set<String> changed = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            if (!before.containsKey(entry.getKey())) {
+                added.add(entry.getKey());
+            } else if (!Objects.equals(before.get(entry.getKey()), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        Set<String> removed = new LinkedHashSet<>();
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        return new ConfigDiff(ref, previous, current, added, removed, changed);
+    }
+
+    /**
+     * Returns the changed configuration.
+     *
+     * @return The configuration reference
+     */
+    public ConfigRef getRef() {
+        return ref;
+    }
+
+    /**
+     * Returns the version before the change.
+     *
+     * @return The previous version, or {@code null} if the configuration was not loaded before
+     */
+    public ConfigData getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Returns the version after the change.
+     *
+     * @return The current version
+     */
+    public ConfigData getCurrent() {
+        return current;
+    }
+
+    /**
+     * Returns the keys present only in the current version.
+     *
+     * @return Unmodifiable set of added keys
+     */
+    public Set<String> getAddedKeys() {
+        return addedKeys;
+    }
+
+    /**
+     * Returns the keys present only in the previous version.
+     *
+     * @return Unmodifiable set of removed keys
+     */
+    public Set<String> getRemovedKeys() {
+        return removedKeys;
+    }
+
+    /**
+     * Returns the keys present in both versions with different values.
+     *
+     * @return Unmodifiable set of changed keys
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    /**
+     * Returns whether a key was added, removed or changed.
+     *
+     * @param key The key
+     * @return true if the key differs between the versions
+     */
+    public boolean hasChanged(String key) {
+        return changedKeys.contains(key) || addedKeys.contains(key) || removedKeys.contains(key);
+    }
+
+    /**
+     * Returns whether no key differs, as when only the version was bumped.
+     *
+     * @return true if all values are equal
+     */
+    public boolean isEmpty() {
+        return addedKeys.isEmpty() && removedKeys.isEmpty() && changedKeys.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigDiff{" +
+                "ref=" + ref.getPath() +
+                ", previousVersion=" + (previous != null ? previous.getVersion() : null) +
+                ", currentVersion=" + current.getVersion() +
+                ", added=" + addedKeys +
+                ", removed=" + removedKeys +
+                ", changed=" + changedKeys +
+                '}';
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of every configuration the application has loaded.
+ *
+ * <p>The current snapshot is published through a single atomic reference and
+ * replaced as a whole whenever a configuration changes version, so reading it
+ * never blocks or locks, and all values read from one snapshot are mutually
+ * consistent. Hold on to a snapshot for the duration of a unit of work, such
+ * as one incoming request, to see the same configuration throughout.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * ConfigSnapshot snapshot = configAPI.getSnapshot();
+ * Integer limit = snapshot.getValue("MyBrand", "Limits", "rateLimit", Integer.class);
+ * Boolean darkMode = snapshot.getValue("MyBrand", "FeatureFlags", "darkMode", Boolean.class);
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see SnapshotPublisher
+ * @see com.dinoconfig.sdk.api.ConfigAPI#getSnapshot()
+ */
+public final class ConfigSnapshot {
+
+    private static final ConfigSnapshot EMPTY = new ConfigSnapshot(0L, Collections.emptyMap());
+
+    private final long version;
+    private final Map<ConfigRef, ConfigData> configs;
+
+    private ConfigSnapshot(long version, Map<ConfigRef, ConfigData> configs) {
+        this.version = version;
+        this.configs = configs;
+    }
+
+    /**
+     * Returns the snapshot without configurations.
+     *
+     * @return The empty snapshot
+     */
+    public static ConfigSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the version of this snapshot, incremented with every swap.
+     *
+     * @return Snapshot version, {@code 0} for the empty snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a configuration of this snapshot.
+     *
+     * @param brandName  The brand name
+     * @param configName The configuration name
+     * @return The configuration, or {@code null} if it was not loaded
+     * @throws IllegalArgumentException if either name is null or empty
+     */
+    public ConfigData get(String brandName, String configName) {
+        return get(ConfigRef.of(brandName, configName));
+    }
+
+    /**
+     * Returns a configuration of this snapshot.
+     *
+     * @param ref The configuration reference
+     * @return The configuration, or {@code null} if it was not loaded
+     */
+    public ConfigData get(ConfigRef ref) {
+        return configs.get(ref);
+    }
+
+    /**
+     * Returns a single value of this snapshot.
+     *
+     * @param brandName  The brand name
+     * @param configName The configuration name
+     * @param key        The key of the value
+     * @param type       The expected type of the value
+     * @param <T>        The value type
+     * @return The value, or {@code null} if the configuration was not loaded
+     *         or has no such key
+     * @see ConfigData#getValue(String, Class)
+     */
+    public <T> T getValue(String brandName, String configName, String key, Class<T> type) {
+        ConfigData config = get(brandName, configName);
+        return config != null ? config.getValue(key, type) : null;
+    }
+
+    /**
+     * Returns all configurations of this snapshot.
+     *
+     * @return Unmodifiable map of configurations by reference
+     */
+    public Map<ConfigRef, ConfigData> getConfigs() {
+        return configs;
+    }
+
+    /**
+     * Returns the number of configurations in this snapshot.
+     *
+     * @return Configuration count
+     */
+    public int size() {
+        return configs.size();
+    }
+
+    /**
+     * Creates the next snapshot with the given configurations added or
+     * replaced, and collects the key-level differences. Configurations whose
+     * version is not newer than the one in this snapshot are skipped, so a
+     * response that arrives late cannot replace a newer version.
+     *
+     * @param updates The new configurations
+     * @param diffs   Receives one diff per changed configuration
+     * @return The next snapshot, or this snapshot if nothing changed
+     */
+    ConfigSnapshot with(Map<ConfigRef, ConfigData> updates, List<ConfigDiff> diffs) {
+        Map<ConfigRef, ConfigData> next = null;
+        for (Map.Entry<ConfigRef, ConfigData> update : updates.entrySet()) {
+            ConfigData previous = configs.get(update.getKey());
+            if (previous != null && update.getValue().getVersion() <= previous.getVersion()) {
+                continue;
+            }
+            if (next == null) {
+                next = new HashMap<>(configs);
+            }
+            next.put(update.getKey(), update.getValue());
+            diffs.add(ConfigDiff.between(update.getKey(), previous, update.getValue()));
+        }
+        return next != null ? new ConfigSnapshot(version + 1, Collections.unmodifiableMap(next)) : this;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigSnapshot{" +
+                "version=" + version +
+                ", configs=" + configs.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.api.ConfigAPI;
+import com.dinoconfig.sdk.http.HttpClient;
+import com.dinoconfig.sdk.model.ApiError;
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigInfo;
+import com.dinoconfig.sdk.model.RequestOptions;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes new configuration versions to registered listeners.
+ *
+ * <p>All subscriptions are multiplexed onto a single watch loop running on one
+ * daemon thread over the client's keep-alive connection. Each cycle issues one
+ * conditional request per watched brand to the configuration listing
+ * ({@code GET /api/sdk/brands/{brand}/configs}), which carries the version of
+ * every configuration in the brand. Unchanged brands answer
+ * {@code 304 Not Modified}, so an idle watch costs one small request per brand
+ * and interval regardless of the number of subscriptions. Only configurations
+ * whose version moved are fetched and delivered.
+ *
+ * <p>The first cycle after a configuration is subscribed records its current
+ * version; listeners are notified of later versions only. A configuration that
+ * does not exist yet, because it is missing from the listing or the brand is
+ * not found, is recorded as absent and delivered once it appears. The loop starts with
+ * the first subscription and stops when the last one is cancelled. Failed
+ * cycles are retried with exponential backoff up to {@link #MAX_BACKOFF}.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ * Use {@link ConfigAPI#watch(String, String, ConfigChangeListener)}.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class ConfigWatcher {
+
+    /** Default delay between watch cycles in milliseconds */
+    public static final long DEFAULT_INTERVAL = 1000L;
+
+    /** Upper bound for the delay after failed watch cycles in milliseconds */
+    public static final long MAX_BACKOFF = 60000L;
+
+    private static final int UNKNOWN_VERSION = -1;
+
+    /** Version of a watched configuration missing from its brand's listing */
+    private static final int ABSENT_VERSION = -2;
+
+    private static final RequestOptions REFRESH = RequestOptions.builder().forceRefresh(true).build();
+
+    private final HttpClient httpClient;
+    private final ConfigAPI configAPI;
+    private final long interval;
+    private final ObjectReader listingReader;
+    private final Map<String, BrandWatch> brands = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextCycle;
+    private boolean cycleRunning;
+    private boolean closed;
+    private int failures;
+
+    /**
+     * Creates a new watcher.
+     *
+     * @param httpClient The HTTP client used for version checks
+     * @param configAPI  The API used to fetch changed configurations
+     * @param interval   Delay between watch cycles in milliseconds, must be positive
+     * @throws IllegalArgumentException if {@code interval} is not positive
+     */
+    public ConfigWatcher(HttpClient httpClient, ConfigAPI configAPI, long interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Watch interval must be positive");
+        }
+        this.httpClient = Objects.requireNonNull(httpClient, "HttpClient cannot be null");
+        this.configAPI = Objects.requireNonNull(configAPI, "ConfigAPI cannot be null");
+        this.interval = interval;
+        this.listingReader = httpClient.readerFor(ConfigListing.class);
+    }
+
+    /**
+     * Registers a listener for new versions of a configuration.
+     *
+     * @param brandName  The brand name
+     * @param configName The configuration name
+     * @param listener   The listener to notify
+     * @return Subscription handle used to stop watching
+     * @throws IllegalStateException if the watcher was closed
+     */
+    public synchronized WatchSubscription subscribe(String brandName, String configName, ConfigChangeListener listener) {
+        if (closed) {
+            throw new IllegalStateException("ConfigWatcher is closed");
+        }
+        WatchSubscription subscription = new WatchSubscription(this, brandName, configName, listener);
+        BrandWatch brand = brands.computeIfAbsent(brandName, BrandWatch::new);
+        brand.configs.computeIfAbsent(configName, name -> {
+            // A new config needs its baseline version, which a 304 would not carry
+            brand.etag = null;
+            return new ConfigWatch();
+        }).subscriptions.add(subscription);
+
+        if (nextCycle == null && !cycleRunning) {
+            nextCycle = scheduler().schedule(this::runCycle, 0, TimeUnit.MILLISECONDS);
+        }
+        return subscription;
+    }
+
+    /**
+     * Returns the number of active subscriptions.
+     *
+     * @return Active subscription count
+     */
+    public int getSubscriptionCount() {
+        return brands.values().stream()
+                .flatMap(brand -> brand.configs.values().stream())
+                .mapToInt(config -> config.subscriptions.size())
+                .sum();
+    }
+
+    synchronized void unsubscribe(WatchSubscription subscription) {
+        BrandWatch brand = brands.get(subscription.getBrandName());
+        if (brand == null) {
+            return;
+        }
+        ConfigWatch config = brand.configs.get(subscription.getConfigName());
+        if (config != null && config.subscriptions.remove(subscription) && config.subscriptions.isEmpty()) {
+            brand.configs.remove(subscription.getConfigName());
+            if (brand.configs.isEmpty()) {
+                brands.remove(subscription.getBrandName());
+            }
+        }
+
+        if (brands.isEmpty() && nextCycle != null && !cycleRunning) {
+            nextCycle.cancel(false);
+            nextCycle = null;
+        }
+    }
+
+    /**
+     * Drops all subscriptions and stops the watch thread. A cycle in progress
+     * finishes without scheduling another one.
+     */
+    public synchronized void close() {
+        closed = true;
+        brands.clear();
+        if (nextCycle != null) {
+            nextCycle.cancel(false);
+            nextCycle = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dinoconfig-watch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    private void runCycle() {
+        synchronized (this) {
+            cycleRunning = true;
+            nextCycle = null;
+        }
+
+        boolean failed = false;
+        for (BrandWatch brand : brands.values()) {
+            try {
+                checkBrand(brand);
+            } catch (IOException | RuntimeException e) {
+                failed = true;
+            }
+        }
+
+        synchronized (this) {
+            cycleRunning = false;
+            failures = failed ? failures + 1 : 0;
+            if (!brands.isEmpty()) {
+                nextCycle = scheduler().schedule(this::runCycle, nextDelay(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private long nextDelay() {
+        if (failures == 0) {
+            return interval;
+        }
+        int exponent = Math.min(failures, 16);
+        return Math.min(MAX_BACKOFF, interval << exponent);
+    }
+
+    /**
+     * Runs one conditional version check for a brand and delivers every
+     * watched configuration whose version changed.
+     */
+    private void checkBrand(BrandWatch brand) throws IOException {
+        String url = "/api/sdk/brands/" + URLEncoder.encode(brand.name, StandardCharsets.UTF_8) + "/configs";
+        ConfigListing listing;
+        try {
+            listing = httpClient.getShared(url, brand.etag, null, response -> {
+                if (response.isNotModified()) {
+                    return null;
+                }
+                ConfigListing body = response.read(listingReader);
+                if (body != null) {
+                    body.etag = response.getEtag();
+                }
+                return body;
+            });
+        } catch (ApiError e) {
+            if (e.getStatus() == null || e.getStatus() != 404) {
+                throw e;
+            }
+            // Unknown brand: nothing to baseline, keep polling in case it is created
+            markAbsent(brand, Set.of());
+            return;
+        }
+        if (listing == null || listing.configs == null) {
+            return;
+        }
+
+        Set<String> listed = new HashSet<>();
+        for (ConfigInfo info : listing.configs) {
+            listed.add(info.getName());
+            ConfigWatch config = brand.configs.get(info.getName());
+            if (config == null || config.version == info.getVersion()) {
+                continue;
+            }
+            if (config.version == UNKNOWN_VERSION) {
+                config.version = info.getVersion();
+                continue;
+            }
+            ConfigData data = configAPI.get(brand.name, info.getName(), REFRESH);
+            config.version = data.getVersion();
+            for (WatchSubscription subscription : config.subscriptions) {
+                try {
+                    subscription.deliver(data);
+                } catch (RuntimeException ignored) {
+                    // A failing listener must not affect other listeners or the watch loop
+                }
+            }
+        }
+        // Watched configs missing from a full listing do not exist yet; recording
+        // them keeps them from forcing a full listing on every later cycle
+        markAbsent(brand, listed);
+        // Only advance the tag once every change in this listing was delivered and
+        // every watched config has a baseline; otherwise list again next cycle
+        boolean complete = brand.configs.values().stream().noneMatch(config -> config.version == UNKNOWN_VERSION);
+        brand.etag = complete ? listing.etag : null;
+    }
+
+    /**
+     * Records every watched configuration of a brand that has no baseline and
+     * is not listed as absent, so that it is delivered once it appears.
+     */
+    private static void markAbsent(BrandWatch brand, Set<String> listed) {
+        for (Map.Entry<String, ConfigWatch> entry : brand.configs.entrySet()) {
+            ConfigWatch config = entry.getValue();
+            if (config.version == UNKNOWN_VERSION && !listed.contains(entry.getKey())) {
+                config.version = ABSENT_VERSION;
+            }
+        }
+    }
+
+    /**
+     * Watch state of one brand.
+     */
+    private static final class BrandWatch {
+        private final String name;
+        private final Map<String, ConfigWatch> configs = new ConcurrentHashMap<>();
+        private volatile String etag;
+
+        BrandWatch(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Watch state of one configuration.
+     */
+    private static final class ConfigWatch {
+        private final List<WatchSubscription> subscriptions = new CopyOnWriteArrayList<>();
+        private volatile int version = UNKNOWN_VERSION;
+    }
+
+    /**
+     * Configuration listing of a brand; only names and versions are used.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ConfigListing {
+        @JsonProperty("configs")
+        private List<ConfigInfo> configs;
+
+        private String etag;
+    }
+}
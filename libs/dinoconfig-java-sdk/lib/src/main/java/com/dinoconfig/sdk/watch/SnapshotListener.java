@@ -0,0 +1,40 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import java.util.List;
+
+/**
+ * Receives each new {@link ConfigSnapshot} together with the configurations
+ * that changed in it.
+ *
+ * <p>Listeners are invoked on the SDK's snapshot thread, in swap order, and
+ * should return quickly; hand off expensive work to another executor.
+ * Exceptions thrown by a listener are ignored and do not affect other
+ * listeners.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * configAPI.addSnapshotListener((snapshot, diffs) ->
+ *     diffs.forEach(diff -> log.info("{} changed keys {}", diff.getRef().getPath(), diff.getChangedKeys())));
+ * }</pre>
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see com.dinoconfig.sdk.api.ConfigAPI#addSnapshotListener(SnapshotListener)
+ */
+@FunctionalInterface
+public interface SnapshotListener {
+
+    /**
+     * Called after a new snapshot was swapped in.
+     *
+     * @param snapshot The new snapshot
+     * @param diffs    One diff per configuration whose version changed
+     */
+    void onSnapshot(ConfigSnapshot snapshot, List<ConfigDiff> diffs);
+}
@@ -0,0 +1,179 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the current {@link ConfigSnapshot} and notifies
+ * {@link SnapshotListener}s of every swap.
+ *
+ * <p>Loaded configurations are handed over with {@link #publish(ConfigRef, ConfigData)},
+ * which returns immediately: a configuration whose version is not newer than
+ * the one in the snapshot, or the one already queued, is dropped, and anything
+ * else is queued. One
+ * daemon thread drains the queue, builds the next snapshot with the diffs of
+ * all queued configurations, swaps it into the atomic reference and then
+ * notifies the listeners. Configurations loaded while a swap is being built
+ * are coalesced into the next one, so a burst of refreshes costs one copy of
+ * the snapshot rather than one per configuration.
+ *
+ * <p><b>Note:</b> This class is intended for internal use by the SDK.
+ * Use {@link com.dinoconfig.sdk.api.ConfigAPI#getSnapshot()} and
+ * {@link com.dinoconfig.sdk.api.ConfigAPI#addSnapshotListener(SnapshotListener)}.
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public class SnapshotPublisher {
+
+    private final AtomicReference<ConfigSnapshot> current = new AtomicReference<>(ConfigSnapshot.empty());
+    private final Map<ConfigRef, ConfigData> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean swapScheduled = new AtomicBoolean();
+    private final List<SnapshotListener> listeners = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executor;
+    private boolean closed;
+
+    /**
+     * Returns the current snapshot. Never blocks.
+     *
+     * @return The current snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    /**
+     * Hands over a loaded configuration. It appears in a later snapshot unless
+     * the current one already holds the same or a newer version.
+     *
+     * @param ref    The configuration reference
+     * @param config The loaded configuration
+     */
+    public void publish(ConfigRef ref, ConfigData config) {
+        ConfigData loaded = current.get().get(ref);
+        if (loaded != null && config.getVersion() <= loaded.getVersion()) {
+            return;
+        }
+        pending.merge(ref, config,
+                (queued, update) -> update.getVersion() < queued.getVersion() ? queued : update);
+        if (swapScheduled.compareAndSet(false, true)) {
+            try {
+                executor().execute(this::swap);
+            } catch (RejectedExecutionException e) {
+                // Closed; the snapshot is no longer swapped
+            }
+        }
+    }
+
+    /**
+     * Hands over several loaded configurations.
+     *
+     * @param configs The loaded configurations by reference
+     * @see #publish(ConfigRef, ConfigData)
+     */
+    public void publishAll(Map<ConfigRef, ConfigData> configs) {
+        configs.forEach(this::publish);
+    }
+
+    /**
+     * Registers a listener for snapshot swaps.
+     *
+     * @param listener The listener to notify
+     */
+    public void addListener(SnapshotListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener(SnapshotListener)}.
+     *
+     * @param listener The listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeListener(SnapshotListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Stops the snapshot thread once the swap in progress, if any, has been
+     * published. Configurations handed over afterwards are dropped.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            throw new RejectedExecutionException("Snapshot publisher is closed");
+        }
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dinoconfig-snapshot-publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Builds and swaps in the next snapshot. Runs on the snapshot thread only,
+     * so swaps never race with each other.
+     */
+    private void swap() {
+        // Clear first: anything queued from here on schedules another swap
+        swapScheduled.set(false);
+        Map<ConfigRef, ConfigData> updates = new HashMap<>();
+        for (Map.Entry<ConfigRef, ConfigData> entry : pending.entrySet()) {
+            updates.put(entry.getKey(), entry.getValue());
+            // A newer configuration queued meanwhile stays pending
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        List<ConfigDiff> diffs = new ArrayList<>();
+        ConfigSnapshot previous = current.get();
+        ConfigSnapshot next = previous.with(updates, diffs);
+        if (next == previous) {
+            return;
+        }
+        current.set(next);
+
+        List<ConfigDiff> changes = Collections.unmodifiableList(diffs);
+        for (SnapshotListener listener : listeners) {
+            try {
+                listener.onSnapshot(next, changes);
+            } catch (RuntimeException ignored) {
+                // A failing listener must not affect other listeners or later swaps
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+/**
+ * Receives the new value of a single configuration key.
+ *
+ * <p>The listener is called only when the value, decoded to the requested
+ * type, differs from the one it last received. Several changes that happen
+ * before it runs are coalesced into one call with the latest value, so
+ * reconfiguring a resource such as a thread pool or rate limiter happens once
+ * per real change.
+ *
+ * <p><b>Example:</b>
+ * <pre>{@code
+ * configAPI.onChange("MyBrand.Limits.rateLimit", Integer.class, limiter::setRate);
+ * }</pre>
+ *
+ * @param <T> The value type
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ * @see com.dinoconfig.sdk.api.ConfigAPI#onChange(String, Class, ValueChangeListener)
+ */
+@FunctionalInterface
+public interface ValueChangeListener<T> {
+
+    /**
+     * Called when the value of the key changed.
+     *
+     * @param value The new value, or {@code null} if the key was removed
+     */
+    void onChange(T value);
+}
@@ -0,0 +1,102 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+
+/**
+ * Handle for a registered {@link ConfigChangeListener}.
+ *
+ * <p>Cancel the subscription to stop receiving updates. Once the last
+ * subscription is cancelled, the watcher stops polling entirely.
+ *
+ * <pre>{@code
+ * try (WatchSubscription subscription = configAPI.watch("MyBrand.FeatureFlags", listener)) {
+ *     // receive updates
+ * }
+ * }</pre>
+ *
+ * <p><b>Thread Safety:</b> This class is thread-safe.
+ *
+ * @author DinoConfig Team
+ * @version 2.1.0
+ * @since 2.1.0
+ */
+public final class WatchSubscription implements AutoCloseable {
+
+    private final ConfigWatcher watcher;
+    private final String brandName;
+    private final String configName;
+    private final ConfigChangeListener listener;
+    private volatile boolean active = true;
+
+    WatchSubscription(ConfigWatcher watcher, String brandName, String configName, ConfigChangeListener listener) {
+        this.watcher = watcher;
+        this.brandName = brandName;
+        this.configName = configName;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the name of the watched brand.
+     *
+     * @return The brand name
+     */
+    public String getBrandName() {
+        return brandName;
+    }
+
+    /**
+     * Returns the name of the watched configuration.
+     *
+     * @return The configuration name
+     */
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * Returns whether updates are still delivered to the listener.
+     *
+     * @return true until {@link #cancel()} is called
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Stops delivering updates to the listener. Calling this more than once has no effect.
+     */
+    public void cancel() {
+        if (active) {
+            active = false;
+            watcher.unsubscribe(this);
+        }
+    }
+
+    /**
+     * Same as {@link #cancel()}.
+     */
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    void deliver(ConfigData config) {
+        if (active) {
+            listener.onChange(config);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WatchSubscription{" +
+                "brandName='" + brandName + '\'' +
+                ", configName='" + configName + '\'' +
+                ", active=" + active +
+                '}';
+    }
+}
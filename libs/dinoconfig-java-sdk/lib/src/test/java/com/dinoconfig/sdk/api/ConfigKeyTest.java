@@ -0,0 +1,111 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.api;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for path parsing and once-per-version decoding in {@link ConfigKey}.
+ */
+class ConfigKeyTest {
+
+    /** Mapper counting the conversions a key asks it for */
+    private static final class CountingMapper extends ObjectMapper {
+        final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public <T> T convertValue(Object fromValue, Class<T> toValueType) {
+            conversions.incrementAndGet();
+            return super.convertValue(fromValue, toValueType);
+        }
+    }
+
+    private static ConfigData config(int version, Map<String, Object> values) {
+        return new ConfigData("AppSettings", null, values, version, new ArrayList<>(values.keySet()), null, null);
+    }
+
+    @Test
+    void pathIsSplitIntoBrandConfigAndKey() {
+        ConfigKey<String> key = ConfigKey.ofString("MyBrand.AppSettings.theme.dark");
+
+        assertEquals("MyBrand", key.getBrandName());
+        assertEquals("AppSettings", key.getConfigName());
+        assertEquals("theme.dark", key.getKeyName());
+        assertEquals("MyBrand.AppSettings.theme.dark", key.getPath());
+        assertThrows(IllegalArgumentException.class, () -> ConfigKey.ofInt("MyBrand.maxConns"));
+    }
+
+    @Test
+    void sameConfigIsDecodedOnce() {
+        CountingMapper mapper = new CountingMapper();
+        ConfigKey<Long> key = ConfigKey.ofLong("MyBrand.AppSettings.maxConns");
+        ConfigData config = config(1, Map.of("maxConns", 42));
+
+        ConfigKey.Decoded<Long> first = key.resolve(config, mapper);
+        ConfigKey.Decoded<Long> second = key.resolve(config, mapper);
+
+        assertSame(first, second);
+        assertEquals(1, mapper.conversions.get());
+        assertEquals(42L, first.value);
+        assertEquals(42L, first.longValue);
+        assertEquals(42.0, first.doubleValue);
+    }
+
+    @Test
+    void newConfigVersionIsDecodedAgain() {
+        CountingMapper mapper = new CountingMapper();
+        ConfigKey<Long> key = ConfigKey.ofLong("MyBrand.AppSettings.maxConns");
+
+        ConfigKey.Decoded<Long> first = key.resolve(config(1, Map.of("maxConns", 42)), mapper);
+        ConfigKey.Decoded<Long> second = key.resolve(config(2, Map.of("maxConns", 64)), mapper);
+
+        assertNotSame(first, second);
+        assertEquals(2, mapper.conversions.get());
+        assertEquals(64L, second.longValue);
+    }
+
+    @Test
+    void valueOfTheKeyTypeIsNotConverted() {
+        CountingMapper mapper = new CountingMapper();
+        ConfigKey<Boolean> key = ConfigKey.ofBoolean("MyBrand.AppSettings.darkMode");
+
+        ConfigKey.Decoded<Boolean> decoded = key.resolve(config(1, Map.of("darkMode", true)), mapper);
+
+        assertTrue(decoded.booleanValue);
+        assertEquals(0, mapper.conversions.get());
+    }
+
+    @Test
+    void missingValueDecodesToNull() {
+        ConfigKey<Integer> key = ConfigKey.ofInt("MyBrand.AppSettings.maxConns");
+
+        ConfigKey.Decoded<Integer> decoded = key.resolve(config(1, Map.of()), new ObjectMapper());
+
+        assertNull(decoded.value);
+        assertEquals(0L, decoded.longValue);
+    }
+
+    @Test
+    void unconvertibleValueIsRejected() {
+        ConfigKey<Integer> key = ConfigKey.ofInt("MyBrand.AppSettings.maxConns");
+        ConfigData config = config(1, Map.of("maxConns", "many"));
+
+        assertThrows(IllegalArgumentException.class, () -> key.resolve(config, new ObjectMapper()));
+    }
+}
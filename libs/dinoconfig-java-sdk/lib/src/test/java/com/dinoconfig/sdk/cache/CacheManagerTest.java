@@ -0,0 +1,87 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.RequestOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for pinned entries and expiry in {@link CacheManager}.
+ */
+class CacheManagerTest {
+
+    private static final long TTL = 20L;
+
+    private final CacheManager cache = new CacheManager(CacheConfig.builder().ttl(TTL).maxSize(2).build());
+
+    @Test
+    void setEntryExpiresAfterTtl() throws InterruptedException {
+        cache.set("plain", "value", null);
+        assertEquals("value", cache.get("plain"));
+
+        Thread.sleep(TTL * 3);
+
+        assertNull(cache.get("plain"));
+        assertFalse(cache.has("plain"));
+    }
+
+    @Test
+    void requestTtlOverridesConfiguredTtl() throws InterruptedException {
+        cache.set("long", "value", RequestOptions.builder().ttl(60000L).build());
+
+        Thread.sleep(TTL * 3);
+
+        assertEquals("value", cache.get("long"));
+    }
+
+    @Test
+    void pinnedEntryNeverExpires() throws InterruptedException {
+        cache.pin("pinned", "value");
+
+        Thread.sleep(TTL * 3);
+
+        assertEquals("value", cache.get("pinned"));
+        assertTrue(cache.has("pinned"));
+        assertEquals(Long.MAX_VALUE, cache.getEntry("pinned").getExpiresAt());
+    }
+
+    @Test
+    void pinnedEntrySurvivesEviction() {
+        cache.pin("pinned", "value");
+        cache.set("a", 1, null);
+        cache.set("b", 2, null);
+        cache.set("c", 3, null);
+
+        assertEquals("value", cache.get("pinned"));
+        assertEquals(3, (Integer) cache.get("c"));
+    }
+
+    @Test
+    void pinnedEntryIsRemovedByDeleteAndReplacedBySet() throws InterruptedException {
+        cache.pin("deleted", "value");
+        cache.delete("deleted");
+        assertNull(cache.get("deleted"));
+
+        cache.pin("replaced", "pinned");
+        cache.set("replaced", "expiring", null);
+        Thread.sleep(TTL * 3);
+        assertNull(cache.get("replaced"));
+    }
+
+    @Test
+    void hugeTtlSaturatesInsteadOfOverflowing() {
+        MemoryCache memory = new MemoryCache(TTL, 10);
+        memory.set("key", "value", Long.MAX_VALUE - 1);
+
+        assertEquals("value", memory.get("key"));
+        assertEquals(Long.MAX_VALUE, memory.getEntry("key").getExpiresAt());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for round trips and generations in {@link FileSnapshotStore}.
+ */
+class FileSnapshotStoreTest {
+
+    private static final ConfigRef REF = ConfigRef.of("MyBrand", "AppSettings");
+
+    @TempDir
+    Path dir;
+
+    private static Map<ConfigRef, ConfigData> snapshot(int version) {
+        Map<String, Object> values = Map.of("theme", "dark", "maxConns", version);
+        return Map.of(REF, new ConfigData("AppSettings", null, values, version,
+                new ArrayList<>(values.keySet()), null, null));
+    }
+
+    @Test
+    void savedSnapshotIsLoaded() throws Exception {
+        FileSnapshotStore store = new FileSnapshotStore(dir.resolve("nested/snapshot.json"));
+
+        store.save(snapshot(3));
+
+        ConfigData loaded = store.load().get(REF);
+        assertEquals(3, loaded.getVersion());
+        assertEquals("dark", loaded.getValue("theme"));
+    }
+
+    @Test
+    void generationIncreasesWithEverySave() throws Exception {
+        Path path = dir.resolve("snapshot.json");
+        FileSnapshotStore store = new FileSnapshotStore(path);
+        assertEquals(-1L, store.getGeneration());
+
+        store.save(snapshot(1));
+        store.save(snapshot(2));
+        assertEquals(2L, store.getGeneration());
+
+        // Another store on the same file continues from the stored generation
+        FileSnapshotStore other = new FileSnapshotStore(path);
+        other.save(snapshot(3));
+        assertEquals(3L, store.getGeneration());
+        assertEquals(3L, other.getGeneration());
+    }
+
+    @Test
+    void snapshotWithoutGenerationStartsAtZero() throws Exception {
+        Path path = dir.resolve("snapshot.json");
+        Files.writeString(path, "{\"formatVersion\":1,\"configs\":[]}");
+        FileSnapshotStore store = new FileSnapshotStore(path);
+
+        assertEquals(0L, store.getGeneration());
+
+        store.save(snapshot(1));
+        assertEquals(1L, store.getGeneration());
+    }
+}
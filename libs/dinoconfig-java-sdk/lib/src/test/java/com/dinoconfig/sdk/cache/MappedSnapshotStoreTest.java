@@ -0,0 +1,202 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for encoding, integrity checks and concurrent access in
+ * {@link MappedSnapshotStore}.
+ */
+class MappedSnapshotStoreTest {
+
+    private static final ConfigRef REF = ConfigRef.of("MyBrand", "AppSettings");
+
+    @TempDir
+    Path dir;
+
+    private static ConfigData config(String name, Map<String, Object> values, int version) {
+        return new ConfigData(name, "Settings for " + name, values, version, new ArrayList<>(values.keySet()),
+                Instant.ofEpochSecond(1700000000L, 123456789), Instant.ofEpochSecond(1700000100L, 1));
+    }
+
+    @Test
+    void roundTripsEveryValueType() throws IOException {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("enabled", true);
+        nested.put("limits", Arrays.asList(1, 2L, null));
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("none", null);
+        values.put("yes", true);
+        values.put("no", false);
+        values.put("int", 42);
+        values.put("long", Long.MAX_VALUE);
+        values.put("double", 0.25);
+        values.put("string", "héllo");
+        values.put("empty", "");
+        values.put("decimal", new BigDecimal("12345678901234567890.123456789"));
+        values.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+        values.put("list", Arrays.asList("a", 1, false));
+        values.put("map", nested);
+
+        Map<ConfigRef, ConfigData> snapshot = new LinkedHashMap<>();
+        snapshot.put(REF, config("AppSettings", values, 7));
+        snapshot.put(ConfigRef.of("MyBrand", "Empty"),
+                new ConfigData("Empty", null, null, 0, null, Instant.EPOCH, null));
+
+        MappedSnapshotStore store = new MappedSnapshotStore(dir.resolve("snapshot.bin"));
+        store.save(snapshot);
+
+        assertEquals(snapshot, store.load());
+        assertEquals(snapshot, new MappedSnapshotStore(dir.resolve("snapshot.bin")).load());
+    }
+
+    @Test
+    void narrowNumbersAreWidenedAndOtherTypesStoredAsStrings() throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("short", (short) 3);
+        values.put("byte", (byte) 4);
+        values.put("float", 1.5f);
+        values.put("char", 'x');
+
+        MappedSnapshotStore store = new MappedSnapshotStore(dir.resolve("snapshot.bin"));
+        store.save(Map.of(REF, config("AppSettings", values, 1)));
+
+        Map<String, Object> loaded = store.load().get(REF).getValues();
+        assertEquals(3, loaded.get("short"));
+        assertEquals(4, loaded.get("byte"));
+        assertEquals(1.5, loaded.get("float"));
+        assertEquals("x", loaded.get("char"));
+    }
+
+    @Test
+    void corruptPayloadIsRejected() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        MappedSnapshotStore store = new MappedSnapshotStore(path);
+        store.save(Map.of(REF, config("AppSettings", Map.of("theme", "dark"), 1)));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            long offset = channel.size() - 1;
+            channel.read(last, offset);
+            last.put(0, (byte) (last.get(0) ^ 0xFF)).rewind();
+            channel.write(last, offset);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> new MappedSnapshotStore(path).load());
+        assertTrue(e.getMessage().startsWith("Corrupt snapshot"), e.getMessage());
+    }
+
+    @Test
+    void corruptChecksumIsRejected() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        new MappedSnapshotStore(path).save(Map.of(REF, config("AppSettings", Map.of("theme", "dark"), 1)));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 0xDEADBEEF), 20);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> new MappedSnapshotStore(path).load());
+        assertTrue(e.getMessage().startsWith("Corrupt snapshot"), e.getMessage());
+    }
+
+    @Test
+    void writeLeftInProgressIsNotReturned() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        MappedSnapshotStore store = new MappedSnapshotStore(path);
+        store.save(Map.of(REF, config("AppSettings", Map.of("theme", "dark"), 1)));
+        long generation = store.getGeneration();
+
+        // A writer that died between making the sequence odd and publishing it
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, generation | 1), 8);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> new MappedSnapshotStore(path).load());
+        assertTrue(e.getMessage().startsWith("Snapshot kept changing"), e.getMessage());
+    }
+
+    @Test
+    void readerNeverObservesHalfWrittenGeneration() throws Exception {
+        Path path = dir.resolve("snapshot.bin");
+        MappedSnapshotStore writer = new MappedSnapshotStore(path);
+        MappedSnapshotStore reader = new MappedSnapshotStore(path);
+        writer.save(generation(0));
+
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Integer> reads = CompletableFuture.supplyAsync(() -> {
+            int count = 0;
+            while (!done.get()) {
+                Map<ConfigRef, ConfigData> snapshot;
+                try {
+                    snapshot = reader.load();
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                int version = snapshot.get(REF).getVersion();
+                assertEquals(generation(version), snapshot);
+                count++;
+            }
+            return count;
+        });
+
+        try {
+            for (int i = 1; i <= 200; i++) {
+                writer.save(generation(i));
+            }
+        } finally {
+            done.set(true);
+        }
+
+        assertTrue(reads.get(30, TimeUnit.SECONDS) > 0);
+        assertEquals(generation(200), reader.load());
+    }
+
+    /**
+     * Returns a snapshot whose configs all carry the given version, with a
+     * payload whose size changes from one generation to the next.
+     */
+    private static Map<ConfigRef, ConfigData> generation(int version) {
+        Map<ConfigRef, ConfigData> snapshot = new LinkedHashMap<>();
+        for (int c = 0; c < 4; c++) {
+            String name = c == 0 ? REF.getConfigName() : "Config" + c;
+            List<Object> items = new ArrayList<>();
+            for (int i = 0; i < version % 17; i++) {
+                items.add("item-" + version + "-" + i);
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("generation", version);
+            values.put("items", items);
+            snapshot.put(ConfigRef.of(REF.getBrandName(), name), config(name, values, version));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for capacity-bound eviction in {@link MemoryCache}.
+ */
+class MemoryCacheTest {
+
+    private static final long TTL = 60000L;
+
+    @Test
+    void fullCacheEvictsABatchClosestToExpiry() {
+        MemoryCache cache = new MemoryCache(TTL, 20);
+        for (int i = 0; i < 20; i++) {
+            cache.set("key" + i, i, TTL + i * 1000L);
+        }
+
+        cache.set("new", "value");
+
+        // A tenth of the capacity is freed, taking the entries expiring first
+        assertEquals(19, cache.getStats().getSize());
+        assertNull(cache.getEntry("key0"));
+        assertNull(cache.getEntry("key1"));
+        assertNotNull(cache.getEntry("key2"));
+        assertEquals("value", cache.get("new"));
+    }
+
+    @Test
+    void insertsAfterABatchDoNotEvict() {
+        MemoryCache cache = new MemoryCache(TTL, 20);
+        for (int i = 0; i < 20; i++) {
+            cache.set("key" + i, i, TTL + i * 1000L);
+        }
+
+        cache.set("new", "value");
+        cache.set("newer", "value");
+
+        assertEquals(20, cache.getStats().getSize());
+        assertNotNull(cache.getEntry("key2"));
+    }
+
+    @Test
+    void expiredEntriesAreDroppedBeforeLiveOnes() throws InterruptedException {
+        MemoryCache cache = new MemoryCache(TTL, 4);
+        cache.set("expired1", 1, 1L);
+        cache.set("expired2", 2, 1L);
+        cache.set("live1", 3);
+        cache.set("live2", 4);
+        Thread.sleep(10);
+
+        cache.set("new", "value");
+
+        assertNull(cache.getEntry("expired1"));
+        assertNull(cache.getEntry("expired2"));
+        assertTrue(cache.has("live1"));
+        assertTrue(cache.has("live2"));
+        assertFalse(cache.has("expired1"));
+        assertEquals(3, cache.getStats().getSize());
+    }
+}
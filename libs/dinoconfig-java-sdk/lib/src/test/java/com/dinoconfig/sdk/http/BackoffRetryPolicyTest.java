@@ -0,0 +1,97 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.model.ApiError;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the retry decisions and delays of {@link BackoffRetryPolicy}.
+ */
+class BackoffRetryPolicyTest {
+
+    private final BackoffRetryPolicy policy = BackoffRetryPolicy.builder()
+            .baseDelay(100L)
+            .maxDelay(1000L)
+            .build();
+
+    private static ApiError apiError(int status, Long retryAfter) {
+        ApiError error = new ApiError("Failed", status);
+        error.setRetryAfter(retryAfter);
+        return error;
+    }
+
+    @Test
+    void fullJitterStaysWithinExponentialCeiling() {
+        IOException error = new IOException("Connection reset");
+        for (int attempt = 0; attempt < 8; attempt++) {
+            long ceiling = Math.min(1000L, 100L << attempt);
+            long max = 0;
+            for (int i = 0; i < 2000; i++) {
+                long delay = policy.delay(attempt, error);
+                assertTrue(delay >= 0 && delay <= ceiling, "Delay " + delay + " for attempt " + attempt);
+                max = Math.max(max, delay);
+            }
+            // Draws spread over the whole range rather than clustering near zero
+            assertTrue(max > ceiling * 3 / 4, "Largest delay " + max + " for attempt " + attempt);
+        }
+    }
+
+    @Test
+    void ceilingDoesNotOverflowForLateAttempts() {
+        for (int attempt : new int[] {57, 63, 64, 1000}) {
+            long delay = policy.delay(attempt, new IOException("Connection reset"));
+            assertTrue(delay >= 0 && delay <= 1000L, "Delay " + delay + " for attempt " + attempt);
+        }
+    }
+
+    @Test
+    void retryAfterIsUsedUpToMaxDelay() {
+        assertEquals(500L, policy.delay(0, apiError(429, 500L)));
+        assertEquals(1000L, policy.delay(3, apiError(503, 1000L)));
+    }
+
+    @Test
+    void retryAfterBeyondMaxDelayGivesUp() {
+        assertEquals(-1L, policy.delay(0, apiError(429, 1001L)));
+    }
+
+    @Test
+    void retryAfterIsIgnoredWhenNotRespected() {
+        BackoffRetryPolicy ignoring = BackoffRetryPolicy.builder()
+                .baseDelay(100L)
+                .maxDelay(1000L)
+                .respectRetryAfter(false)
+                .build();
+
+        long delay = ignoring.delay(0, apiError(429, 60000L));
+        assertTrue(delay >= 0 && delay <= 100L, "Delay " + delay);
+    }
+
+    @Test
+    void transientFailuresAreRetryable() {
+        assertTrue(policy.isRetryable(new IOException("Connection reset")));
+        assertTrue(policy.isRetryable(apiError(429, null)));
+        assertTrue(policy.isRetryable(apiError(503, null)));
+    }
+
+    @Test
+    void clientErrorsAndLocalRejectionsAreNotRetryable() {
+        assertFalse(policy.isRetryable(apiError(404, null)));
+        assertFalse(policy.isRetryable(new JsonParseException(null, "Unexpected character")));
+        assertFalse(policy.isRetryable(new IllegalStateException("Bug")));
+        assertFalse(policy.isRetryable(new CircuitBreakerOpenException("Circuit breaker is open")));
+        assertFalse(policy.isRetryable(new ConcurrencyLimitExceededException("Limit of 8 reached")));
+        assertFalse(policy.isRetryable(new RequestRejectedException("Rejected")));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.http.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests for the state transitions of {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION = 20L;
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<String> transitions = new CopyOnWriteArrayList<>();
+
+    private CircuitBreaker breaker(int probes) {
+        return new CircuitBreaker(CircuitBreakerConfig.builder()
+                .enabled(true)
+                .windowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(0.5)
+                .slowCallDuration(50L)
+                .openDuration(OPEN_DURATION)
+                .halfOpenProbes(probes)
+                .listener((from, to) -> transitions.add(from + "->" + to))
+                .build());
+    }
+
+    /** Records two successes and two failures, which opens the breaker. */
+    private static void trip(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(breaker.tryAcquire(), FAST, i % 2 == 0);
+        }
+    }
+
+    private static void awaitOpenDuration() throws InterruptedException {
+        Thread.sleep(OPEN_DURATION * 2);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = breaker(1);
+        for (int i = 0; i < 3; i++) {
+            breaker.onResult(breaker.tryAcquire(), FAST, true);
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = breaker(1);
+        trip(breaker);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void opensWhenSlowCallRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerConfig.builder()
+                .enabled(true)
+                .windowSize(4)
+                .minimumCalls(4)
+                .slowCallDuration(50L)
+                .slowCallRateThreshold(0.5)
+                .build());
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(breaker.tryAcquire(), i % 2 == 0 ? SLOW : FAST, false);
+        }
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void closesWhenAllProbesSucceed() throws InterruptedException {
+        CircuitBreaker breaker = breaker(2);
+        trip(breaker);
+        awaitOpenDuration();
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNotEquals(CircuitBreaker.NO_PERMIT, first);
+        assertNotEquals(CircuitBreaker.NO_PERMIT, second);
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+        breaker.onResult(first, FAST, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.onResult(second, FAST, false);
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void reopensWhenProbeFails() throws InterruptedException {
+        CircuitBreaker breaker = breaker(2);
+        trip(breaker);
+        awaitOpenDuration();
+
+        breaker.onResult(breaker.tryAcquire(), FAST, true);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+    }
+
+    @Test
+    void reopensWhenProbeIsSlow() throws InterruptedException {
+        CircuitBreaker breaker = breaker(2);
+        trip(breaker);
+        awaitOpenDuration();
+
+        breaker.onResult(breaker.tryAcquire(), SLOW, false);
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void releasedProbeCanBeTakenAgain() throws InterruptedException {
+        CircuitBreaker breaker = breaker(1);
+        trip(breaker);
+        awaitOpenDuration();
+
+        long probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+        breaker.release(probe);
+
+        assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+    }
+
+    @Test
+    void ignoresOutcomeOfCallAdmittedBeforeOpening() throws InterruptedException {
+        CircuitBreaker breaker = breaker(1);
+        long early = breaker.tryAcquire();
+        trip(breaker);
+        awaitOpenDuration();
+        long probe = breaker.tryAcquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // Would close the breaker if it counted as the probe
+        breaker.onResult(early, FAST, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        breaker.onResult(probe, FAST, false);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void ignoresReleaseOfCallAdmittedBeforeOpening() throws InterruptedException {
+        CircuitBreaker breaker = breaker(1);
+        long early = breaker.tryAcquire();
+        trip(breaker);
+        awaitOpenDuration();
+        breaker.tryAcquire();
+
+        // Would free the only probe slot if it counted
+        breaker.release(early);
+
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+    }
+
+    @Test
+    void disabledBreakerAlwaysPermits() {
+        CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerConfig.disabled());
+        for (int i = 0; i < 50; i++) {
+            breaker.onResult(breaker.tryAcquire(), FAST, true);
+        }
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+    }
+}
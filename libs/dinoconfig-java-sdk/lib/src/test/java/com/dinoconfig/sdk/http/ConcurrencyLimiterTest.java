@@ -0,0 +1,154 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the AIMD limit and the queue of {@link ConcurrencyLimiter}.
+ */
+class ConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private ConcurrencyLimiter limiter(int initialLimit, int maxQueueSize, long maxWait) {
+        return new ConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+                .enabled(true)
+                .initialLimit(initialLimit)
+                .minLimit(1)
+                .maxLimit(10)
+                .backoffRatio(0.5)
+                .latencyTolerance(2.0)
+                .maxQueueSize(maxQueueSize)
+                .maxWait(maxWait)
+                .build(), scheduler);
+    }
+
+    @Test
+    void growsByOneWhenAtLeastHalfTheLimitIsUsed() {
+        ConcurrencyLimiter limiter = limiter(2, 0, 1000L);
+        limiter.acquire();
+        limiter.acquire();
+
+        limiter.onResult(FAST, false);
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        ConcurrencyLimiter limiter = limiter(4, 0, 1000L);
+        limiter.acquire();
+
+        limiter.onResult(FAST, false);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void shrinksByBackoffRatioOnOverloadDownToMinimum() {
+        ConcurrencyLimiter limiter = limiter(8, 0, 1000L);
+        limiter.acquire();
+        limiter.onResult(FAST, true);
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.onResult(FAST, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyExceedsTolerance() {
+        ConcurrencyLimiter limiter = limiter(8, 0, 1000L);
+        limiter.acquire();
+        limiter.onResult(FAST, false);
+
+        limiter.acquire();
+        limiter.onResult(FAST * 10, false);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void grantsWithinLimitWithoutQueueing() {
+        ConcurrencyLimiter limiter = limiter(2, 1, 1000L);
+        CompletableFuture<Void> first = limiter.acquire();
+        CompletableFuture<Void> second = limiter.acquire();
+
+        assertTrue(first.isDone() && !first.isCompletedExceptionally());
+        assertSame(first, second);
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void queuesOverLimitAndRejectsWhenQueueIsFull() {
+        ConcurrencyLimiter limiter = limiter(1, 1, 1000L);
+        limiter.acquire();
+        CompletableFuture<Void> queued = limiter.acquire();
+        CompletableFuture<Void> rejected = limiter.acquire();
+
+        assertFalse(queued.isDone());
+        assertEquals(1, limiter.getQueued());
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, e.getCause());
+
+        limiter.release();
+        assertTrue(queued.isDone() && !queued.isCompletedExceptionally());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void cancelledWaiterPassesItsSlotOn() {
+        ConcurrencyLimiter limiter = limiter(1, 2, 1000L);
+        limiter.acquire();
+        CompletableFuture<Void> cancelled = limiter.acquire();
+        CompletableFuture<Void> next = limiter.acquire();
+
+        cancelled.cancel(false);
+        limiter.release();
+
+        assertTrue(next.isDone() && !next.isCompletedExceptionally());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void rejectsWaiterAfterMaxWait() {
+        ConcurrencyLimiter limiter = limiter(1, 1, 20L);
+        limiter.acquire();
+        CompletableFuture<Void> queued = limiter.acquire();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ConcurrencyLimitExceededException.class, e.getCause());
+        assertEquals(0, limiter.getQueued());
+        assertEquals(1, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the hedge delay and hedge budget of {@link Hedger}.
+ */
+class HedgerTest {
+
+    private static Hedger hedger(double percentile, long minDelay, double maxHedgeRatio) {
+        return new Hedger(HedgingConfig.builder()
+                .enabled(true)
+                .percentile(percentile)
+                .minDelay(minDelay)
+                .maxHedgeRatio(maxHedgeRatio)
+                .minSamples(20)
+                .build());
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+
+    @Test
+    void delayIsUnknownUntilMinSamplesWereRecorded() {
+        Hedger hedger = hedger(0.9, 1L, 0.05);
+        for (int i = 1; i < 20; i++) {
+            hedger.record(millis(i));
+        }
+        assertEquals(-1L, hedger.onRequest());
+
+        hedger.record(millis(20));
+
+        assertEquals(millis(18), hedger.onRequest());
+    }
+
+    @Test
+    void percentileIsRecomputedEverySixteenSamples() {
+        Hedger hedger = hedger(0.9, 1L, 0.05);
+        for (int i = 1; i <= 20; i++) {
+            hedger.record(millis(i));
+        }
+
+        for (int i = 0; i < 15; i++) {
+            hedger.record(millis(100));
+        }
+        assertEquals(millis(18), hedger.onRequest());
+
+        hedger.record(millis(100));
+        assertEquals(millis(100), hedger.onRequest());
+    }
+
+    @Test
+    void delayIsAtLeastMinDelay() {
+        Hedger hedger = hedger(0.9, 10L, 0.05);
+        for (int i = 0; i < 20; i++) {
+            hedger.record(millis(1));
+        }
+
+        assertEquals(millis(10), hedger.onRequest());
+    }
+
+    @Test
+    void hedgesAreCappedAtMaxHedgeRatio() {
+        Hedger hedger = hedger(0.9, 1L, 0.1);
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            hedger.onRequest();
+            if (hedger.tryAcquire()) {
+                hedges++;
+            }
+        }
+
+        assertEquals(100, hedges);
+    }
+
+    @Test
+    void unusedBudgetOnlyAllowsShortBurst() {
+        Hedger hedger = hedger(0.9, 1L, 0.5);
+        for (int i = 0; i < 1000; i++) {
+            hedger.onRequest();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(hedger.tryAcquire());
+        }
+        assertFalse(hedger.tryAcquire());
+    }
+}
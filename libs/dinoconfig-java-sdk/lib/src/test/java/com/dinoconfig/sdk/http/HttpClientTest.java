@@ -0,0 +1,183 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.model.DinoConfigSDKConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for token replay, hedging, closing and the route templates
+ * {@link HttpClient} reports to metrics.
+ */
+class HttpClientTest {
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+    private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+    private volatile String validToken;
+    private HttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/api/auth/sdk-token/exchange", exchange -> {
+            String token = "token-" + exchanges.incrementAndGet();
+            validToken = token;
+            respond(exchange, 200, "{\"access_token\":\"" + token + "\"}");
+        });
+        server.createContext("/api/sdk/brands", exchange -> {
+            boolean authorized = ("Bearer " + validToken).equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, authorized ? 200 : 401, authorized ? "{\"brands\":[]}" : "{}");
+        });
+        // The second request hangs until released; all others answer right away
+        server.createContext("/api/sdk/slow", exchange -> {
+            if (slowRequests.incrementAndGet() == 2) {
+                try {
+                    releaseSlow.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, 200, "{\"value\":" + slowRequests.get() + "}");
+        });
+        server.start();
+        client = new HttpClient("http://localhost:" + server.getAddress().getPort(), 5000L);
+    }
+
+    @AfterEach
+    void stopServer() {
+        releaseSlow.countDown();
+        client.close();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @Test
+    void rejectedRequestsAreReplayedAfterOneSharedRenewal() throws Exception {
+        client.configureAuthorizationHeader(Map.of("X-API-Key", "dino_test"));
+        assertEquals(1, exchanges.get());
+
+        // The server revokes the current token
+        validToken = "revoked";
+        List<CompletableFuture<Object>> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return client.get("/api/sdk/brands", null);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }));
+        }
+
+        for (CompletableFuture<Object> request : requests) {
+            assertEquals(Map.of("brands", List.of()), request.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(2, exchanges.get());
+    }
+
+    @Test
+    void closedClientFailsNewRequests() throws Exception {
+        client.configureAuthorizationHeader(Map.of("X-API-Key", "dino_test"));
+        assertEquals(Map.of("brands", List.of()), client.get("/api/sdk/brands", null));
+
+        client.close();
+        client.close();
+
+        assertThrows(IOException.class, () -> client.get("/api/sdk/brands", null));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> client.getAsync("/api/sdk/brands", null).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    void hedgeWinnerCancelsSlowerCall() throws Exception {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        OkHttpClient okHttp = new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void canceled(Call call) {
+                        cancelled.countDown();
+                    }
+                })
+                .build();
+        DinoConfigSDKConfig config = DinoConfigSDKConfig.builder()
+                .apiKey("dino_test")
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .connection(ConnectionConfig.builder().okHttpClient(okHttp).build())
+                .hedging(HedgingConfig.builder()
+                        .enabled(true)
+                        .minSamples(1)
+                        .minDelay(50L)
+                        .maxHedgeRatio(1.0)
+                        .build())
+                .build();
+        try (HttpClient hedging = new HttpClient(config)) {
+            // Warm up the latency window so the hedge delay becomes known
+            hedging.get("/api/sdk/slow", null);
+
+            long start = System.nanoTime();
+            Object result = hedging.get("/api/sdk/slow", null);
+
+            assertEquals(Map.of("value", 3), result);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+            assertTrue(cancelled.await(5, TimeUnit.SECONDS), "Slower call was not cancelled");
+        }
+    }
+
+    @Test
+    void routeReplacesBrandConfigAndKeyNames() {
+        assertEquals("/api/sdk/brands/{brand}/configs/{config}",
+                HttpClient.routeOf("/api/sdk/brands/My%20Brand/configs/AppSettings"));
+        assertEquals("/api/sdk/brands/{brand}/configs/{config}/{key}",
+                HttpClient.routeOf("/api/sdk/brands/MyBrand/configs/AppSettings/theme"));
+        assertEquals("/api/sdk/brands/{brand}/configs",
+                HttpClient.routeOf("/api/sdk/brands/MyBrand/configs"));
+    }
+
+    @Test
+    void routeKeepsPathsWithoutNames() {
+        assertEquals("/api/sdk/brands", HttpClient.routeOf("/api/sdk/brands"));
+        assertEquals("/api/sdk/introspect", HttpClient.routeOf("/api/sdk/introspect"));
+    }
+}
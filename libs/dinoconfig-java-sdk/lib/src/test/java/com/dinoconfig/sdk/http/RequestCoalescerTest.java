@@ -0,0 +1,102 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for sharing and cancelling flights in {@link RequestCoalescer}.
+ */
+class RequestCoalescerTest {
+
+    private static final String KEY = "GET /api/sdk/brands/MyBrand/configs/AppSettings";
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CompletableFuture<String> call = new CompletableFuture<>();
+
+    private CompletableFuture<String> start() {
+        calls.incrementAndGet();
+        return call;
+    }
+
+    @Test
+    void cancellingOneOfTwoAsyncWaitersKeepsCallAlive() throws Exception {
+        CompletableFuture<String> first = coalescer.executeAsync(KEY, this::start);
+        CompletableFuture<String> second = coalescer.executeAsync(KEY, this::start);
+
+        first.cancel(false);
+
+        assertFalse(call.isCancelled());
+        assertEquals(1, coalescer.getInFlightCount());
+        call.complete("shared");
+        assertEquals("shared", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void lastAsyncWaiterCancellingCancelsCallAndReleasesKey() {
+        CompletableFuture<String> first = coalescer.executeAsync(KEY, this::start);
+        CompletableFuture<String> second = coalescer.executeAsync(KEY, this::start);
+
+        first.cancel(false);
+        second.cancel(false);
+
+        assertTrue(call.isCancelled());
+        assertEquals(0, coalescer.getInFlightCount());
+
+        CompletableFuture<String> next = new CompletableFuture<>();
+        coalescer.executeAsync(KEY, () -> next);
+        assertEquals(1, coalescer.getInFlightCount());
+        assertFalse(next.isDone());
+    }
+
+    @Test
+    void blockingWaiterPinsFlight() throws Exception {
+        CompletableFuture<String> leader = coalescer.executeAsync(KEY, this::start);
+        CompletableFuture<String> blocking = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                blocking.complete(coalescer.execute(KEY, () -> "own call"));
+            } catch (Exception e) {
+                blocking.completeExceptionally(e);
+            }
+        });
+        waiter.start();
+        awaitWaiting(waiter);
+
+        leader.cancel(false);
+
+        assertFalse(call.isCancelled());
+        assertEquals(1, coalescer.getInFlightCount());
+        call.complete("shared");
+        assertEquals("shared", blocking.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * Waits until the thread blocks, which for a blocking caller means it has
+     * joined the flight and waits for the shared result.
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Blocking caller did not join the flight");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for depletion and refill of {@link RetryBudget}.
+ */
+class RetryBudgetTest {
+
+    private final RetryBudget budget = RetryBudget.builder()
+            .maxTokens(10)
+            .tokenRatio(0.5)
+            .build();
+
+    @Test
+    void failuresDepleteBudgetBelowHalf() {
+        for (int i = 0; i < 4; i++) {
+            budget.onFailure();
+        }
+        assertTrue(budget.canRetry());
+
+        budget.onFailure();
+
+        assertEquals(5.0, budget.getTokens());
+        assertFalse(budget.canRetry());
+    }
+
+    @Test
+    void successesRefillBudget() {
+        for (int i = 0; i < 5; i++) {
+            budget.onFailure();
+        }
+        assertFalse(budget.canRetry());
+
+        budget.onSuccess();
+
+        assertEquals(5.5, budget.getTokens());
+        assertTrue(budget.canRetry());
+    }
+
+    @Test
+    void tokensStayWithinBounds() {
+        for (int i = 0; i < 20; i++) {
+            budget.onFailure();
+        }
+        assertEquals(0.0, budget.getTokens());
+
+        for (int i = 0; i < 100; i++) {
+            budget.onSuccess();
+        }
+        assertEquals(10.0, budget.getTokens());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.http;
+
+import com.dinoconfig.sdk.model.TokenExchangeResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the exchange, renewal and failure handling of {@link TokenManager}.
+ */
+class TokenManagerTest {
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+
+    private static TokenExchangeResponse token(String accessToken, Integer expiresIn) {
+        return new TokenExchangeResponse(accessToken, expiresIn, "Bearer", "acme", null);
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IOException("Exchange interrupted", e);
+        }
+    }
+
+    @Test
+    void rejectedApiKeyFailsStartAndIsNotRetried() throws InterruptedException {
+        TokenManager manager = new TokenManager(() -> {
+            exchanges.incrementAndGet();
+            throw new AuthenticationException("Invalid API key", 401);
+        }, published::add);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> manager.startAsync().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AuthenticationException.class, e.getCause());
+
+        // Longer than the first backoff delay
+        Thread.sleep(1500);
+        assertEquals(1, exchanges.get());
+        assertEquals(List.of(), published);
+    }
+
+    @Test
+    void transientFailureIsRetriedUntilStartSucceeds() throws Exception {
+        TokenManager manager = new TokenManager(() -> {
+            if (exchanges.incrementAndGet() == 1) {
+                throw new IOException("Connection refused");
+            }
+            return token("second", null);
+        }, published::add);
+
+        assertEquals("second", manager.startAsync().get(5, TimeUnit.SECONDS));
+        assertEquals(2, exchanges.get());
+        assertEquals(List.of("second"), published);
+    }
+
+    @Test
+    void concurrentRejectionsShareOneRenewal() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TokenManager manager = new TokenManager(() -> {
+            int n = exchanges.incrementAndGet();
+            if (n > 1) {
+                await(release);
+            }
+            return token("token-" + n, null);
+        }, published::add);
+        assertEquals("token-1", manager.start());
+
+        CompletableFuture<String> first = manager.renewAsync("token-1");
+        CompletableFuture<String> second = manager.renewAsync("token-1");
+        release.countDown();
+
+        assertEquals("token-2", first.get(5, TimeUnit.SECONDS));
+        assertEquals("token-2", second.get(5, TimeUnit.SECONDS));
+        // A late rejection of the replaced token gets the current one without an exchange
+        assertEquals("token-2", manager.renewAsync("token-1").get(5, TimeUnit.SECONDS));
+        assertEquals(2, exchanges.get());
+        assertEquals(List.of("token-1", "token-2"), published);
+    }
+
+    @Test
+    void tokenIsRenewedAtEightyPercentOfItsLifetime() throws Exception {
+        CompletableFuture<Long> renewedAt = new CompletableFuture<>();
+        TokenManager manager = new TokenManager(() -> {
+            if (exchanges.incrementAndGet() == 2) {
+                renewedAt.complete(System.nanoTime());
+            }
+            return token("token-" + exchanges.get(), 1);
+        }, published::add);
+
+        long start = System.nanoTime();
+        manager.start();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(renewedAt.get(5, TimeUnit.SECONDS) - start);
+        manager.close();
+
+        assertTrue(elapsed >= 800 && elapsed < 1000, "Renewed after " + elapsed + " ms");
+    }
+
+    @Test
+    void closedManagerStopsRenewingAndPublishing() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TokenManager manager = new TokenManager(() -> {
+            int n = exchanges.incrementAndGet();
+            if (n > 1) {
+                await(release);
+            }
+            return token("token-" + n, 1);
+        }, published::add);
+        manager.start();
+
+        CompletableFuture<String> renewal = manager.renewAsync("token-1");
+        manager.close();
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> renewal.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+        Thread.sleep(1200);
+        assertEquals(List.of("token-1"), published);
+        assertEquals("token-1", manager.getToken());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for batching, coalescing and suppression of deliveries in
+ * {@link ChangeNotifier} and {@link ChangeSubscription}.
+ */
+class ChangeNotifierTest {
+
+    private static final ConfigRef REF = ConfigRef.of("MyBrand", "AppSettings");
+
+    /** Runs listener batches only when the test says so */
+    private final List<Runnable> batches = new ArrayList<>();
+    private final ChangeNotifier notifier = new ChangeNotifier(new SnapshotPublisher(), batches::add);
+    private final List<Object> received = new CopyOnWriteArrayList<>();
+
+    private ConfigData current;
+
+    private static ConfigData config(int version, Map<String, Object> values) {
+        return new ConfigData("AppSettings", null, values, version, new ArrayList<>(values.keySet()), null, null);
+    }
+
+    private void swap(int version, Map<String, Object> values) {
+        ConfigData next = config(version, values);
+        notifier.onSnapshot(ConfigSnapshot.empty(), List.of(ConfigDiff.between(REF, current, next)));
+        current = next;
+    }
+
+    private ChangeSubscription subscribe(String key) {
+        return notifier.subscribe(REF, key, config -> config.getValue(key), value -> received.add(key + "=" + value));
+    }
+
+    private void runBatches() {
+        List<Runnable> pending = new ArrayList<>(batches);
+        batches.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    @Test
+    void changesQueuedBeforeDeliveryAreCoalesced() {
+        subscribe("a");
+        swap(1, Map.of("a", 1));
+
+        swap(2, Map.of("a", 2));
+        swap(3, Map.of("a", 3));
+
+        assertEquals(1, batches.size());
+        runBatches();
+        assertEquals(List.of("a=3"), received);
+    }
+
+    @Test
+    void subscriptionsChangedTogetherAreDeliveredInOneBatch() {
+        subscribe("a");
+        subscribe("b");
+        subscribe("c");
+        swap(1, Map.of("a", 1, "b", 1, "c", 1));
+
+        swap(2, Map.of("a", 2, "b", 2, "c", 1));
+
+        assertEquals(1, batches.size());
+        runBatches();
+        assertEquals(List.of("a=2", "b=2"), received);
+    }
+
+    @Test
+    void changeRevertedBeforeDeliveryIsSuppressed() {
+        subscribe("a");
+        swap(1, Map.of("a", 1));
+
+        swap(2, Map.of("a", 2));
+        swap(3, Map.of("a", 1));
+        runBatches();
+        assertEquals(List.of(), received);
+
+        swap(4, Map.of("a", 5));
+        runBatches();
+        assertEquals(List.of("a=5"), received);
+    }
+
+    @Test
+    void rejectedBatchIsDeliveredWithNextChange() {
+        boolean[] reject = {true};
+        ChangeNotifier rejecting = new ChangeNotifier(new SnapshotPublisher(), command -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException("Listener executor is saturated");
+            }
+            command.run();
+        });
+        rejecting.subscribe(REF, "a", config -> config.getValue("a"), value -> received.add("a=" + value));
+        ConfigData first = config(1, Map.of("a", 1));
+        ConfigData second = config(2, Map.of("a", 2));
+        ConfigData third = config(3, Map.of("a", 3));
+        rejecting.onSnapshot(ConfigSnapshot.empty(), List.of(ConfigDiff.between(REF, null, first)));
+
+        rejecting.onSnapshot(ConfigSnapshot.empty(), List.of(ConfigDiff.between(REF, first, second)));
+        assertEquals(List.of(), received);
+
+        reject[0] = false;
+        rejecting.onSnapshot(ConfigSnapshot.empty(), List.of(ConfigDiff.between(REF, second, third)));
+        assertEquals(List.of("a=3"), received);
+    }
+
+    @Test
+    void cancelledSubscriptionIsNotDelivered() {
+        ChangeSubscription subscription = subscribe("a");
+        swap(1, Map.of("a", 1));
+        swap(2, Map.of("a", 2));
+
+        subscription.cancel();
+        runBatches();
+
+        assertEquals(List.of(), received);
+        assertEquals(0, notifier.getSubscriptionCount());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * DinoConfig Java SDK
+ * Copyright (c) 2024 DinoConfig Team
+ * Licensed under the MIT License
+ */
+package com.dinoconfig.sdk.watch;
+
+import com.dinoconfig.sdk.model.ConfigData;
+import com.dinoconfig.sdk.model.ConfigRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for version ordering and key-level diffs of {@link ConfigSnapshot}
+ * and {@link SnapshotPublisher}.
+ */
+class SnapshotPublisherTest {
+
+    private static final ConfigRef REF = ConfigRef.of("MyBrand", "AppSettings");
+
+    private static ConfigData config(int version, Map<String, Object> values) {
+        return new ConfigData("AppSettings", null, values, version, new ArrayList<>(values.keySet()), null, null);
+    }
+
+    @Test
+    void firstVersionReportsAllKeysAsAdded() {
+        List<ConfigDiff> diffs = new ArrayList<>();
+        ConfigSnapshot next = ConfigSnapshot.empty().with(Map.of(REF, config(1, Map.of("a", 1, "b", 2))), diffs);
+
+        assertEquals(1L, next.getVersion());
+        assertEquals(1, next.get(REF).getVersion());
+        assertEquals(1, diffs.size());
+        assertNull(diffs.get(0).getPrevious());
+        assertEquals(Set.of("a", "b"), diffs.get(0).getAddedKeys());
+    }
+
+    @Test
+    void newVersionReportsAddedRemovedAndChangedKeys() {
+        ConfigSnapshot first = ConfigSnapshot.empty().with(Map.of(REF, config(1, Map.of("a", 1, "b", 2))), new ArrayList<>());
+
+        List<ConfigDiff> diffs = new ArrayList<>();
+        ConfigSnapshot second = first.with(Map.of(REF, config(2, Map.of("b", 3, "c", 4))), diffs);
+
+        assertEquals(2L, second.getVersion());
+        ConfigDiff diff = diffs.get(0);
+        assertEquals(Set.of("c"), diff.getAddedKeys());
+        assertEquals(Set.of("a"), diff.getRemovedKeys());
+        assertEquals(Set.of("b"), diff.getChangedKeys());
+        assertTrue(diff.hasChanged("a") && diff.hasChanged("b") && diff.hasChanged("c"));
+        // The previous snapshot is unchanged
+        assertEquals(1, first.get(REF).getVersion());
+    }
+
+    @Test
+    void sameOrOlderVersionIsSkipped() {
+        ConfigSnapshot current = ConfigSnapshot.empty().with(Map.of(REF, config(2, Map.of("a", 2))), new ArrayList<>());
+
+        List<ConfigDiff> diffs = new ArrayList<>();
+        assertSame(current, current.with(Map.of(REF, config(2, Map.of("a", 2))), diffs));
+        assertSame(current, current.with(Map.of(REF, config(1, Map.of("a", 1))), diffs));
+        assertTrue(diffs.isEmpty());
+    }
+
+    @Test
+    void publisherNotifiesListenersOfEachSwap() throws InterruptedException {
+        SnapshotPublisher publisher = new SnapshotPublisher();
+        BlockingQueue<List<ConfigDiff>> swaps = new LinkedBlockingQueue<>();
+        publisher.addListener((snapshot, diffs) -> swaps.add(diffs));
+
+        publisher.publish(REF, config(1, Map.of("a", 1)));
+        assertNotNull(swaps.poll(5, TimeUnit.SECONDS));
+        publisher.publish(REF, config(2, Map.of("a", 2)));
+        List<ConfigDiff> diffs = swaps.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull(diffs);
+        assertEquals(Set.of("a"), diffs.get(0).getChangedKeys());
+        assertEquals(2, publisher.getSnapshot().get(REF).getVersion());
+    }
+
+    @Test
+    void publisherDropsSameAndOlderVersions() throws InterruptedException {
+        SnapshotPublisher publisher = new SnapshotPublisher();
+        BlockingQueue<List<ConfigDiff>> swaps = new LinkedBlockingQueue<>();
+        publisher.addListener((snapshot, diffs) -> swaps.add(diffs));
+        publisher.publish(REF, config(2, Map.of("a", 2)));
+        assertNotNull(swaps.poll(5, TimeUnit.SECONDS));
+
+        publisher.publish(REF, config(2, Map.of("a", 2)));
+        publisher.publish(REF, config(1, Map.of("a", 1)));
+
+        assertNull(swaps.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1L, publisher.getSnapshot().getVersion());
+        assertEquals(2, publisher.getSnapshot().get(REF).getVersion());
+    }
+
+    @Test
+    void lateOlderVersionDoesNotReplaceQueuedNewerOne() throws InterruptedException {
+        SnapshotPublisher publisher = new SnapshotPublisher();
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<List<ConfigDiff>> swaps = new LinkedBlockingQueue<>();
+        publisher.addListener((snapshot, diffs) -> {
+            swaps.add(diffs);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        publisher.publish(REF, config(1, Map.of("a", 1)));
+        assertNotNull(swaps.poll(5, TimeUnit.SECONDS));
+        // Queued while the first swap is still notifying listeners
+        publisher.publish(REF, config(3, Map.of("a", 3)));
+        publisher.publish(REF, config(2, Map.of("a", 2)));
+        release.countDown();
+
+        List<ConfigDiff> diffs = swaps.poll(5, TimeUnit.SECONDS);
+        assertNotNull(diffs);
+        assertEquals(3, diffs.get(0).getCurrent().getVersion());
+        assertEquals(1, diffs.get(0).getPrevious().getVersion());
+        assertNull(swaps.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(3, publisher.getSnapshot().get(REF).getVersion());
+    }
+}